@@ -11,6 +11,7 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.superta.commons.core.Config;
+import seedu.superta.commons.core.EventDispatchMode;
 import seedu.superta.commons.core.EventsCenter;
 import seedu.superta.commons.core.LogsCenter;
 import seedu.superta.commons.core.Version;
@@ -26,12 +27,13 @@ import seedu.superta.model.ReadOnlySuperTaClient;
 import seedu.superta.model.SuperTaClient;
 import seedu.superta.model.UserPrefs;
 import seedu.superta.model.util.SampleDataUtil;
+import seedu.superta.storage.DataFileConverter;
+import seedu.superta.storage.JournaledSuperTaClientStorage;
 import seedu.superta.storage.JsonUserPrefsStorage;
 import seedu.superta.storage.Storage;
 import seedu.superta.storage.StorageManager;
 import seedu.superta.storage.SuperTaClientStorage;
 import seedu.superta.storage.UserPrefsStorage;
-import seedu.superta.storage.XmlSuperTaClientStorage;
 import seedu.superta.ui.Ui;
 import seedu.superta.ui.UiManager;
 
@@ -59,11 +61,12 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        initEventsCenter(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        SuperTaClientStorage superTaClientStorage = new XmlSuperTaClientStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(superTaClientStorage, userPrefsStorage);
+        SuperTaClientStorage superTaClientStorage = initSuperTaClientStorage(userPrefs);
+        storage = new StorageManager(superTaClientStorage, userPrefsStorage, config.getSaveDelayInMillis());
 
         initLogging(config);
 
@@ -73,7 +76,24 @@ public class MainApp extends Application {
 
         ui = new UiManager(logic, config, userPrefs);
 
-        initEventsCenter();
+        EventsCenter.getInstance().registerUiHandler(this);
+    }
+
+    /**
+     * Returns the storage for the data file, in the format and journal mode chosen in {@code userPrefs}.
+     */
+    private SuperTaClientStorage initSuperTaClientStorage(UserPrefs userPrefs) {
+        SuperTaClientStorage superTaClientStorage = DataFileConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getDataFileFormat());
+        switch (userPrefs.getDataJournalMode()) {
+        case APPEND:
+            return new JournaledSuperTaClientStorage(superTaClientStorage, false);
+        case APPEND_AND_SYNC:
+            return new JournaledSuperTaClientStorage(superTaClientStorage, true);
+        case OFF:
+        default:
+            return superTaClientStorage;
+        }
     }
 
     /**
@@ -173,8 +193,14 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
-    private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+    /**
+     * Sets up the {@code EventsCenter} in the dispatch mode chosen in {@code config}.
+     * This must be done before any component registers its event handlers.
+     */
+    private void initEventsCenter(Config config) {
+        if (config.getEventDispatchMode() == EventDispatchMode.ASYNCHRONOUS) {
+            EventsCenter.useAsynchronousDispatch(Platform::runLater);
+        }
     }
 
     @Override
@@ -187,12 +213,17 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        // changes queued for the storage must reach it before it is closed
+        EventsCenter.getInstance().flush();
+        logger.info("Event queues: " + EventsCenter.getInstance());
+        storage.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
         Platform.exit();
+        LogsCenter.close();
         System.exit(0);
     }
 
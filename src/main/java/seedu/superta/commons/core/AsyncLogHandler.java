@@ -0,0 +1,159 @@
+package seedu.superta.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a dedicated writer thread, so that formatting and
+ * writing the records is kept off the threads that log them.
+ *
+ * Records wait for the writer in a bounded ring buffer. When the buffer is full, records below {@code WARNING} are
+ * dropped and counted, and a warning telling how many were dropped is written once the writer catches up; records
+ * at {@code WARNING} or above wait for room instead, so that they are never lost.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final long FLUSH_POLL_INTERVAL_IN_NANOS = 1_000_000;
+
+    private final Handler[] targets;
+    private final ArrayBlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+
+    private final AtomicLong bufferedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong unreportedDroppedCount = new AtomicLong();
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records for {@code targets}, which only this handler
+     * should publish to from then on.
+     */
+    public AsyncLogHandler(int capacity, Handler... targets) {
+        requireNonNull(targets);
+        this.targets = targets.clone();
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeUntilInterrupted, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is looked up from the stack of the logging thread, so it must be done before the hand-off
+        record.getSourceClassName();
+
+        if (buffer.offer(record)) {
+            bufferedCount.incrementAndGet();
+        } else if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            putWaitingForRoom(record);
+        } else {
+            countDropped();
+        }
+    }
+
+    private void putWaitingForRoom(LogRecord record) {
+        try {
+            buffer.put(record);
+            bufferedCount.incrementAndGet();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            countDropped();
+        }
+    }
+
+    private void countDropped() {
+        droppedCount.incrementAndGet();
+        unreportedDroppedCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits until the records published so far have been written, and flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        long target = bufferedCount.get();
+        while (writtenCount.get() < target && writer.isAlive()) {
+            LockSupport.parkNanos(FLUSH_POLL_INTERVAL_IN_NANOS);
+        }
+        for (Handler handler : targets) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Writes the records published so far, then stops the writer and closes the target handlers.
+     * Records published after this are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        flush();
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        // records published while the handler was being closed
+        List<LogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        write(remaining);
+        for (Handler handler : targets) {
+            handler.close();
+        }
+    }
+
+    private void writeUntilInterrupted() {
+        List<LogRecord> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ie) {
+            // closed
+        }
+    }
+
+    private void write(List<LogRecord> records) {
+        long dropped = unreportedDroppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord warning = new LogRecord(Level.WARNING,
+                    dropped + " log records dropped as the log buffer was full");
+            warning.setSourceClassName(AsyncLogHandler.class.getName());
+            warning.setSourceMethodName("write");
+            publishToTargets(warning);
+        }
+        records.forEach(this::publishToTargets);
+        writtenCount.addAndGet(records.size());
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler handler : targets) {
+            handler.publish(record);
+        }
+    }
+}
@@ -11,11 +11,14 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_DELAY_IN_MILLIS = 300;
 
     // Config values customizable through config file
     private String appTitle = "SuperTA";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayInMillis = DEFAULT_SAVE_DELAY_IN_MILLIS;
+    private EventDispatchMode eventDispatchMode = EventDispatchMode.SYNCHRONOUS;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +44,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveDelayInMillis() {
+        return saveDelayInMillis;
+    }
+
+    public void setSaveDelayInMillis(long saveDelayInMillis) {
+        this.saveDelayInMillis = saveDelayInMillis;
+    }
+
+    public EventDispatchMode getEventDispatchMode() {
+        return eventDispatchMode;
+    }
+
+    public void setEventDispatchMode(EventDispatchMode eventDispatchMode) {
+        this.eventDispatchMode = eventDispatchMode;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +73,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveDelayInMillis == o.saveDelayInMillis
+                && Objects.equals(eventDispatchMode, o.eventDispatchMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveDelayInMillis, eventDispatchMode);
     }
 
     @Override
@@ -68,6 +89,8 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave delay : " + saveDelayInMillis + "ms");
+        sb.append("\nEvent dispatch mode : " + eventDispatchMode);
         return sb.toString();
     }
 
@@ -0,0 +1,11 @@
+package seedu.superta.commons.core;
+
+/**
+ * Enumerations for the ways {@code EventsCenter} can deliver events to their handlers.
+ */
+public enum EventDispatchMode {
+    /** Every handler runs on the thread that posts the event, before the post returns. */
+    SYNCHRONOUS,
+    /** UI handlers run on the JavaFX thread and other handlers on a dispatcher thread, after the post returns. */
+    ASYNCHRONOUS
+}
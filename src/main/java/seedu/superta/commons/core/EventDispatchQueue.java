@@ -0,0 +1,116 @@
+package seedu.superta.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.EventBus;
+
+import seedu.superta.commons.events.BaseEvent;
+
+/**
+ * Delivers events to a group of handlers on a given {@code Executor}, and keeps statistics for monitoring.
+ *
+ * Each event is handed to the executor as a single task that runs every handler of the group, so with an executor
+ * that runs its tasks one at a time in the order they were given, the handlers see the events in the order they
+ * were posted.
+ */
+public class EventDispatchQueue {
+    private static final Logger logger = LogsCenter.getLogger(EventDispatchQueue.class);
+
+    private final String name;
+    private final EventBus eventBus;
+    private final Executor executor;
+    private volatile boolean hasHandlers;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong handledCount = new AtomicLong();
+    private final AtomicLong totalHandlingTimeInNanos = new AtomicLong();
+    private final AtomicLong maxHandlingTimeInNanos = new AtomicLong();
+
+    public EventDispatchQueue(String name, Executor executor) {
+        requireNonNull(executor);
+        this.name = name;
+        this.eventBus = new EventBus(name);
+        this.executor = executor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void registerHandler(Object handler) {
+        eventBus.register(handler);
+        hasHandlers = true;
+    }
+
+    /**
+     * Hands {@code event} to the executor, to be delivered to the handlers of this queue.
+     * Nothing is queued while the queue has no handlers.
+     */
+    void post(BaseEvent event) {
+        if (!hasHandlers) {
+            return;
+        }
+        queueDepth.incrementAndGet();
+        try {
+            executor.execute(() -> deliver(event));
+        } catch (RejectedExecutionException ree) {
+            queueDepth.decrementAndGet();
+            logger.warning("Event dropped by the " + name + " queue, which has been shut down: " + event);
+        }
+    }
+
+    private void deliver(BaseEvent event) {
+        long start = System.nanoTime();
+        try {
+            eventBus.post(event);
+        } finally {
+            long handlingTime = System.nanoTime() - start;
+            handledCount.incrementAndGet();
+            totalHandlingTimeInNanos.addAndGet(handlingTime);
+            maxHandlingTimeInNanos.accumulateAndGet(handlingTime, Math::max);
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of events posted to this queue that have not been handled yet, including the event being
+     * handled, if any.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of events handled so far.
+     */
+    public long getHandledCount() {
+        return handledCount.get();
+    }
+
+    /**
+     * Returns the mean time taken by the handlers of this queue to handle an event, or 0 if none was handled.
+     */
+    public long getMeanHandlingTimeInNanos() {
+        long count = handledCount.get();
+        return count == 0 ? 0 : totalHandlingTimeInNanos.get() / count;
+    }
+
+    /**
+     * Returns the longest time taken by the handlers of this queue to handle an event, or 0 if none was handled.
+     */
+    public long getMaxHandlingTimeInNanos() {
+        return maxHandlingTimeInNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d queued, %d handled, mean %.3fms, max %.3fms", name, getQueueDepth(),
+                getHandledCount(), getMeanHandlingTimeInNanos() / 1e6, getMaxHandlingTimeInNanos() / 1e6);
+    }
+}
@@ -1,21 +1,51 @@
 package seedu.superta.commons.core;
 
-import java.util.logging.Logger;
+import static java.util.Objects.requireNonNull;
 
-import com.google.common.eventbus.EventBus;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
 
 import seedu.superta.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * In {@link EventDispatchMode#SYNCHRONOUS} mode, every handler is called on the thread that posts the event, before
+ * {@link #post} returns. In {@link EventDispatchMode#ASYNCHRONOUS} mode, {@link #post} only queues the event: the
+ * handlers registered with {@link #registerUiHandler} are called through the UI executor, and all other handlers
+ * are called on a dedicated dispatcher thread. Either way, the handlers of one queue see the events posted by a
+ * thread in the order they were posted.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final EventDispatchMode mode;
+    private final ExecutorService dispatcher;
+    private volatile Thread dispatcherThread;
+    private final EventDispatchQueue backgroundQueue;
+    private final EventDispatchQueue uiQueue;
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        mode = EventDispatchMode.SYNCHRONOUS;
+        dispatcher = null;
+        // handlers are called inline in registration order, whether they update the UI or not
+        backgroundQueue = new EventDispatchQueue("events", Runnable::run);
+        uiQueue = backgroundQueue;
+    }
+
+    private EventsCenter(Executor uiExecutor) {
+        mode = EventDispatchMode.ASYNCHRONOUS;
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            dispatcherThread = new Thread(runnable, "events-dispatcher");
+            dispatcherThread.setDaemon(true);
+            return dispatcherThread;
+        });
+        backgroundQueue = new EventDispatchQueue("background events", dispatcher);
+        uiQueue = new EventDispatchQueue("UI events", uiExecutor);
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +55,89 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Replaces the events center with one in {@link EventDispatchMode#ASYNCHRONOUS} mode, whose UI handlers are
+     * called through {@code uiExecutor}, which should run its tasks one at a time in the order they were given.
+     * Handlers registered with the previous events center are dropped, so this should be called before any
+     * handler is registered.
+     */
+    public static void useAsynchronousDispatch(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        clearSubscribers();
+        instance = new EventsCenter(uiExecutor);
+    }
+
     public static void clearSubscribers() {
+        if (instance != null && instance.dispatcher != null) {
+            instance.dispatcher.shutdown();
+        }
         instance = null;
     }
 
+    public EventDispatchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Registers {@code handler}, whose handlers do not touch the UI.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        backgroundQueue.registerHandler(handler);
+    }
+
+    /**
+     * Registers {@code handler}, whose handlers update the UI and so must be called on the UI thread.
+     */
+    public void registerUiHandler(Object handler) {
+        uiQueue.registerHandler(handler);
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        backgroundQueue.post(event);
+        if (uiQueue != backgroundQueue) {
+            uiQueue.post(event);
+        }
         return this;
     }
 
+    /**
+     * Waits until the events posted so far have been handled by the handlers that do not touch the UI.
+     * Does nothing in {@link EventDispatchMode#SYNCHRONOUS} mode, or when called by such a handler.
+     */
+    public void flush() {
+        if (dispatcher == null || dispatcher.isShutdown() || Thread.currentThread() == dispatcherThread) {
+            return;
+        }
+        try {
+            dispatcher.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush pending events " + e.getCause());
+        }
+    }
+
+    /**
+     * Returns the queue of events for the handlers that do not touch the UI.
+     * In {@link EventDispatchMode#SYNCHRONOUS} mode, this is the same queue as {@link #getUiQueue()}.
+     */
+    public EventDispatchQueue getBackgroundQueue() {
+        return backgroundQueue;
+    }
+
+    /**
+     * Returns the queue of events for the handlers that update the UI.
+     */
+    public EventDispatchQueue getUiQueue() {
+        return uiQueue;
+    }
+
+    @Override
+    public String toString() {
+        return uiQueue == backgroundQueue ? backgroundQueue.toString() : backgroundQueue + "; " + uiQueue;
+    }
 }
@@ -1,10 +1,15 @@
 package seedu.superta.commons.core;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,39 +21,45 @@ import seedu.superta.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are formatted and written on a background thread by an {@link AsyncLogHandler}, so logging only costs
+ *   the calling thread the creation of the message. Messages that are costly to build should be logged with a
+ *   {@code Supplier}, e.g. {@code logger.info(() -> "..." + event)}, so that they are only built when their level
+ *   is enabled.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 8192;
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
+    // loggers only keep their configuration while they are referenced, so the configured loggers are kept here
+    private static final Set<Logger> configuredLoggers = new HashSet<>();
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The logging level of every logger obtained from this class, before or after this initialization, is changed.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        asyncHandler.setLevel(currentLogLevel);
+        configuredLoggers.forEach(configuredLogger -> configuredLogger.setLevel(currentLogLevel));
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * A logger is only configured the first time it is requested, and the same logger is returned after that.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        if (configuredLoggers.add(logger)) {
+            logger.setUseParentHandlers(false);
+            logger.setLevel(currentLogLevel);
+            logger.addHandler(getAsyncHandler());
+        }
+        return logger;
     }
 
     /**
@@ -62,53 +73,65 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits until the messages logged so far have been written.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static void flush() {
+        getAsyncHandler().flush();
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Writes the messages logged so far and closes the log file. Messages logged after this are ignored.
+     * This is also done by a shutdown hook, so that the messages still buffered when the app exits are not lost.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    public static synchronized void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler shared by all loggers, which writes to the console and, if it can be opened, the log
+     * file. Creates the handler if it is null, and registers a shutdown hook that closes it.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+        List<Handler> targets = new ArrayList<>();
+        targets.add(createConsoleHandler());
+        IOException fileHandlerException = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerException = e;
+        }
+        asyncHandler = new AsyncLogHandler(BUFFER_CAPACITY, targets.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        Runtime.getRuntime().addShutdownHook(new Thread(LogsCenter::close, "log-closer"));
+        if (fileHandlerException != null) {
+            LogRecord warning = new LogRecord(Level.WARNING, "Error adding file handler for logger.");
+            warning.setSourceClassName(LogsCenter.class.getName());
+            warning.setSourceMethodName("getAsyncHandler");
+            asyncHandler.publish(warning);
         }
+        return asyncHandler;
     }
 
     /**
      * Creates a {@code FileHandler} for the log file.
+     * Records are filtered by level before they reach it, so it accepts every level.
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 
@@ -2,14 +2,18 @@ package seedu.superta.commons.events.model;
 
 import seedu.superta.commons.events.BaseEvent;
 import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
 
 /** Indicates the SuperTA client in the model has changed*/
 public class SuperTaClientChangedEvent extends BaseEvent {
 
+    /** A snapshot of the client as it was when the event was raised, which handlers on any thread may read. */
     public final ReadOnlySuperTaClient data;
 
     public SuperTaClientChangedEvent(ReadOnlySuperTaClient data) {
-        this.data = data;
+        // the snapshot is taken here, as the model may only be read on the thread that changes it, and only copies
+        // the parts that changed since the snapshot of the previous event
+        this.data = SuperTaClient.snapshotOf(data);
     }
 
     @Override
@@ -0,0 +1,20 @@
+package seedu.superta.commons.events.model;
+
+import seedu.superta.commons.events.BaseEvent;
+
+/** Indicates the undo history of the SuperTA client in the model has changed*/
+public class UndoHistoryChangedEvent extends BaseEvent {
+
+    public final int depth;
+    public final long sizeInBytes;
+
+    public UndoHistoryChangedEvent(int depth, long sizeInBytes) {
+        this.depth = depth;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "undo depth " + depth + ", estimated size " + sizeInBytes + " bytes";
+    }
+}
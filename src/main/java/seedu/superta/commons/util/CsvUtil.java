@@ -0,0 +1,55 @@
+package seedu.superta.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading comma-separated values.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits one line of a CSV file into its fields, with leading and trailing whitespace trimmed from each field.
+     * A field may be enclosed in double quotes to hold commas, and a doubled quote within quotes stands for a quote.
+     *   <br>examples:<pre>
+     *       splitRow("A0123456A, 12.5") == ["A0123456A", "12.5"]
+     *       splitRow("\"Tan, Alice\",\"say \"\"hi\"\"\"") == ["Tan, Alice", "say \"hi\""]
+     *       splitRow("") == [""]
+     *       </pre>
+     * @param line cannot be null, and must not end in the middle of a quoted field
+     */
+    public static List<String> splitRow(String line) {
+        requireNonNull(line);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
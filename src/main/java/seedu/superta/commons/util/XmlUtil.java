@@ -6,6 +6,10 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -14,9 +18,16 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * The {@code JAXBContext} of each class is created once and cached, as creating it is expensive. Marshallers and
+ * unmarshallers are not thread-safe, so each is used by one call at a time, and returned to a pool for reuse.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -38,10 +49,12 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return ((T) um.unmarshal(file.toFile()));
+        } finally {
+            unmarshallerPools.get(classToConvert).offer(um);
+        }
     }
 
     /**
@@ -52,10 +65,12 @@ public class XmlUtil {
         requireNonNull(stream);
         requireNonNull(classToConvert);
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(stream));
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return ((T) um.unmarshal(stream));
+        } finally {
+            unmarshallerPools.get(classToConvert).offer(um);
+        }
     }
 
     /**
@@ -76,11 +91,49 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = borrowMarshaller(data.getClass());
+        try {
+            m.marshal(data, file.toFile());
+        } finally {
+            marshallerPools.get(data.getClass()).offer(m);
+        }
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * Returns the cached {@code JAXBContext} for {@code type}, creating it if this is the first request for it.
+     */
+    static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existingContext = contexts.putIfAbsent(type, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns an unmarshaller for {@code type} that no other caller is using.
+     * It should be returned to the pool of {@code type} after use.
+     */
+    private static Unmarshaller borrowUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller um = unmarshallerPools.computeIfAbsent(type, key -> new ConcurrentLinkedQueue<>()).poll();
+        return um != null ? um : getContext(type).createUnmarshaller();
+    }
+
+    /**
+     * Returns a marshaller for {@code type} that no other caller is using.
+     * It should be returned to the pool of {@code type} after use.
+     */
+    private static Marshaller borrowMarshaller(Class<?> type) throws JAXBException {
+        Marshaller m = marshallerPools.computeIfAbsent(type, key -> new ConcurrentLinkedQueue<>()).poll();
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        return m;
     }
 
 }
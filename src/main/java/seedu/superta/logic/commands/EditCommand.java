@@ -26,6 +26,7 @@ import seedu.superta.model.student.Name;
 import seedu.superta.model.student.Phone;
 import seedu.superta.model.student.Student;
 import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.exceptions.DuplicateStudentException;
 import seedu.superta.model.tag.Tag;
 
 /**
@@ -93,7 +94,12 @@ public class EditCommand extends Command {
             }
         }
 
-        model.updateStudent(studentToEdit, editedStudent);
+        try {
+            model.updateStudent(studentToEdit, editedStudent);
+        } catch (DuplicateStudentException dse) {
+            // the edited student still has the identity of the student being edited, but also that of another one
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        }
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
         model.commitSuperTaClient();
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedStudent));
@@ -11,10 +11,11 @@ import java.util.function.Predicate;
 import seedu.superta.commons.core.Messages;
 import seedu.superta.logic.CommandHistory;
 import seedu.superta.model.Model;
+import seedu.superta.model.student.StudentTokenIndex;
 
 /**
  * Finds and lists all students in the SuperTA client whose information matched with the entered keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and keywords can match prefixes of words or words with typing errors.
  */
 public class FindCommand extends Command {
 
@@ -27,9 +28,12 @@ public class FindCommand extends Command {
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_STUDENT_ID + "STUDENT-ID]\n"
+            + "End a keyword with " + StudentTokenIndex.PREFIX_WILDCARD + " to match words starting with it, or with "
+            + StudentTokenIndex.SIMILAR_WILDCARD + " to also match names and student IDs with a typing error or two.\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com "
+            + PREFIX_NAME + "Ale* Jonh~";
 
     private final Predicate predicate;
 
@@ -0,0 +1,192 @@
+package seedu.superta.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_ASSIGNMENT_TITLE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_TUTORIAL_GROUP_ID;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.superta.commons.util.CsvUtil;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.logic.commands.exceptions.CommandException;
+import seedu.superta.model.Model;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.UniqueStudentList;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * Command that grades the students of a tutorial group on an assignment from a CSV file of student IDs and marks.
+ * The file is read one row at a time. Rows that cannot be graded are reported and skipped, and the other rows are
+ * added by a single change to the model, so the import is undone and saved as one change however many rows it has.
+ */
+public class ImportGradesCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-grades";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Grades students on an assignment from a CSV file.\n"
+        + "Each row of the file holds a student ID and the marks of that student, and a header row is allowed.\n"
+        + " Parameters: "
+        + PREFIX_GENERAL_TUTORIAL_GROUP_ID + "TUTORIAL-GROUP-ID "
+        + PREFIX_GENERAL_ASSIGNMENT_TITLE + "ASSIGNMENT-TITLE "
+        + PREFIX_FILE + "FILE-PATH\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_GENERAL_TUTORIAL_GROUP_ID + "1 "
+        + PREFIX_GENERAL_ASSIGNMENT_TITLE + "Lab 1 "
+        + PREFIX_FILE + "lab1.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d grades imported.";
+    public static final String MESSAGE_NOTHING_TO_IMPORT = "No grades imported.";
+    public static final String MESSAGE_ROWS_REJECTED = "%1$d rows rejected:";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_INVALID_TUTORIAL_GROUP = "No such tutorial group.";
+    public static final String MESSAGE_INVALID_ASSIGNMENT = "No such assignment in the tutorial group.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s.";
+
+    public static final String MESSAGE_INVALID_ROW = "expected a student ID and marks.";
+    public static final String MESSAGE_INVALID_STUDENT_ID = "invalid student ID.";
+    public static final String MESSAGE_STUDENT_NOT_IN_GROUP = "student is not in the tutorial group.";
+    public static final String MESSAGE_INVALID_MARKS = "marks should be a number from 0 to %1$s.";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "student is already graded on line %1$d.";
+
+    private final String tgId;
+    private final Title asId;
+    private final Path filePath;
+
+    public ImportGradesCommand(String tgId, Title asId, Path filePath) {
+        requireAllNonNull(tgId, asId, filePath);
+        this.tgId = tgId;
+        this.asId = asId;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        Optional<TutorialGroup> tutorialGroup = model.getTutorialGroup(tgId);
+        if (!tutorialGroup.isPresent()) {
+            throw new CommandException(MESSAGE_INVALID_TUTORIAL_GROUP);
+        }
+        Optional<Assignment> assignment = tutorialGroup.get().getAssignment(asId);
+        if (!assignment.isPresent()) {
+            throw new CommandException(MESSAGE_INVALID_ASSIGNMENT);
+        }
+
+        UniqueStudentList students = tutorialGroup.get().getStudents();
+        double maxMarks = assignment.get().getMaxMarks();
+        Map<StudentId, Double> marks = new LinkedHashMap<>();
+        Map<StudentId, Integer> lineNumbers = new HashMap<>();
+        List<String> rejectedRows = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                List<String> fields = CsvUtil.splitRow(line);
+                if (lineNumber == 1 && isHeader(fields)) {
+                    continue;
+                }
+
+                String rejection = findRejection(fields, students, maxMarks, lineNumbers);
+                if (rejection != null) {
+                    rejectedRows.add(String.format(MESSAGE_REJECTED_ROW, lineNumber, rejection));
+                    continue;
+                }
+                StudentId studentId = StudentId.of(fields.get(0));
+                marks.put(studentId, parseMarks(fields));
+                lineNumbers.put(studentId, lineNumber);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath));
+        }
+
+        if (marks.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_IMPORT + describeRejectedRows(rejectedRows));
+        }
+        model.gradeAll(tgId, asId, marks);
+        model.commitSuperTaClient();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, marks.size()) + describeRejectedRows(rejectedRows));
+    }
+
+    /**
+     * Returns the reason why the row made of {@code fields} cannot be imported, or null if it can.
+     * Students are looked up in {@code students} and in {@code lineNumbers}, the rows imported so far, by their IDs.
+     */
+    private static String findRejection(List<String> fields, UniqueStudentList students, double maxMarks,
+                                        Map<StudentId, Integer> lineNumbers) {
+        if (fields.size() != 2) {
+            return MESSAGE_INVALID_ROW;
+        }
+        if (!StudentId.isValidStudentId(fields.get(0))) {
+            return MESSAGE_INVALID_STUDENT_ID;
+        }
+        StudentId studentId = StudentId.of(fields.get(0));
+        if (!students.containsId(studentId)) {
+            return MESSAGE_STUDENT_NOT_IN_GROUP;
+        }
+        Double marks = parseMarks(fields);
+        if (marks == null || !(marks >= 0 && marks <= maxMarks)) {
+            return String.format(MESSAGE_INVALID_MARKS, maxMarks);
+        }
+        if (lineNumbers.containsKey(studentId)) {
+            return String.format(MESSAGE_DUPLICATE_STUDENT, lineNumbers.get(studentId));
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code fields} look like a header row, that is a row whose marks are not a number.
+     */
+    private static boolean isHeader(List<String> fields) {
+        return fields.size() == 2 && !StudentId.isValidStudentId(fields.get(0)) && parseMarks(fields) == null;
+    }
+
+    /**
+     * Returns the marks in the second of {@code fields}, or null if there is no such field or it is not a number.
+     */
+    private static Double parseMarks(List<String> fields) {
+        if (fields.size() < 2) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(fields.get(1));
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    private static String describeRejectedRows(List<String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return "";
+        }
+        return "\n" + String.format(MESSAGE_ROWS_REJECTED, rejectedRows.size()) + "\n"
+                + String.join("\n", rejectedRows);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportGradesCommand // instanceof handles nulls
+                && tgId.equals(((ImportGradesCommand) other).tgId)
+                && asId.equals(((ImportGradesCommand) other).asId)
+                && filePath.equals(((ImportGradesCommand) other).filePath));
+    }
+}
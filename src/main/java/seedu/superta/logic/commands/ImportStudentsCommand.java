@@ -0,0 +1,249 @@
+package seedu.superta.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.superta.commons.util.CsvUtil;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.logic.commands.exceptions.CommandException;
+import seedu.superta.model.Model;
+import seedu.superta.model.student.Email;
+import seedu.superta.model.student.Name;
+import seedu.superta.model.student.Phone;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+
+/**
+ * Command that adds the students in a CSV file, and enrols them into tutorial groups if the file says so.
+ *
+ * The file is read in batches of rows. The rows of a batch are parsed and validated in parallel, and then checked
+ * one by one, in file order, against the existing students and the students of earlier rows, by hashed lookups of
+ * their IDs and identities. The next batch is only read once a batch is done, so at most one batch of rows is held
+ * besides the students to be added. Rows that cannot be imported are reported and skipped, and the other rows are
+ * added by a single change to the model, so the import is undone and saved as one change however many rows it has.
+ */
+public class ImportStudentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students in a CSV file.\n"
+        + "Each row of the file holds the name, phone number, email and student ID of a student, and optionally the ID"
+        + " of a tutorial group to enrol the student into. A header row is allowed.\n"
+        + " Parameters: "
+        + PREFIX_FILE + "FILE-PATH\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_FILE + "roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d students imported, %2$d of them into tutorial groups.";
+    public static final String MESSAGE_NOTHING_TO_IMPORT = "No students imported.";
+    public static final String MESSAGE_ROWS_REJECTED = "%1$d rows rejected:";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s.";
+
+    public static final String MESSAGE_INVALID_ROW =
+            "expected a name, phone number, email, student ID and optionally a tutorial group ID.";
+    public static final String MESSAGE_INVALID_NAME = "invalid name.";
+    public static final String MESSAGE_INVALID_PHONE = "invalid phone number.";
+    public static final String MESSAGE_INVALID_EMAIL = "invalid email.";
+    public static final String MESSAGE_INVALID_STUDENT_ID = "invalid student ID.";
+    public static final String MESSAGE_INVALID_TUTORIAL_GROUP = "no such tutorial group.";
+    public static final String MESSAGE_EXISTING_STUDENT = "student already exists.";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "same student as on line %1$d.";
+
+    /** Number of rows read from the file and validated together. */
+    static final int BATCH_SIZE = 1024;
+
+    private static final int NAME_FIELD = 0;
+    private static final int PHONE_FIELD = 1;
+    private static final int EMAIL_FIELD = 2;
+    private static final int STUDENT_ID_FIELD = 3;
+    private static final int TUTORIAL_GROUP_FIELD = 4;
+
+    private final Path filePath;
+
+    public ImportStudentsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        ImportedStudents result = new ImportedStudents(model);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                batch.add(new Row(lineNumber, line));
+                if (batch.size() == BATCH_SIZE) {
+                    result.addBatch(batch);
+                    batch.clear();
+                }
+            }
+            result.addBatch(batch);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath));
+        }
+
+        if (result.students.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_IMPORT + describeRejectedRows(result.rejectedRows));
+        }
+        model.importStudents(result.students, result.enrolments);
+        model.commitSuperTaClient();
+        int enrolledCount = result.enrolments.values().stream().mapToInt(List::size).sum();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, result.students.size(), enrolledCount)
+                + describeRejectedRows(result.rejectedRows));
+    }
+
+    private static String describeRejectedRows(List<String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return "";
+        }
+        return "\n" + String.format(MESSAGE_ROWS_REJECTED, rejectedRows.size()) + "\n"
+                + String.join("\n", rejectedRows);
+    }
+
+    /**
+     * The students to be added by an import, and the rows rejected so far.
+     */
+    private static class ImportedStudents {
+        private final Model model;
+        private final List<Student> students = new ArrayList<>();
+        private final Map<String, List<StudentId>> enrolments = new LinkedHashMap<>();
+        private final List<String> rejectedRows = new ArrayList<>();
+
+        // line numbers of the students to be added, by ID and by (name, phone) and (name, email) pairs
+        private final Map<StudentId, Integer> lineNumbersById = new HashMap<>();
+        private final Map<List<Object>, Integer> lineNumbersByNameWithPhone = new HashMap<>();
+        private final Map<List<Object>, Integer> lineNumbersByNameWithEmail = new HashMap<>();
+
+        ImportedStudents(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Validates the rows of {@code batch}, and records the students of the valid rows and the reasons for
+         * rejecting the others.
+         */
+        void addBatch(List<Row> batch) {
+            batch.parallelStream().forEach(Row::parse);
+            for (Row row : batch) {
+                if (row.isHeader) {
+                    continue;
+                }
+                String rejection = row.rejection != null ? row.rejection : findDuplicate(row);
+                if (rejection != null) {
+                    rejectedRows.add(String.format(MESSAGE_REJECTED_ROW, row.lineNumber, rejection));
+                    continue;
+                }
+
+                Student student = row.student;
+                students.add(student);
+                lineNumbersById.put(student.getStudentId(), row.lineNumber);
+                lineNumbersByNameWithPhone.put(List.of(student.getName(), student.getPhone()), row.lineNumber);
+                lineNumbersByNameWithEmail.put(List.of(student.getName(), student.getEmail()), row.lineNumber);
+                if (row.tgId != null) {
+                    enrolments.computeIfAbsent(row.tgId, unused -> new ArrayList<>()).add(student.getStudentId());
+                }
+            }
+        }
+
+        /**
+         * Returns the reason why the student of the valid {@code row} cannot be added alongside the existing students
+         * and the students of earlier rows, or null if it can.
+         */
+        private String findDuplicate(Row row) {
+            Student student = row.student;
+            if (model.hasStudent(student) || model.hasStudentWithIdentity(student)) {
+                return MESSAGE_EXISTING_STUDENT;
+            }
+            Integer earlierLineNumber = lineNumbersById.get(student.getStudentId());
+            if (earlierLineNumber == null) {
+                earlierLineNumber = lineNumbersByNameWithPhone.get(List.of(student.getName(), student.getPhone()));
+            }
+            if (earlierLineNumber == null) {
+                earlierLineNumber = lineNumbersByNameWithEmail.get(List.of(student.getName(), student.getEmail()));
+            }
+            if (earlierLineNumber != null) {
+                return String.format(MESSAGE_DUPLICATE_STUDENT, earlierLineNumber);
+            }
+            if (row.tgId != null && !model.hasTutorialGroup(row.tgId)) {
+                return MESSAGE_INVALID_TUTORIAL_GROUP;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A row of the file, which holds either a valid student or the reason why the row cannot be imported once it
+     * is parsed.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String line;
+        private boolean isHeader;
+        private Student student;
+        private String tgId;
+        private String rejection;
+
+        Row(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        /**
+         * Parses and validates the fields of this row on their own.
+         * Rows are parsed in parallel, so this must not look at anything but the row itself.
+         */
+        void parse() {
+            List<String> fields = CsvUtil.splitRow(line);
+            if (fields.size() != TUTORIAL_GROUP_FIELD && fields.size() != TUTORIAL_GROUP_FIELD + 1) {
+                rejection = MESSAGE_INVALID_ROW;
+            } else if (!Name.isValidName(fields.get(NAME_FIELD))) {
+                rejection = MESSAGE_INVALID_NAME;
+            } else if (!Phone.isValidPhone(fields.get(PHONE_FIELD))) {
+                rejection = MESSAGE_INVALID_PHONE;
+            } else if (!Email.isValidEmail(fields.get(EMAIL_FIELD))) {
+                rejection = MESSAGE_INVALID_EMAIL;
+            } else if (!StudentId.isValidStudentId(fields.get(STUDENT_ID_FIELD))) {
+                rejection = MESSAGE_INVALID_STUDENT_ID;
+            } else {
+                student = new Student(new Name(fields.get(NAME_FIELD)), new Phone(fields.get(PHONE_FIELD)),
+                        new Email(fields.get(EMAIL_FIELD)), StudentId.of(fields.get(STUDENT_ID_FIELD)),
+                        new HashSet<>(), new ArrayList<>());
+                if (fields.size() > TUTORIAL_GROUP_FIELD && !fields.get(TUTORIAL_GROUP_FIELD).isEmpty()) {
+                    tgId = fields.get(TUTORIAL_GROUP_FIELD);
+                }
+            }
+            // a first row that has neither a phone number nor a student ID where they belong is taken as a header
+            isHeader = lineNumber == 1 && fields.size() > STUDENT_ID_FIELD
+                    && !Phone.isValidPhone(fields.get(PHONE_FIELD))
+                    && !StudentId.isValidStudentId(fields.get(STUDENT_ID_FIELD));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportStudentsCommand // instanceof handles nulls
+                && filePath.equals(((ImportStudentsCommand) other).filePath));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.superta.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_ID;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_TUTORIAL_GROUP_ID;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_SESSION_NAME;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.logic.commands.exceptions.CommandException;
+import seedu.superta.model.Model;
+import seedu.superta.model.attendance.Attendance;
+import seedu.superta.model.attendance.Presence;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.UniqueStudentList;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * Command that marks the attendance of every student in a tutorial group, except those given.
+ * Students whose attendance is already marked are left as they are. All the students are marked by a single
+ * change to the model, so the command is undone, reported and saved as one change however many students it covers.
+ */
+public class MarkAllAttendanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "mark-all-attendance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks attendance of all students in a tutorial group,"
+        + " except the given students.\n"
+        + " Parameters: "
+        + PREFIX_GENERAL_TUTORIAL_GROUP_ID + "TUTORIAL-GROUP-ID "
+        + PREFIX_SESSION_NAME + "SESSION-NAME "
+        + "[" + PREFIX_EXCLUDED_STUDENT_ID + "EXCLUDED-STUDENT-ID]...\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_GENERAL_TUTORIAL_GROUP_ID + "1 "
+        + PREFIX_SESSION_NAME + "W4 Tutorial "
+        + PREFIX_EXCLUDED_STUDENT_ID + "A1234567T";
+
+    public static final String MESSAGE_SUCCESS = "Attendance of %1$d students marked as present.";
+    public static final String MESSAGE_INVALID_TUTORIAL_GROUP = "No such tutorial group.";
+    public static final String MESSAGE_INVALID_SESSION = "No such session in the tutorial group.";
+    public static final String MESSAGE_INVALID_STUDENTS = "Excluded students not found in tutorial group.";
+    public static final String MESSAGE_NOTHING_TO_MARK = "There are no students whose attendance is not yet marked.";
+
+    private final String tgId;
+    private final Session sessionName;
+    private final Set<StudentId> excludedIds;
+
+    public MarkAllAttendanceCommand(String tutorialGroupId, Session session, Set<StudentId> excludedIds) {
+        requireAllNonNull(tutorialGroupId, session, excludedIds);
+        this.tgId = tutorialGroupId;
+        this.sessionName = session;
+        this.excludedIds = excludedIds;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        Optional<TutorialGroup> tutorialGroup = model.getTutorialGroup(tgId);
+        if (!tutorialGroup.isPresent()) {
+            throw new CommandException(MESSAGE_INVALID_TUTORIAL_GROUP);
+        }
+        Optional<Session> session = tutorialGroup.get().getSession(sessionName);
+        if (!session.isPresent()) {
+            throw new CommandException(MESSAGE_INVALID_SESSION);
+        }
+        UniqueStudentList students = tutorialGroup.get().getStudents();
+        if (!excludedIds.stream().allMatch(students::containsId)) {
+            throw new CommandException(MESSAGE_INVALID_STUDENTS);
+        }
+
+        Set<StudentId> toMark = new HashSet<>();
+        for (Student student : students) {
+            StudentId studentId = student.getStudentId();
+            if (!excludedIds.contains(studentId)
+                    && !session.get().contains(new Attendance(studentId, Presence.PRESENT))) {
+                toMark.add(studentId);
+            }
+        }
+        if (toMark.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_MARK);
+        }
+
+        model.markAttendance(tgId, sessionName, toMark);
+        model.commitSuperTaClient();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toMark.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MarkAllAttendanceCommand // instanceof handles nulls
+                && tgId.equals(((MarkAllAttendanceCommand) other).tgId)
+                && sessionName.equals(((MarkAllAttendanceCommand) other).sessionName)
+                && excludedIds.equals(((MarkAllAttendanceCommand) other).excludedIds));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.superta.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.logic.commands.exceptions.CommandException;
+import seedu.superta.logic.parser.SuperTaClientParser;
+import seedu.superta.logic.parser.exceptions.ParseException;
+import seedu.superta.model.Model;
+
+/**
+ * Command that runs the commands in a script file, one per line, as a single change to the model.
+ *
+ * Every line is parsed before any of them is run. The commands are then run in a transaction of the model, so the
+ * commits they make are skipped and the changes they make are only saved and announced once, when the last command
+ * is done. If a command fails, the changes made by the commands before it are rolled back, and the script changes
+ * nothing. Blank lines and lines starting with {@code #} are skipped.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file as a single"
+        + " command. If one of the commands fails, none of them take effect.\n"
+        + "Each line of the file holds one command. Blank lines and lines starting with # are skipped.\n"
+        + " Parameters: "
+        + PREFIX_FILE + "FILE-PATH\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_FILE + "week3.txt";
+
+    public static final String MESSAGE_SUCCESS = "%1$d commands run.";
+    public static final String MESSAGE_NOTHING_TO_RUN = "The script has no commands.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s\nThe script made no changes.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s.";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final Path filePath;
+
+    public RunScriptCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        List<ScriptLine> script = parseScript();
+        if (script.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_RUN);
+        }
+
+        model.startTransaction();
+        try {
+            for (ScriptLine line : script) {
+                try {
+                    line.command.execute(model, history);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_FAILED_LINE, line.lineNumber, ce.getMessage()));
+                }
+            }
+            model.commitTransaction();
+        } finally {
+            if (model.isInTransaction()) {
+                model.rollbackTransaction();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, script.size()));
+    }
+
+    /**
+     * Reads and parses the commands of the script.
+     * @throws CommandException if the file cannot be read, or a line is not a command that can be run in a script.
+     */
+    private List<ScriptLine> parseScript() throws CommandException {
+        SuperTaClientParser parser = new SuperTaClientParser();
+        List<ScriptLine> script = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                script.add(new ScriptLine(lineNumber, parseLine(parser, lineNumber, commandText)));
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath));
+        }
+        return script;
+    }
+
+    /**
+     * Parses {@code commandText}, the command on line {@code lineNumber} of the script.
+     * Commands that act on the history or the app itself cannot be run in a script, as they would act on what
+     * came before the script rather than on the script.
+     */
+    private static Command parseLine(SuperTaClientParser parser, int lineNumber, String commandText)
+            throws CommandException {
+        Command command;
+        try {
+            command = parser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_FAILED_LINE, lineNumber, pe.getMessage()));
+        }
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof ExitCommand
+                || command instanceof RunScriptCommand) {
+            String commandWord = commandText.split("\\s+", 2)[0];
+            throw new CommandException(String.format(MESSAGE_FAILED_LINE, lineNumber,
+                    String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord)));
+        }
+        return command;
+    }
+
+    /**
+     * A command of the script, with the line it is on.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        ScriptLine(int lineNumber, Command command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && filePath.equals(((RunScriptCommand) other).filePath));
+    }
+}
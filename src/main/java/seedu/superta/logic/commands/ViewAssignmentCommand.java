@@ -61,6 +61,9 @@ public class ViewAssignmentCommand extends Command {
         details.append("Maximum Marks: " + assignment.getMaxMarks() + "\n");
         details.append("Average: " + String.format("%.2f\n", assignment.getAverage()));
         details.append("Median: " + String.format("%.2f\n", assignment.getMedian()));
+        details.append("Standard deviation: " + String.format("%.2f\n", assignment.getStandardDeviation()));
+        details.append("Lowest: " + String.format("%.2f\n", assignment.getMin()));
+        details.append("Highest: " + String.format("%.2f\n", assignment.getMax()));
         details.append("Projected difficulty: " + String.format("%.2f\n", assignment.getProjectedDifficulty()));
         details.append("Grade book: \n");
         assignment.getGradebook().stream().forEach(
@@ -15,6 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TUTORIAL_GROUP_ID = new Prefix("id/");
     public static final Prefix PREFIX_GENERAL_TUTORIAL_GROUP_ID = new Prefix("tg/");
     public static final Prefix PREFIX_GENERAL_STUDENT_ID = new Prefix("st/");
+    public static final Prefix PREFIX_EXCLUDED_STUDENT_ID = new Prefix("ex/");
     public static final Prefix PREFIX_GENERAL_ASSIGNMENT_TITLE = new Prefix("as/");
     public static final Prefix PREFIX_GENERAL_NEW_ASSIGNMENT_TITLE = new Prefix("new_as/");
     public static final Prefix PREFIX_ASSIGNMENT_TITLE = new Prefix("n/");
@@ -23,4 +24,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_ASSIGNMENT_NEW_MAX_MARKS = new Prefix("new_m/");
     public static final Prefix PREFIX_FEEDBACK = new Prefix("f/");
     public static final Prefix PREFIX_SESSION_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_FILE = new Prefix("file/");
 }
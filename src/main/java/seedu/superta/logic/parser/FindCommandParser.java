@@ -13,10 +13,7 @@ import java.util.List;
 
 import seedu.superta.logic.commands.FindCommand;
 import seedu.superta.logic.parser.exceptions.ParseException;
-import seedu.superta.model.student.EmailContainsKeywordsPredicate;
-import seedu.superta.model.student.NameContainsKeywordsPredicate;
-import seedu.superta.model.student.PhoneContainsKeywordsPredicate;
-import seedu.superta.model.student.StudentidContainsKeywordsPredicate;
+import seedu.superta.model.student.StudentContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -72,10 +69,8 @@ public class FindCommandParser implements Parser<FindCommand> {
             studentidField = Arrays.asList(studentIdKeywords);
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(nameField)
-                               .or(new PhoneContainsKeywordsPredicate(phoneField))
-                               .or(new EmailContainsKeywordsPredicate(emailField))
-                               .or(new StudentidContainsKeywordsPredicate(studentidField)));
+        return new FindCommand(new StudentContainsKeywordsPredicate(nameField, phoneField, emailField,
+                                                                    studentidField));
     }
 
 }
@@ -0,0 +1,51 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_ASSIGNMENT_TITLE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_TUTORIAL_GROUP_ID;
+import static seedu.superta.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.nio.file.Path;
+
+import seedu.superta.logic.commands.ImportGradesCommand;
+import seedu.superta.logic.parser.exceptions.ParseException;
+import seedu.superta.model.assignment.Title;
+
+/**
+ * Parser for the import-grades command.
+ */
+public class ImportGradesCommandParser implements Parser<ImportGradesCommand> {
+
+    @Override
+    public ImportGradesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMap = ArgumentTokenizer.tokenize(
+            args,
+            PREFIX_GENERAL_TUTORIAL_GROUP_ID,
+            PREFIX_GENERAL_ASSIGNMENT_TITLE,
+            PREFIX_FILE
+        );
+
+        if (!arePrefixesPresent(
+            argMap,
+            PREFIX_GENERAL_TUTORIAL_GROUP_ID,
+            PREFIX_GENERAL_ASSIGNMENT_TITLE,
+            PREFIX_FILE
+        ) || !argMap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, ImportGradesCommand.MESSAGE_USAGE));
+        }
+
+        String tgId = ParserUtil.parseTutorialGroupId(
+            argMap.getValue(PREFIX_GENERAL_TUTORIAL_GROUP_ID).get()
+        );
+        Title asId = ParserUtil.parseTitle(
+            argMap.getValue(PREFIX_GENERAL_ASSIGNMENT_TITLE).get()
+        );
+        Path filePath = ParserUtil.parseFilePath(
+            argMap.getValue(PREFIX_FILE).get()
+        );
+
+        return new ImportGradesCommand(tgId, asId, filePath);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.nio.file.Path;
+
+import seedu.superta.logic.commands.RunScriptCommand;
+import seedu.superta.logic.parser.exceptions.ParseException;
+
+/**
+ * Parser for the run-script command.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    @Override
+    public RunScriptCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        if (!arePrefixesPresent(argMap, PREFIX_FILE) || !argMap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = ParserUtil.parseFilePath(argMap.getValue(PREFIX_FILE).get());
+        return new RunScriptCommand(filePath);
+    }
+}
@@ -23,11 +23,15 @@ import seedu.superta.logic.commands.FindCommand;
 import seedu.superta.logic.commands.GradeAssignmentCommand;
 import seedu.superta.logic.commands.HelpCommand;
 import seedu.superta.logic.commands.HistoryCommand;
+import seedu.superta.logic.commands.ImportGradesCommand;
+import seedu.superta.logic.commands.ImportStudentsCommand;
 import seedu.superta.logic.commands.ListCommand;
 import seedu.superta.logic.commands.ListTutorialGroupsCommand;
+import seedu.superta.logic.commands.MarkAllAttendanceCommand;
 import seedu.superta.logic.commands.MarkAttendanceCommand;
 import seedu.superta.logic.commands.RedoCommand;
 import seedu.superta.logic.commands.RemoveStudentFromTutorialGroupCommand;
+import seedu.superta.logic.commands.RunScriptCommand;
 import seedu.superta.logic.commands.SelectCommand;
 import seedu.superta.logic.commands.UndoCommand;
 import seedu.superta.logic.commands.UpdateAssignmentCommand;
@@ -117,6 +121,18 @@ public class SuperTaClientParser {
         case MarkAttendanceCommand.COMMAND_WORD:
             return new MarkAttendanceCommandParser().parse(arguments);
 
+        case MarkAllAttendanceCommand.COMMAND_WORD:
+            return new MarkAllAttendanceCommandParser().parse(arguments);
+
+        case ImportGradesCommand.COMMAND_WORD:
+            return new ImportGradesCommandParser().parse(arguments);
+
+        case ImportStudentsCommand.COMMAND_WORD:
+            return new ImportStudentsCommandParser().parse(arguments);
+
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
         case ViewSessionCommand.COMMAND_WORD:
             return new ViewSessionCommandParser().parse(arguments);
 
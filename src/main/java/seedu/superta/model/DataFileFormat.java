@@ -0,0 +1,13 @@
+package seedu.superta.model;
+
+/**
+ * Enumerations for the formats the SuperTA data file can be stored in.
+ */
+public enum DataFileFormat {
+    /** The human-readable xml format. */
+    XML,
+    /** The compact binary snapshot format, which is faster to load and save. */
+    BINARY,
+    /** The xml format, split into a roster file and one file per tutorial group, which are only saved if changed. */
+    SHARDED_XML
+}
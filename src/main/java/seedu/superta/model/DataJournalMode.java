@@ -0,0 +1,13 @@
+package seedu.superta.model;
+
+/**
+ * Enumerations for the ways changes to the SuperTA data can be written to disk.
+ */
+public enum DataJournalMode {
+    /** Every save rewrites the whole data file. */
+    OFF,
+    /** Every save appends the changes to a journal next to the data file, which is compacted into it later. */
+    APPEND,
+    /** As {@link #APPEND}, but every change is also forced to disk before the save completes. */
+    APPEND_AND_SYNC
+}
@@ -1,6 +1,7 @@
 package seedu.superta.model;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -50,6 +51,14 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students and enrols them into tutorial groups as a single change.
+     * {@code enrolments} maps the ID of each tutorial group to the IDs of the students to enrol into it.
+     * None of {@code students} may already exist in the SuperTA client, and every tutorial group in
+     * {@code enrolments} must exist.
+     */
+    void importStudents(List<Student> students, Map<String, List<StudentId>> enrolments);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the SuperTA client.
@@ -103,6 +112,12 @@ public interface Model {
      */
     void grade(Grade grade);
 
+    /**
+     * Grades many students on an assignment of a tutorial group at once, as a single change.
+     * Either all of {@code marks} are added or none are.
+     */
+    void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks);
+
     /**
      * Creates the given attendance session to the tutorial group.
      */
@@ -177,6 +192,31 @@ public interface Model {
 
     /**
      * Saves the current SuperTA client state for undo/redo.
+     * Within a transaction, this does nothing, and the state is saved when the transaction is committed instead.
      */
     void commitSuperTaClient();
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, the changes made to the model are neither saved
+     * for undo/redo nor announced to the rest of the app.
+     * @throws IllegalStateException if a transaction has already been started.
+     */
+    void startTransaction();
+
+    /**
+     * Ends the transaction, and saves and announces the changes made during it as a single change.
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction, and reverts every change made during it.
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction has been started and not yet ended.
+     */
+    boolean isInTransaction();
 }
@@ -3,7 +3,11 @@ package seedu.superta.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -15,6 +19,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.superta.commons.core.ComponentManager;
 import seedu.superta.commons.core.LogsCenter;
 import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.commons.events.model.UndoHistoryChangedEvent;
 import seedu.superta.commons.events.ui.StateEvent;
 import seedu.superta.model.assignment.Assignment;
 import seedu.superta.model.assignment.Grade;
@@ -27,6 +32,7 @@ import seedu.superta.model.attendance.Session;
 
 import seedu.superta.model.student.Feedback;
 import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentContainsKeywordsPredicate;
 import seedu.superta.model.student.StudentId;
 import seedu.superta.model.student.exceptions.StudentNotFoundException;
 import seedu.superta.model.tutorialgroup.TutorialGroup;
@@ -42,6 +48,9 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<TutorialGroup> tutorialGroups;
 
+    private boolean isInTransaction;
+    private boolean hasChangedInTransaction;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -49,9 +58,10 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedSuperTaClient = new VersionedSuperTaClient(addressBook);
+        versionedSuperTaClient = new VersionedSuperTaClient(addressBook, userPrefs.getUndoHistoryMode(),
+                userPrefs.getUndoHistoryMaxDepth(), userPrefs.getUndoHistoryBudgetInBytes());
         filteredStudents = new FilteredList<>(versionedSuperTaClient.getStudentList());
 
         tutorialGroups = new FilteredList<>(versionedSuperTaClient.getTutorialGroupList());
@@ -72,12 +82,22 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedSuperTaClient;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, or holds it back until the end of the transaction */
     private void indicateSuperTaClientChanged() {
+        if (isInTransaction) {
+            hasChangedInTransaction = true;
+            return;
+        }
         raise(new SuperTaClientChangedEvent(versionedSuperTaClient));
         raise(new StateEvent(versionedSuperTaClient));
     }
 
+    /** Raises an event to indicate the undo history has changed */
+    private void indicateUndoHistoryChanged() {
+        raise(new UndoHistoryChangedEvent(versionedSuperTaClient.getUndoDepth(),
+                versionedSuperTaClient.getHistorySizeInBytes()));
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
@@ -103,6 +123,34 @@ public class ModelManager extends ComponentManager implements Model {
         indicateSuperTaClientChanged();
     }
 
+    @Override
+    public void importStudents(List<Student> students, Map<String, List<StudentId>> enrolments) {
+        requireAllNonNull(students, enrolments);
+        if (!enrolments.keySet().stream().allMatch(versionedSuperTaClient::hasTutorialGroup)) {
+            throw new TutorialGroupNotFoundException();
+        }
+
+        // every enrolment is resolved before anything is changed, so that an unknown student changes nothing
+        Map<StudentId, Student> importedStudents = new HashMap<>();
+        students.forEach(student -> importedStudents.putIfAbsent(student.getStudentId(), student));
+        Map<String, List<Student>> enrolledStudents = new LinkedHashMap<>();
+        enrolments.forEach((tgId, studentIds) -> {
+            List<Student> enrolled = new ArrayList<>();
+            for (StudentId studentId : studentIds) {
+                enrolled.add(versionedSuperTaClient.getStudentWithId(studentId)
+                        .or(() -> Optional.ofNullable(importedStudents.get(studentId)))
+                        .orElseThrow(StudentNotFoundException::new));
+            }
+            enrolledStudents.put(tgId, enrolled);
+        });
+
+        versionedSuperTaClient.addStudents(students);
+        enrolledStudents.forEach((tgId, enrolled) -> versionedSuperTaClient.addStudentsToTutorialGroup(
+                versionedSuperTaClient.getTutorialGroup(tgId).get(), enrolled));
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateSuperTaClientChanged();
+    }
+
     @Override
     public void updateStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
@@ -217,7 +265,7 @@ public class ModelManager extends ComponentManager implements Model {
         }
         TutorialGroup t = tg.get();
 
-        Optional<Assignment> ass = t.getAssignment(new Title(assignment));
+        Optional<Assignment> ass = t.getAssignment(Title.of(assignment));
         if (!ass.isPresent()) {
             throw new AssignmentNotFoundException();
         }
@@ -233,6 +281,12 @@ public class ModelManager extends ComponentManager implements Model {
         indicateSuperTaClientChanged();
     }
 
+    @Override
+    public void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks) {
+        versionedSuperTaClient.gradeAll(tgId, asId, marks);
+        indicateSuperTaClientChanged();
+    }
+
     @Override
     public void createAttendance(String tgId, Session session) {
         Optional<TutorialGroup> tg = versionedSuperTaClient.getTutorialGroup(tgId);
@@ -296,6 +350,12 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof StudentContainsKeywordsPredicate) {
+            // find the matching students through the index, instead of testing every student
+            filteredStudents.setPredicate(((StudentContainsKeywordsPredicate) predicate)
+                    .using(versionedSuperTaClient.getStudentTokenIndex()));
+            return;
+        }
         filteredStudents.setPredicate(predicate);
     }
 
@@ -315,17 +375,68 @@ public class ModelManager extends ComponentManager implements Model {
     public void undoSuperTaClient() {
         versionedSuperTaClient.undo();
         indicateSuperTaClientChanged();
+        indicateUndoHistoryChanged();
     }
 
     @Override
     public void redoSuperTaClient() {
         versionedSuperTaClient.redo();
         indicateSuperTaClientChanged();
+        indicateUndoHistoryChanged();
     }
 
     @Override
     public void commitSuperTaClient() {
+        if (isInTransaction) {
+            return;
+        }
         versionedSuperTaClient.commit();
+        indicateUndoHistoryChanged();
+    }
+
+    //=========== Transactions ==============================================================================
+
+    @Override
+    public void startTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction has already been started.");
+        }
+        isInTransaction = true;
+        hasChangedInTransaction = false;
+    }
+
+    @Override
+    public void commitTransaction() {
+        endTransaction();
+        if (!hasChangedInTransaction) {
+            return;
+        }
+        indicateSuperTaClientChanged();
+        commitSuperTaClient();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        endTransaction();
+        if (!hasChangedInTransaction) {
+            return;
+        }
+        versionedSuperTaClient.discardUncommittedChanges();
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
+        // the saved data never saw the changes, so only the UI has to catch up
+        raise(new StateEvent(versionedSuperTaClient));
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    private void endTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction has been started.");
+        }
+        isInTransaction = false;
     }
 
     @Override
@@ -3,16 +3,20 @@ package seedu.superta.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.superta.model.assignment.Assignment;
 import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
 import seedu.superta.model.assignment.exceptions.AssignmentNotFoundException;
 import seedu.superta.model.assignment.exceptions.GradeException;
 import seedu.superta.model.attendance.Attendance;
@@ -24,6 +28,7 @@ import seedu.superta.model.attendance.exceptions.SessionNotFoundException;
 import seedu.superta.model.student.Feedback;
 import seedu.superta.model.student.Student;
 import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentTokenIndex;
 import seedu.superta.model.student.UniqueStudentList;
 import seedu.superta.model.student.exceptions.StudentNotFoundException;
 import seedu.superta.model.tutorialgroup.TutorialGroup;
@@ -33,25 +38,39 @@ import seedu.superta.model.tutorialgroup.exceptions.TutorialGroupNotFoundExcepti
 /**
  * Wraps all data at the SuperTA client level
  * Duplicates are not allowed (by .isSameStudent comparison)
+ *
+ * Every mutation stamps the parts it touches (the student list, or a tutorial group) with a new revision number,
+ * so that callers can tell which parts have changed since a given revision.
  */
 public class SuperTaClient implements ReadOnlySuperTaClient {
 
     private final UniqueStudentList students;
     private final TutorialGroupMaster tutorialGroupMaster;
 
-    /*
-     * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        students = new UniqueStudentList();
-        tutorialGroupMaster = new TutorialGroupMaster();
+    private static final AtomicLong nextHistoryId = new AtomicLong();
+
+    /** Identifies the client whose revisions this client carries, see {@link #copyWithRevisions}. */
+    private long historyId = nextHistoryId.incrementAndGet();
+    private long revision;
+    private long studentsRevision;
+    private final Map<String, Long> tutorialGroupRevisions = new HashMap<>();
+
+    /** True for the snapshots returned by {@link #snapshotOf}, which must not be modified. */
+    private boolean isSnapshot;
+    /** The snapshot last returned by {@link #snapshotOf} for this client, or null if none has been taken yet. */
+    private SuperTaClient lastSnapshot;
+
+    public SuperTaClient() {
+        this(new UniqueStudentList(), new TutorialGroupMaster());
     }
 
-    public SuperTaClient() {}
+    /**
+     * Creates an SuperTaClient that is backed directly by {@code students} and {@code tutorialGroupMaster}.
+     */
+    private SuperTaClient(UniqueStudentList students, TutorialGroupMaster tutorialGroupMaster) {
+        this.students = students;
+        this.tutorialGroupMaster = tutorialGroupMaster;
+    }
 
     /**
      * Creates an SuperTaClient using the Persons in the {@code toBeCopied}
@@ -61,6 +80,55 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code toBeCopied} that carries its revisions, so that the copy can be asked which parts
+     * changed since an earlier copy of the same client was taken.
+     * A client that is not a {@code SuperTaClient} is copied as by {@link #SuperTaClient(ReadOnlySuperTaClient)}.
+     */
+    public static SuperTaClient copyWithRevisions(ReadOnlySuperTaClient toBeCopied) {
+        SuperTaClient copy = new SuperTaClient(toBeCopied);
+        if (toBeCopied instanceof SuperTaClient) {
+            copy.copyRevisionsFrom((SuperTaClient) toBeCopied);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of {@code client} that carries its revisions, as a copy taken by
+     * {@link #copyWithRevisions} does, and that can be read on any thread. Parts of a {@code SuperTaClient} that have
+     * not changed since the previous snapshot of it are shared with that snapshot instead of being copied, and a
+     * snapshot is returned as it is.
+     * Must be called on the thread that modifies {@code client}.
+     */
+    public static SuperTaClient snapshotOf(ReadOnlySuperTaClient client) {
+        requireNonNull(client);
+        if (!(client instanceof SuperTaClient)) {
+            SuperTaClient copy = new SuperTaClient(client);
+            copy.isSnapshot = true;
+            return copy;
+        }
+
+        SuperTaClient source = (SuperTaClient) client;
+        if (source.isSnapshot) {
+            return source;
+        }
+        SuperTaClient snapshot = source.lastSnapshot == null
+                ? new SuperTaClient(source)
+                : source.snapshot(source.lastSnapshot, source.lastSnapshot.revision);
+        snapshot.copyRevisionsFrom(source);
+        snapshot.isSnapshot = true;
+        source.lastSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private void copyRevisionsFrom(SuperTaClient source) {
+        historyId = source.historyId;
+        revision = source.revision;
+        studentsRevision = source.studentsRevision;
+        tutorialGroupRevisions.clear();
+        tutorialGroupRevisions.putAll(source.tutorialGroupRevisions);
+    }
+
     //// list overwrite operations
 
     /**
@@ -69,10 +137,13 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        indicateStudentsChanged();
     }
 
     public void setTutorialGroups(Map<String, TutorialGroup> tutorialGroups) {
         this.tutorialGroupMaster.setTutorialGroups(tutorialGroups);
+        tutorialGroupRevisions.clear();
+        indicateAllTutorialGroupsChanged();
     }
 
     /**
@@ -120,17 +191,29 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
 
     public void addStudentToTutorialGroup(TutorialGroup tg, Student st) {
         tg.addStudent(st);
+        indicateTutorialGroupChanged(tg.getId());
+    }
+
+    /**
+     * Adds all of {@code sts}, none of whom may already be in {@code tg}, to the tutorial group {@code tg}.
+     */
+    public void addStudentsToTutorialGroup(TutorialGroup tg, List<Student> sts) {
+        requireAllNonNull(tg, sts);
+        tg.addStudents(sts);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     public void removeStudentFromTutorialGroup(TutorialGroup tg, Student st) {
         tg.removeStudent(st);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
      * Adds a tutorial group to the directory.
      */
     public void addTutorialGroup(TutorialGroup tg) {
-        tutorialGroupMaster.addTutorialGroup(tg);
+        TutorialGroup added = tutorialGroupMaster.addTutorialGroup(tg);
+        indicateTutorialGroupChanged(added.getId());
     }
 
     /**
@@ -141,6 +224,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireNonNull(edited);
 
         tutorialGroupMaster.setTutorialGroup(edited);
+        indicateTutorialGroupChanged(edited.getId());
     }
 
     /**
@@ -149,6 +233,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
      */
     public void removeTutorialGroup(TutorialGroup key) {
         tutorialGroupMaster.removeTutorialGroup(key);
+        tutorialGroupRevisions.remove(key.getId());
     }
 
     /**
@@ -158,6 +243,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireAllNonNull(tg, assignment);
 
         tg.addAssignment(assignment);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -167,6 +253,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireAllNonNull(tg, assignmentToChange, assignmentChanged);
 
         tg.updateAssignment(assignmentToChange, assignmentChanged);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -176,6 +263,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireAllNonNull(tg, assignment);
 
         tg.removeAssignment(assignment);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -204,6 +292,30 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
             throw new GradeException();
         }
         as.grade(st.getStudentId(), grade.getMarks());
+        indicateTutorialGroupChanged(tg.getId());
+    }
+
+    /**
+     * Grades many students on an assignment of a tutorial group at once, replacing any grades they had.
+     * Every grade is checked before any is added, so either all of {@code marks} are added or none are.
+     */
+    public void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks) {
+        requireAllNonNull(tgId, asId, marks);
+        TutorialGroup tg = tutorialGroupMaster.getTutorialGroup(tgId)
+                .orElseThrow(TutorialGroupNotFoundException::new);
+        Assignment as = tg.getAssignment(asId).orElseThrow(AssignmentNotFoundException::new);
+
+        UniqueStudentList tgStudents = tg.getStudents();
+        for (Map.Entry<StudentId, Double> entry : marks.entrySet()) {
+            if (!tgStudents.containsId(entry.getKey())) {
+                throw new StudentNotFoundException();
+            }
+            if (entry.getValue() < 0 || entry.getValue() > as.getMaxMarks()) {
+                throw new GradeException();
+            }
+        }
+        marks.forEach(as::grade);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -213,6 +325,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireAllNonNull(tg, session);
 
         tg.createAttendanceSession(session);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -223,6 +336,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireAllNonNull(tg, session);
 
         tg.removeAttendanceSession(session);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -256,6 +370,7 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
             throw new DuplicateAttendanceException();
         }
         attendanceList.stream().forEach(sess::addToSession);
+        indicateTutorialGroupChanged(tg.getId());
     }
 
     /**
@@ -270,7 +385,32 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
 
         Student updatedStudent = new Student(student);
         updatedStudent.addFeedback(feedback);
-        students.setStudent(student, updatedStudent);
+        setStudent(student, updatedStudent);
+    }
+
+    /**
+     * Replaces the given student {@code target} in the student list with {@code editedStudent}, leaving the
+     * tutorial groups untouched.
+     */
+    void setStudent(Student target, Student editedStudent) {
+        students.setStudent(target, editedStudent);
+        indicateStudentsChanged();
+    }
+
+    /**
+     * Adds {@code student} to the student list at {@code index}, leaving the tutorial groups untouched.
+     */
+    void insertStudent(int index, Student student) {
+        students.add(index, student);
+        indicateStudentsChanged();
+    }
+
+    /**
+     * Removes {@code student} from the student list, leaving the tutorial groups untouched.
+     */
+    void removeStudentFromList(Student student) {
+        students.remove(student);
+        indicateStudentsChanged();
     }
 
     /**
@@ -294,6 +434,16 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
      */
     public void addStudent(Student p) {
         students.add(p);
+        indicateStudentsChanged();
+    }
+
+    /**
+     * Adds all of {@code studentsToAdd} to the address book at once.
+     * None of the students may already exist in the address book, and no two of them may be the same student.
+     */
+    public void addStudents(List<Student> studentsToAdd) {
+        students.addAll(studentsToAdd);
+        indicateStudentsChanged();
     }
 
     /**
@@ -306,7 +456,8 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
-        tutorialGroupMaster.updateStudent(target, editedStudent);
+        tutorialGroupMaster.updateStudent(target, editedStudent).forEach(this::indicateTutorialGroupChanged);
+        indicateStudentsChanged();
     }
 
     /**
@@ -315,7 +466,141 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
      */
     public void removeStudent(Student key) {
         students.remove(key);
-        tutorialGroupMaster.removeStudentReferences(key);
+        tutorialGroupMaster.removeStudentReferences(key).forEach(this::indicateTutorialGroupChanged);
+        indicateStudentsChanged();
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code SuperTaClient} at once.
+     * Every one of {@code keys} must exist in the address book.
+     */
+    public void removeStudents(List<Student> keys) {
+        students.removeAll(keys);
+        keys.forEach(key -> tutorialGroupMaster.removeStudentReferences(key)
+                .forEach(this::indicateTutorialGroupChanged));
+        indicateStudentsChanged();
+    }
+
+    //// revision tracking
+
+    /**
+     * Returns the latest revision of this {@code SuperTaClient}.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns true if this client and {@code other} carry the revisions of the same client, so that revisions of
+     * one can be compared with those of the other.
+     */
+    public boolean hasSameHistoryAs(SuperTaClient other) {
+        return other != null && historyId == other.historyId;
+    }
+
+    /**
+     * Returns true if the student list has been modified after {@code sinceRevision}.
+     */
+    public boolean haveStudentsChangedSince(long sinceRevision) {
+        return studentsRevision > sinceRevision;
+    }
+
+    /**
+     * Returns true if the tutorial group with the given id has been modified after {@code sinceRevision}.
+     */
+    public boolean hasTutorialGroupChangedSince(String id, long sinceRevision) {
+        return tutorialGroupRevisions.getOrDefault(id, Long.MAX_VALUE) > sinceRevision;
+    }
+
+    private void indicateStudentsChanged() {
+        studentsRevision = ++revision;
+    }
+
+    void indicateTutorialGroupChanged(String id) {
+        tutorialGroupRevisions.put(id, ++revision);
+    }
+
+    private void indicateAllTutorialGroupsChanged() {
+        tutorialGroupMaster.asUnmodifiableObservableMap().keySet().forEach(this::indicateTutorialGroupChanged);
+    }
+
+    //// snapshots
+
+    /**
+     * Returns an unmodifiable snapshot of the current state of this {@code SuperTaClient}.
+     * {@code base} must be a snapshot of this client as it was at {@code baseRevision}. Parts that have not changed
+     * since then are shared with {@code base} instead of being copied, so only the parts that changed are copied.
+     */
+    SuperTaClient snapshot(SuperTaClient base, long baseRevision) {
+        requireNonNull(base);
+
+        UniqueStudentList studentsSnapshot = haveStudentsChangedSince(baseRevision)
+                ? students.clone()
+                : base.students;
+
+        Map<String, TutorialGroup> tutorialGroupsSnapshot = new HashMap<>();
+        tutorialGroupMaster.asUnmodifiableObservableMap().forEach((id, tutorialGroup) -> {
+            Optional<TutorialGroup> shared = base.getTutorialGroup(id);
+            tutorialGroupsSnapshot.put(id, shared.isPresent() && !hasTutorialGroupChangedSince(id, baseRevision)
+                    ? shared.get()
+                    : new TutorialGroup(tutorialGroup));
+        });
+
+        return new SuperTaClient(studentsSnapshot, new TutorialGroupMaster(tutorialGroupsSnapshot));
+    }
+
+    /**
+     * Restores this {@code SuperTaClient} to the state held by the snapshot {@code target}.
+     * {@code current} must be a snapshot of this client as it was at {@code currentRevision}. Parts of
+     * {@code target} that are shared with {@code current} and have not changed since then are left untouched,
+     * so only the parts that differ are copied back.
+     */
+    void restoreSnapshot(SuperTaClient target, SuperTaClient current, long currentRevision) {
+        requireAllNonNull(target, current);
+
+        if (target.students != current.students || haveStudentsChangedSince(currentRevision)) {
+            students.setStudents(target.students);
+            indicateStudentsChanged();
+        }
+
+        Set<String> ids = new HashSet<>(tutorialGroupMaster.asUnmodifiableObservableMap().keySet());
+        ids.addAll(target.tutorialGroupMaster.asUnmodifiableObservableMap().keySet());
+        for (String id : ids) {
+            Optional<TutorialGroup> targetGroup = target.getTutorialGroup(id);
+            Optional<TutorialGroup> currentGroup = current.getTutorialGroup(id);
+            boolean isUnchanged = targetGroup.isPresent() && currentGroup.isPresent()
+                    && targetGroup.get() == currentGroup.get()
+                    && !hasTutorialGroupChangedSince(id, currentRevision);
+            if (isUnchanged) {
+                continue;
+            }
+
+            Optional<TutorialGroup> liveGroup = getTutorialGroup(id);
+            if (!targetGroup.isPresent()) {
+                removeTutorialGroup(liveGroup.get());
+            } else if (liveGroup.isPresent()) {
+                updateTutorialGroup(new TutorialGroup(targetGroup.get()));
+            } else {
+                addTutorialGroup(new TutorialGroup(targetGroup.get()));
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the parts of this {@code SuperTaClient} that are not shared
+     * with {@code base}. Every part is counted if {@code base} is null.
+     */
+    long estimateSizeNotSharedWith(SuperTaClient base) {
+        long size = 0;
+        if (base == null || students != base.students) {
+            size += students.size() * UndoableEdit.STUDENT_SIZE;
+        }
+        for (TutorialGroup tutorialGroup : tutorialGroupMaster.asUnmodifiableObservableMap().values()) {
+            if (base == null || base.getTutorialGroup(tutorialGroup.getId()).orElse(null) != tutorialGroup) {
+                size += UndoableEdit.estimateSize(tutorialGroup);
+            }
+        }
+        return size;
     }
 
     //// util methods
@@ -331,6 +616,13 @@ public class SuperTaClient implements ReadOnlySuperTaClient {
         return students.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the words in the fields of the students in this client.
+     */
+    public StudentTokenIndex getStudentTokenIndex() {
+        return students.getTokenIndex();
+    }
+
     @Override
     public ObservableMap<String, TutorialGroup> getTutorialGroupMap() {
         return tutorialGroupMaster.asUnmodifiableObservableMap();
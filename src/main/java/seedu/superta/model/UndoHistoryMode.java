@@ -0,0 +1,11 @@
+package seedu.superta.model;
+
+/**
+ * Enumerations for the ways {@code VersionedSuperTaClient} can keep its undo/redo history.
+ */
+public enum UndoHistoryMode {
+    /** Each commit saves a snapshot of the client, sharing the parts that did not change. */
+    SNAPSHOT,
+    /** Each commit saves the edits made since the previous commit, which undo/redo apply in place. */
+    JOURNAL
+}
@@ -0,0 +1,420 @@
+package seedu.superta.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.GradeBook;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Attendance;
+import seedu.superta.model.attendance.Presence;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * A single reversible change to a {@code SuperTaClient}, as recorded in the undo journal of a
+ * {@code VersionedSuperTaClient}.
+ *
+ * An edit holds the state of the part of the client it covers as it was on the other side of the change.
+ * {@link #swap(SuperTaClient)} exchanges that state with the client's, so the same call both undoes and redoes it.
+ */
+abstract class UndoableEdit {
+
+    // Rough estimates of the retained heap size of the recorded objects, in bytes.
+    static final long EDIT_OVERHEAD = 32;
+    static final long STUDENT_SIZE = 256;
+    static final long STUDENT_REFERENCE_SIZE = 56;
+    static final long GRADE_ENTRY_SIZE = 88;
+    static final long ATTENDANCE_SIZE = 72;
+
+    /**
+     * Exchanges the state recorded in this edit with the current state of {@code client}.
+     * Swapping twice leaves both {@code client} and this edit as they were.
+     */
+    abstract void swap(SuperTaClient client);
+
+    /**
+     * Returns the estimated number of bytes retained by this edit.
+     */
+    abstract long estimateSize();
+
+    /**
+     * Returns an edit that records {@code previous}, the tutorial group with the given {@code id} before a change.
+     * {@code previous} is null if the tutorial group did not exist.
+     */
+    static UndoableEdit ofTutorialGroup(String id, TutorialGroup previous) {
+        return new TutorialGroupEdit(id, previous);
+    }
+
+    /**
+     * Returns an edit that records {@code previous}, the student with the given {@code id} before a change.
+     * {@code previous} is null if the student did not exist.
+     */
+    static UndoableEdit ofStudent(StudentId id, Student previous) {
+        return new StudentEdit(id, previous);
+    }
+
+    /**
+     * Returns an edit that records {@code previous}, the student at {@code index} in the student list before it was
+     * replaced. The student may have been replaced by one with another ID.
+     */
+    static UndoableEdit ofReplacedStudent(int index, Student previous) {
+        return new StudentSlotEdit(index, previous, false);
+    }
+
+    /**
+     * Returns an edit that records {@code removed}, the student at {@code index} in the student list before it was
+     * removed.
+     */
+    static UndoableEdit ofRemovedStudent(int index, Student removed) {
+        return new StudentSlotEdit(index, removed, true);
+    }
+
+    /**
+     * Returns an edit that records {@code previousMarks}, a student's marks for an assignment before a change.
+     * {@code previousMarks} is null if the student had not been graded.
+     */
+    static UndoableEdit ofGrade(String tgId, Title asId, StudentId stId, Double previousMarks) {
+        return new GradeEdit(tgId, asId, stId, previousMarks);
+    }
+
+    /**
+     * Returns an edit that records the addition of {@code added}, students who did not exist before, in one change.
+     */
+    static UndoableEdit ofAddedStudents(List<Student> added) {
+        return new AddedStudentsEdit(added);
+    }
+
+    /**
+     * Returns an edit that records the marks that the students in {@code previousMarks} had on an assignment before
+     * they were graded together, with null for students who had no grade.
+     */
+    static UndoableEdit ofGrades(String tgId, Title asId, Map<StudentId, Double> previousMarks) {
+        return new GradesEdit(tgId, asId, previousMarks);
+    }
+
+    /**
+     * Returns an edit that records the marking of {@code stIds} as present in a session.
+     */
+    static UndoableEdit ofAttendance(String tgId, String sessionName, Set<StudentId> stIds) {
+        return new AttendanceEdit(tgId, sessionName, stIds);
+    }
+
+    /**
+     * Returns an edit that records {@code previous}, a copy of the whole client before a change.
+     */
+    static UndoableEdit ofClient(SuperTaClient previous) {
+        return new ClientEdit(previous);
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by a copy of {@code tutorialGroup}.
+     */
+    static long estimateSize(TutorialGroup tutorialGroup) {
+        long size = tutorialGroup.getStudents().size() * STUDENT_REFERENCE_SIZE;
+        for (Assignment assignment : tutorialGroup.getAssignments()) {
+            size += assignment.getGradebook().size() * GRADE_ENTRY_SIZE;
+        }
+        for (Session session : tutorialGroup.getSessions()) {
+            size += session.size() * ATTENDANCE_SIZE;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by a copy of {@code client}.
+     */
+    static long estimateSize(ReadOnlySuperTaClient client) {
+        long size = client.getStudentList().size() * STUDENT_SIZE;
+        for (TutorialGroup tutorialGroup : client.getTutorialGroupMap().values()) {
+            size += estimateSize(tutorialGroup);
+        }
+        return size;
+    }
+
+    /**
+     * Records a tutorial group, which is swapped in and out of the client as a whole.
+     */
+    private static class TutorialGroupEdit extends UndoableEdit {
+        private final String id;
+        private TutorialGroup other;
+        private final long size;
+
+        TutorialGroupEdit(String id, TutorialGroup other) {
+            requireNonNull(id);
+            this.id = id;
+            this.other = other;
+            this.size = EDIT_OVERHEAD + (other == null ? 0 : estimateSize(other));
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            TutorialGroup current = client.getTutorialGroup(id).orElse(null);
+            if (other == null) {
+                client.removeTutorialGroup(current);
+            } else if (current == null) {
+                client.addTutorialGroup(other);
+            } else {
+                client.updateTutorialGroup(other);
+            }
+            other = current;
+        }
+
+        @Override
+        long estimateSize() {
+            return size;
+        }
+    }
+
+    /**
+     * Records a student in the student list.
+     */
+    private static class StudentEdit extends UndoableEdit {
+        private final StudentId id;
+        private Student other;
+
+        StudentEdit(StudentId id, Student other) {
+            requireNonNull(id);
+            this.id = id;
+            this.other = other;
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            Student current = client.getStudentWithId(id).orElse(null);
+            if (other == null) {
+                client.removeStudent(current);
+            } else if (current == null) {
+                client.addStudent(other);
+            } else {
+                client.setStudent(current, other);
+            }
+            other = current;
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + STUDENT_SIZE;
+        }
+    }
+
+    /**
+     * Records the student in one slot of the student list, which is swapped back in place, so that the student keeps
+     * its position in the list. Only the student list is changed; the tutorial groups that refer to the student are
+     * recorded by edits of their own.
+     */
+    private static class StudentSlotEdit extends UndoableEdit {
+        private final int index;
+        private Student other;
+        private final boolean isRemoval;
+        private boolean isOtherInList;
+
+        StudentSlotEdit(int index, Student other, boolean isRemoval) {
+            requireNonNull(other);
+            this.index = index;
+            this.other = other;
+            this.isRemoval = isRemoval;
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            if (!isRemoval) {
+                Student current = client.getStudentList().get(index);
+                client.setStudent(current, other);
+                other = current;
+            } else if (isOtherInList) {
+                client.removeStudentFromList(other);
+                isOtherInList = false;
+            } else {
+                client.insertStudent(index, other);
+                isOtherInList = true;
+            }
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + STUDENT_SIZE;
+        }
+    }
+
+    /**
+     * Records students added together by a single command, which are removed and added back together.
+     */
+    private static class AddedStudentsEdit extends UndoableEdit {
+        private final List<Student> students;
+        private boolean isAdded = true;
+
+        AddedStudentsEdit(List<Student> students) {
+            requireNonNull(students);
+            this.students = new ArrayList<>(students);
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            if (isAdded) {
+                client.removeStudents(students);
+            } else {
+                client.addStudents(students);
+            }
+            isAdded = !isAdded;
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + students.size() * STUDENT_SIZE;
+        }
+    }
+
+    /**
+     * Records one student's marks for an assignment.
+     */
+    private static class GradeEdit extends UndoableEdit {
+        private final String tgId;
+        private final Title asId;
+        private final StudentId stId;
+        private Double otherMarks;
+
+        GradeEdit(String tgId, Title asId, StudentId stId, Double otherMarks) {
+            requireAllNonNull(tgId, asId, stId);
+            this.tgId = tgId;
+            this.asId = asId;
+            this.stId = stId;
+            this.otherMarks = otherMarks;
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            GradeBook gradeBook = client.getTutorialGroup(tgId)
+                    .flatMap(tg -> tg.getAssignment(asId))
+                    .get()
+                    .getGradebook();
+            Double currentMarks = gradeBook.hasGradeFor(stId) ? gradeBook.getGradeFor(stId) : null;
+            if (otherMarks == null) {
+                gradeBook.removeGrade(stId);
+            } else {
+                gradeBook.addGrade(stId, otherMarks);
+            }
+            otherMarks = currentMarks;
+            client.indicateTutorialGroupChanged(tgId);
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + GRADE_ENTRY_SIZE;
+        }
+    }
+
+    /**
+     * Records the marks of many students on one assignment, as changed together by a single command.
+     */
+    private static class GradesEdit extends UndoableEdit {
+        private final String tgId;
+        private final Title asId;
+        private final Map<StudentId, Double> otherMarks;
+
+        GradesEdit(String tgId, Title asId, Map<StudentId, Double> otherMarks) {
+            requireAllNonNull(tgId, asId, otherMarks);
+            this.tgId = tgId;
+            this.asId = asId;
+            this.otherMarks = new HashMap<>(otherMarks);
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            GradeBook gradeBook = client.getTutorialGroup(tgId)
+                    .flatMap(tg -> tg.getAssignment(asId))
+                    .get()
+                    .getGradebook();
+            for (Map.Entry<StudentId, Double> entry : otherMarks.entrySet()) {
+                StudentId stId = entry.getKey();
+                Double currentMarks = gradeBook.hasGradeFor(stId) ? gradeBook.getGradeFor(stId) : null;
+                if (entry.getValue() == null) {
+                    gradeBook.removeGrade(stId);
+                } else {
+                    gradeBook.addGrade(stId, entry.getValue());
+                }
+                entry.setValue(currentMarks);
+            }
+            client.indicateTutorialGroupChanged(tgId);
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + otherMarks.size() * GRADE_ENTRY_SIZE;
+        }
+    }
+
+    /**
+     * Records the students marked present in a session by a single command.
+     */
+    private static class AttendanceEdit extends UndoableEdit {
+        private final String tgId;
+        private final String sessionName;
+        private final Set<StudentId> stIds;
+        private boolean isMarked = true;
+
+        AttendanceEdit(String tgId, String sessionName, Set<StudentId> stIds) {
+            requireAllNonNull(tgId, sessionName, stIds);
+            this.tgId = tgId;
+            this.sessionName = sessionName;
+            this.stIds = new HashSet<>(stIds);
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            TutorialGroup tg = client.getTutorialGroup(tgId).get();
+            Session session = tg.getSessionByName(sessionName).get();
+            for (StudentId stId : stIds) {
+                if (isMarked) {
+                    Optional<Student> student = tg.getStudents().getStudentWithId(stId);
+                    student.ifPresent(session::removeStudent);
+                } else {
+                    session.addToSession(new Attendance(stId, Presence.PRESENT));
+                }
+            }
+            isMarked = !isMarked;
+            client.indicateTutorialGroupChanged(tgId);
+        }
+
+        @Override
+        long estimateSize() {
+            return EDIT_OVERHEAD + stIds.size() * ATTENDANCE_SIZE;
+        }
+    }
+
+    /**
+     * Records the whole client, for {@code resetData}, which replaces the student list and every tutorial group.
+     */
+    private static class ClientEdit extends UndoableEdit {
+        private SuperTaClient other;
+        private final long size;
+
+        ClientEdit(SuperTaClient other) {
+            requireNonNull(other);
+            this.other = other;
+            this.size = EDIT_OVERHEAD + estimateSize(other);
+        }
+
+        @Override
+        void swap(SuperTaClient client) {
+            SuperTaClient current = new SuperTaClient(client);
+            client.resetData(other);
+            other = current;
+        }
+
+        @Override
+        long estimateSize() {
+            return size;
+        }
+    }
+}
@@ -11,8 +11,16 @@ import seedu.superta.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_MAX_DEPTH = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "superta.xml");
+    private DataFileFormat dataFileFormat = DataFileFormat.XML;
+    private DataJournalMode dataJournalMode = DataJournalMode.OFF;
+    private UndoHistoryMode undoHistoryMode = UndoHistoryMode.SNAPSHOT;
+    private int undoHistoryMaxDepth = DEFAULT_UNDO_HISTORY_MAX_DEPTH;
+    private long undoHistoryBudgetInBytes = DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +46,46 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public DataJournalMode getDataJournalMode() {
+        return dataJournalMode;
+    }
+
+    public void setDataJournalMode(DataJournalMode dataJournalMode) {
+        this.dataJournalMode = dataJournalMode;
+    }
+
+    public UndoHistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(UndoHistoryMode undoHistoryMode) {
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getUndoHistoryMaxDepth() {
+        return undoHistoryMaxDepth;
+    }
+
+    public void setUndoHistoryMaxDepth(int undoHistoryMaxDepth) {
+        this.undoHistoryMaxDepth = undoHistoryMaxDepth;
+    }
+
+    public long getUndoHistoryBudgetInBytes() {
+        return undoHistoryBudgetInBytes;
+    }
+
+    public void setUndoHistoryBudgetInBytes(long undoHistoryBudgetInBytes) {
+        this.undoHistoryBudgetInBytes = undoHistoryBudgetInBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +98,18 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && Objects.equals(dataFileFormat, o.dataFileFormat)
+                && Objects.equals(dataJournalMode, o.dataJournalMode)
+                && Objects.equals(undoHistoryMode, o.undoHistoryMode)
+                && undoHistoryMaxDepth == o.undoHistoryMaxDepth
+                && undoHistoryBudgetInBytes == o.undoHistoryBudgetInBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFileFormat, dataJournalMode, undoHistoryMode,
+                undoHistoryMaxDepth, undoHistoryBudgetInBytes);
     }
 
     @Override
@@ -63,6 +117,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + dataFileFormat + ", journal " + dataJournalMode);
+        sb.append("\nUndo history : " + undoHistoryMode + ", up to " + undoHistoryMaxDepth + " steps and "
+                + undoHistoryBudgetInBytes + " bytes");
         return sb.toString();
     }
 
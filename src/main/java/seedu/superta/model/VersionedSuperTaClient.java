@@ -1,38 +1,147 @@
 package seedu.superta.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.attendance.exceptions.DuplicateSessionException;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
 
 /**
  * {@code SuperTaClient} that keeps track of its own history.
+ *
+ * Consecutive states share the student list and every tutorial group that did not change between them, so a
+ * commit only copies what the last command modified, and undo/redo only copy back what differs.
+ *
+ * In {@link UndoHistoryMode#JOURNAL} mode, no states are kept at all. Each change is instead recorded as an
+ * {@link UndoableEdit} as it is made, the edits made between two commits form one journal entry, and undo/redo
+ * swap the edits of a single entry in and out.
+ *
+ * In either mode, the history is bounded: the oldest steps are evicted once more than {@code maxDepth} steps can be
+ * undone, or once the estimated size of the history exceeds its byte budget. The newest step is always kept.
  */
 public class VersionedSuperTaClient extends SuperTaClient {
 
-    private final List<ReadOnlySuperTaClient> superTaClientStateList;
+    private final UndoHistoryMode mode;
+    private final int maxDepth;
+    private final long budgetInBytes;
+
+    private final List<SuperTaClient> superTaClientStateList;
+    private final List<Long> stateSizesInBytes;
     private int currentStatePointer;
+    private long currentStateRevision;
+
+    private final List<List<UndoableEdit>> journal;
+    private final List<UndoableEdit> pendingEdits;
+    private long historySizeInBytes;
+    private boolean isReplaying;
 
     public VersionedSuperTaClient(ReadOnlySuperTaClient initialState) {
+        this(initialState, UndoHistoryMode.SNAPSHOT, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH,
+                UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+    }
+
+    public VersionedSuperTaClient(ReadOnlySuperTaClient initialState, UndoHistoryMode mode, int maxDepth,
+                                  long budgetInBytes) {
         super(initialState);
+        this.mode = mode;
+        this.maxDepth = maxDepth;
+        this.budgetInBytes = budgetInBytes;
 
         superTaClientStateList = new ArrayList<>();
-        superTaClientStateList.add(new SuperTaClient(initialState));
+        stateSizesInBytes = new ArrayList<>();
+        historySizeInBytes = 0;
+        if (mode == UndoHistoryMode.SNAPSHOT) {
+            SuperTaClient initialSnapshot = new SuperTaClient(initialState);
+            superTaClientStateList.add(initialSnapshot);
+            stateSizesInBytes.add(initialSnapshot.estimateSizeNotSharedWith(null));
+            historySizeInBytes = stateSizesInBytes.get(0);
+        }
         currentStatePointer = 0;
+        currentStateRevision = getRevision();
+
+        journal = new ArrayList<>();
+        pendingEdits = new ArrayList<>();
+        isReplaying = false;
     }
 
     /**
      * Saves a copy of the current {@code SuperTaClient} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Undone states are removed from the state list, and the oldest states are evicted while the history is over
+     * its bounds.
      */
     public void commit() {
+        if (mode == UndoHistoryMode.JOURNAL) {
+            commitJournalEntry();
+            return;
+        }
         removeStatesAfterCurrentPointer();
-        superTaClientStateList.add(new SuperTaClient(this));
+        SuperTaClient previousState = getCurrentState();
+        SuperTaClient newState = snapshot(previousState, currentStateRevision);
+        superTaClientStateList.add(newState);
+        stateSizesInBytes.add(newState.estimateSizeNotSharedWith(previousState));
+        historySizeInBytes += stateSizesInBytes.get(stateSizesInBytes.size() - 1);
         currentStatePointer++;
+        currentStateRevision = getRevision();
+
+        while (isOverBounds()) {
+            evictOldestState();
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
+        List<Long> undoneSizes = stateSizesInBytes.subList(currentStatePointer + 1, stateSizesInBytes.size());
+        undoneSizes.forEach(size -> historySizeInBytes -= size);
+        undoneSizes.clear();
         superTaClientStateList.subList(currentStatePointer + 1, superTaClientStateList.size()).clear();
     }
 
+    /**
+     * Removes the oldest state. The parts it shared with the next state are now retained by that state alone.
+     */
+    private void evictOldestState() {
+        superTaClientStateList.remove(0);
+        historySizeInBytes -= stateSizesInBytes.remove(0);
+
+        long newOldestSize = superTaClientStateList.get(0).estimateSizeNotSharedWith(null);
+        historySizeInBytes += newOldestSize - stateSizesInBytes.get(0);
+        stateSizesInBytes.set(0, newOldestSize);
+        currentStatePointer--;
+    }
+
+    /**
+     * Returns true if the oldest step of the history should be evicted.
+     */
+    private boolean isOverBounds() {
+        return currentStatePointer > 1
+                && (currentStatePointer > maxDepth || historySizeInBytes > budgetInBytes);
+    }
+
+    /**
+     * Reverts the changes made since the last commit, without touching the history.
+     */
+    public void discardUncommittedChanges() {
+        if (mode == UndoHistoryMode.JOURNAL) {
+            replay(() -> {
+                swapInReverse(pendingEdits);
+                pendingEdits.clear();
+            });
+            return;
+        }
+        restoreSnapshot(getCurrentState(), getCurrentState(), currentStateRevision);
+        currentStateRevision = getRevision();
+    }
+
     /**
      * Restores the address book to its previous state.
      */
@@ -40,8 +149,16 @@ public class VersionedSuperTaClient extends SuperTaClient {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(superTaClientStateList.get(currentStatePointer));
+        if (mode == UndoHistoryMode.JOURNAL) {
+            replay(() -> {
+                swapInReverse(pendingEdits);
+                pendingEdits.clear();
+                currentStatePointer--;
+                swapInReverse(journal.get(currentStatePointer));
+            });
+            return;
+        }
+        moveCurrentStatePointerTo(currentStatePointer - 1);
     }
 
     /**
@@ -51,8 +168,30 @@ public class VersionedSuperTaClient extends SuperTaClient {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(superTaClientStateList.get(currentStatePointer));
+        if (mode == UndoHistoryMode.JOURNAL) {
+            replay(() -> {
+                swapInReverse(pendingEdits);
+                pendingEdits.clear();
+                journal.get(currentStatePointer).forEach(edit -> edit.swap(this));
+                currentStatePointer++;
+            });
+            return;
+        }
+        moveCurrentStatePointerTo(currentStatePointer + 1);
+    }
+
+    /**
+     * Restores the state at {@code newStatePointer}, copying back only the parts that differ from the current state.
+     */
+    private void moveCurrentStatePointerTo(int newStatePointer) {
+        SuperTaClient target = superTaClientStateList.get(newStatePointer);
+        restoreSnapshot(target, getCurrentState(), currentStateRevision);
+        currentStatePointer = newStatePointer;
+        currentStateRevision = getRevision();
+    }
+
+    private SuperTaClient getCurrentState() {
+        return superTaClientStateList.get(currentStatePointer);
     }
 
     /**
@@ -66,9 +205,295 @@ public class VersionedSuperTaClient extends SuperTaClient {
      * Returns true if {@code redo()} has SuperTA client states to redo.
      */
     public boolean canRedo() {
+        if (mode == UndoHistoryMode.JOURNAL) {
+            return currentStatePointer < journal.size();
+        }
         return currentStatePointer < superTaClientStateList.size() - 1;
     }
 
+    /**
+     * Returns the number of times {@code undo()} can currently be called in a row.
+     */
+    public int getUndoDepth() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the history, including undone steps that can be redone.
+     */
+    public long getHistorySizeInBytes() {
+        return historySizeInBytes;
+    }
+
+    //// journal mode
+
+    /**
+     * Appends the edits made since the last commit to the journal as a single entry.
+     * Undone entries are removed from the journal, and the oldest entries are evicted while the journal is over
+     * its bounds.
+     */
+    private void commitJournalEntry() {
+        List<List<UndoableEdit>> undoneEntries = journal.subList(currentStatePointer, journal.size());
+        undoneEntries.forEach(entry -> historySizeInBytes -= estimateSize(entry));
+        undoneEntries.clear();
+
+        List<UndoableEdit> entry = new ArrayList<>(pendingEdits);
+        pendingEdits.clear();
+        journal.add(entry);
+        historySizeInBytes += estimateSize(entry);
+        currentStatePointer++;
+
+        while (isOverBounds()) {
+            historySizeInBytes -= estimateSize(journal.remove(0));
+            currentStatePointer--;
+        }
+    }
+
+    private static long estimateSize(List<UndoableEdit> entry) {
+        return entry.stream().mapToLong(UndoableEdit::estimateSize).sum();
+    }
+
+    private void swapInReverse(List<UndoableEdit> edits) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).swap(this);
+        }
+    }
+
+    /**
+     * Runs {@code replay} without recording the changes it makes in the journal.
+     */
+    private void replay(Runnable replay) {
+        isReplaying = true;
+        try {
+            replay.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Returns true if changes made to this {@code SuperTaClient} should be recorded in the journal.
+     * Changes made while the superclass constructor runs see a null {@code mode}, and are not recorded.
+     */
+    private boolean isJournaling() {
+        return mode == UndoHistoryMode.JOURNAL && !isReplaying;
+    }
+
+    /**
+     * Runs {@code change}, which modifies {@code tg} in place, and records the tutorial group as it was before.
+     */
+    private void journalTutorialGroupChange(TutorialGroup tg, Runnable change) {
+        if (!isJournaling()) {
+            change.run();
+            return;
+        }
+        UndoableEdit edit = UndoableEdit.ofTutorialGroup(tg.getId(), new TutorialGroup(tg));
+        change.run();
+        pendingEdits.add(edit);
+    }
+
+    /**
+     * Runs {@code change}, which may replace every part of this {@code SuperTaClient}, and records a copy of the
+     * whole client as it was before.
+     */
+    private void journalClientChange(Runnable change) {
+        if (!isJournaling()) {
+            change.run();
+            return;
+        }
+        UndoableEdit edit = UndoableEdit.ofClient(new SuperTaClient(this));
+        change.run();
+        pendingEdits.add(edit);
+    }
+
+    @Override
+    public void resetData(ReadOnlySuperTaClient newData) {
+        journalClientChange(() -> super.resetData(newData));
+    }
+
+    @Override
+    public void addStudentToTutorialGroup(TutorialGroup tg, Student st) {
+        journalTutorialGroupChange(tg, () -> super.addStudentToTutorialGroup(tg, st));
+    }
+
+    @Override
+    public void addStudentsToTutorialGroup(TutorialGroup tg, List<Student> sts) {
+        journalTutorialGroupChange(tg, () -> super.addStudentsToTutorialGroup(tg, sts));
+    }
+
+    @Override
+    public void removeStudentFromTutorialGroup(TutorialGroup tg, Student st) {
+        journalTutorialGroupChange(tg, () -> super.removeStudentFromTutorialGroup(tg, st));
+    }
+
+    @Override
+    public void addTutorialGroup(TutorialGroup tg) {
+        if (!isJournaling()) {
+            super.addTutorialGroup(tg);
+            return;
+        }
+        Set<String> previousIds = new HashSet<>(getTutorialGroupMap().keySet());
+        super.addTutorialGroup(tg);
+        getTutorialGroupMap().keySet().stream()
+                .filter(id -> !previousIds.contains(id))
+                .forEach(id -> pendingEdits.add(UndoableEdit.ofTutorialGroup(id, null)));
+    }
+
+    @Override
+    public void updateTutorialGroup(TutorialGroup edited) {
+        if (!isJournaling()) {
+            super.updateTutorialGroup(edited);
+            return;
+        }
+        TutorialGroup previous = getTutorialGroup(edited.getId()).orElse(null);
+        super.updateTutorialGroup(edited);
+        pendingEdits.add(UndoableEdit.ofTutorialGroup(edited.getId(),
+                previous == edited ? new TutorialGroup(previous) : previous));
+    }
+
+    @Override
+    public void removeTutorialGroup(TutorialGroup key) {
+        if (!isJournaling()) {
+            super.removeTutorialGroup(key);
+            return;
+        }
+        TutorialGroup previous = getTutorialGroup(key.getId()).orElse(null);
+        super.removeTutorialGroup(key);
+        pendingEdits.add(UndoableEdit.ofTutorialGroup(key.getId(), previous));
+    }
+
+    @Override
+    public void addAssignment(TutorialGroup tg, Assignment assignment) {
+        journalTutorialGroupChange(tg, () -> super.addAssignment(tg, assignment));
+    }
+
+    @Override
+    public void updateAssignment(TutorialGroup tg, Assignment assignmentToChange, Assignment assignmentChanged) {
+        journalTutorialGroupChange(tg, () -> super.updateAssignment(tg, assignmentToChange, assignmentChanged));
+    }
+
+    @Override
+    public void deleteAssignment(TutorialGroup tg, Assignment assignment) {
+        journalTutorialGroupChange(tg, () -> super.deleteAssignment(tg, assignment));
+    }
+
+    @Override
+    public void grade(Grade grade) {
+        if (!isJournaling()) {
+            super.grade(grade);
+            return;
+        }
+        Double previousMarks = getTutorialGroup(grade.getTgId())
+                .flatMap(tg -> tg.getAssignment(grade.getAsId()))
+                .map(Assignment::getGradebook)
+                .filter(gradeBook -> gradeBook.hasGradeFor(grade.getStId()))
+                .map(gradeBook -> gradeBook.getGradeFor(grade.getStId()))
+                .orElse(null);
+        super.grade(grade);
+        pendingEdits.add(UndoableEdit.ofGrade(grade.getTgId(), grade.getAsId(), grade.getStId(), previousMarks));
+    }
+
+    @Override
+    public void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks) {
+        if (!isJournaling()) {
+            super.gradeAll(tgId, asId, marks);
+            return;
+        }
+        Map<StudentId, Double> previousMarks = new HashMap<>();
+        getTutorialGroup(tgId)
+                .flatMap(tg -> tg.getAssignment(asId))
+                .map(Assignment::getGradebook)
+                .ifPresent(gradeBook -> marks.keySet().forEach(stId -> previousMarks.put(stId,
+                        gradeBook.hasGradeFor(stId) ? gradeBook.getGradeFor(stId) : null)));
+        super.gradeAll(tgId, asId, marks);
+        pendingEdits.add(UndoableEdit.ofGrades(tgId, asId, previousMarks));
+    }
+
+    @Override
+    public void createAttendance(TutorialGroup tg, Session session) throws DuplicateSessionException {
+        journalTutorialGroupChange(tg, () -> super.createAttendance(tg, session));
+    }
+
+    @Override
+    public void removeAttendance(TutorialGroup tg, Session session) {
+        journalTutorialGroupChange(tg, () -> super.removeAttendance(tg, session));
+    }
+
+    @Override
+    public void markAttendance(String tutorialGroupId, Session session, Set<StudentId> stIdSet) {
+        super.markAttendance(tutorialGroupId, session, stIdSet);
+        if (isJournaling()) {
+            pendingEdits.add(UndoableEdit.ofAttendance(tutorialGroupId, session.getSessionName(), stIdSet));
+        }
+    }
+
+    @Override
+    public void addFeedback(Feedback feedback, StudentId studentId) {
+        if (!isJournaling()) {
+            super.addFeedback(feedback, studentId);
+            return;
+        }
+        Student previous = getStudentWithId(studentId).orElse(null);
+        super.addFeedback(feedback, studentId);
+        pendingEdits.add(UndoableEdit.ofStudent(studentId, previous));
+    }
+
+    @Override
+    public void addStudent(Student p) {
+        super.addStudent(p);
+        if (isJournaling()) {
+            pendingEdits.add(UndoableEdit.ofStudent(p.getStudentId(), null));
+        }
+    }
+
+    @Override
+    public void addStudents(List<Student> studentsToAdd) {
+        super.addStudents(studentsToAdd);
+        if (isJournaling()) {
+            pendingEdits.add(UndoableEdit.ofAddedStudents(studentsToAdd));
+        }
+    }
+
+    @Override
+    public void updateStudent(Student target, Student editedStudent) {
+        if (!isJournaling()) {
+            super.updateStudent(target, editedStudent);
+            return;
+        }
+        int index = getStudentList().indexOf(target);
+        Student previous = index == -1 ? null : getStudentList().get(index);
+        List<UndoableEdit> tutorialGroupEdits = recordTutorialGroupsReferringTo(target);
+        super.updateStudent(target, editedStudent);
+        pendingEdits.add(UndoableEdit.ofReplacedStudent(index, previous));
+        pendingEdits.addAll(tutorialGroupEdits);
+    }
+
+    @Override
+    public void removeStudent(Student key) {
+        if (!isJournaling()) {
+            super.removeStudent(key);
+            return;
+        }
+        int index = getStudentList().indexOf(key);
+        Student previous = index == -1 ? null : getStudentList().get(index);
+        List<UndoableEdit> tutorialGroupEdits = recordTutorialGroupsReferringTo(key);
+        super.removeStudent(key);
+        pendingEdits.add(UndoableEdit.ofRemovedStudent(index, previous));
+        pendingEdits.addAll(tutorialGroupEdits);
+    }
+
+    /**
+     * Returns edits that record the tutorial groups that refer to {@code student}, as they are before a change to
+     * the student. These are the only tutorial groups that updating or removing the student changes.
+     */
+    private List<UndoableEdit> recordTutorialGroupsReferringTo(Student student) {
+        List<UndoableEdit> edits = new ArrayList<>();
+        getTutorialGroupMap().values().stream()
+                .filter(tg -> tg.refersTo(student))
+                .forEach(tg -> edits.add(UndoableEdit.ofTutorialGroup(tg.getId(), new TutorialGroup(tg))));
+        return edits;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -85,6 +510,8 @@ public class VersionedSuperTaClient extends SuperTaClient {
 
         // state check
         return super.equals(otherVersionedSuperTaClient)
+                && mode == otherVersionedSuperTaClient.mode
+                && journal.size() == otherVersionedSuperTaClient.journal.size()
                 && superTaClientStateList.equals(otherVersionedSuperTaClient.superTaClientStateList)
                 && currentStatePointer == otherVersionedSuperTaClient.currentStatePointer;
     }
@@ -46,9 +46,7 @@ public class Assignment {
         requireNonNull(toClone);
         this.title = toClone.title;
         this.maxMarks = toClone.maxMarks;
-        gradebook = new GradeBook();
-        toClone.gradebook.stream()
-            .forEach(e -> gradebook.addGrade(e.studentId, e.marks));
+        gradebook = new GradeBook(toClone.gradebook);
     }
 
 
@@ -103,12 +101,33 @@ public class Assignment {
         return gradebook.getMedian();
     }
 
+    /**
+     * Returns the population standard deviation of the grades for this assignment.
+     */
+    public double getStandardDeviation() {
+        return gradebook.getStandardDeviation();
+    }
+
+    /**
+     * Returns the lowest grade for this assignment.
+     */
+    public double getMin() {
+        return gradebook.getMin();
+    }
+
+    /**
+     * Returns the highest grade for this assignment.
+     */
+    public double getMax() {
+        return gradebook.getMax();
+    }
+
     /**
      * Returns the projected difficulty for this assignment.
      * Projected difficulty is currently 1 - average percentage scored.
      */
     public double getProjectedDifficulty() {
-        if (gradebook.asUnmodifiableObservableList().size() == 0) {
+        if (gradebook.size() == 0) {
             return 0.0;
         }
         double average = gradebook.getAverage();
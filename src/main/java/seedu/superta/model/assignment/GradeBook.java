@@ -1,39 +1,137 @@
 package seedu.superta.model.assignment;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.superta.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
-import javafx.collections.MapChangeListener;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableMap;
 import seedu.superta.model.student.Student;
 import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentOrdinals;
 
 /**
  * Model for a grade book.
+ * Grades are kept in a {@code GradeColumn} of primitive marks indexed by the student ordinals of the tutorial group
+ * the grade book belongs to, which also keeps the statistics of the grade book up to date as grades are added and
+ * removed. {@code GradeEntry} objects are only created when the grades are streamed or viewed.
  */
 public class GradeBook {
-    private final ObservableMap<StudentId, GradeEntry> internalMap = FXCollections.observableHashMap();
+    public static final String MESSAGE_PERCENTILE_CONSTRAINTS = "Percentile should be from 0 to 100.";
+
+    private StudentOrdinals studentOrdinals;
+    private GradeColumn column;
+    // created when the grade book is first viewed, and kept in step with the column from then on: the entries are
+    // in the same order as the grades in the column, so the position of an entry is the rank of its grade
+    private ViewedEntries viewedEntries;
+    private ObservableList<GradeEntry> unmodifiableViewedEntries;
+
+    /**
+     * Creates an empty grade book with student ordinals of its own, to be replaced by those of its tutorial group
+     * when it is added to one.
+     */
+    public GradeBook() {
+        studentOrdinals = new StudentOrdinals();
+        column = new GradeColumn();
+    }
+
+    /**
+     * Creates a copy of {@code toCopy} that keeps its grades under the same student ordinals.
+     */
+    public GradeBook(GradeBook toCopy) {
+        requireNonNull(toCopy);
+        studentOrdinals = toCopy.studentOrdinals;
+        column = new GradeColumn(toCopy.column);
+    }
 
     /**
-     * Adds a grade to the internal hashmap
+     * Moves the grades of this grade book under {@code studentOrdinals}, those of the tutorial group it belongs to.
+     * Does nothing if the grades are already kept under them.
+     */
+    public void useStudentOrdinals(StudentOrdinals studentOrdinals) {
+        requireNonNull(studentOrdinals);
+        if (studentOrdinals == this.studentOrdinals) {
+            return;
+        }
+        GradeColumn moved = new GradeColumn();
+        column.forEachInOrder(ordinal ->
+                moved.put(studentOrdinals.of(this.studentOrdinals.getStudentId(ordinal)), column.get(ordinal)));
+        this.studentOrdinals = studentOrdinals;
+        column = moved;
+        if (viewedEntries != null) {
+            // grades with the same marks are ordered by ordinal, which may have changed
+            viewedEntries.setAll(stream().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Adds a grade to this grade book, replacing the student's previous grade if any.
      * @param stId the student ID.
      * @param grade the grade value
      */
     public void addGrade(StudentId stId, Double grade) {
-        internalMap.put(stId, new GradeEntry(stId, grade));
+        int ordinal = studentOrdinals.of(stId);
+        if (viewedEntries == null) {
+            column.put(ordinal, grade);
+            return;
+        }
+        int oldRank = column.has(ordinal) ? column.rankOf(ordinal) : -1;
+        column.put(ordinal, grade);
+        int rank = column.rankOf(ordinal);
+        GradeEntry entry = new GradeEntry(stId, grade);
+        if (oldRank == -1) {
+            viewedEntries.add(rank, entry);
+        } else if (rank == oldRank) {
+            viewedEntries.set(rank, entry);
+        } else {
+            viewedEntries.move(oldRank, rank, entry);
+        }
     }
 
     /**
      * Gets a grade for a student
      * @param stId the student ID.
-     * @return his grade for this assignment
+     * @return his grade for this assignment, or null if he has none.
      */
     public Double getGradeFor(StudentId stId) {
-        return internalMap.get(stId).marks;
+        int ordinal = studentOrdinals.find(stId);
+        return column.has(ordinal) ? column.get(ordinal) : null;
+    }
+
+    /**
+     * Removes the grade for a student, if present.
+     * @param stId the student ID.
+     */
+    public void removeGrade(StudentId stId) {
+        int ordinal = studentOrdinals.find(stId);
+        if (!column.has(ordinal)) {
+            return;
+        }
+        int rank = viewedEntries != null ? column.rankOf(ordinal) : -1;
+        column.remove(ordinal);
+        if (viewedEntries != null) {
+            viewedEntries.remove(rank);
+        }
+    }
+
+    /**
+     * Checks if a student has a grade in this grade book.
+     * @param stId the student ID.
+     */
+    public boolean hasGradeFor(StudentId stId) {
+        return column.has(studentOrdinals.find(stId));
+    }
+
+    /**
+     * Returns the number of grades in this grade book.
+     */
+    public int size() {
+        return column.size();
     }
 
     /**
@@ -41,7 +139,7 @@ public class GradeBook {
      * @param student the student who we want to check.
      */
     public boolean isStudentIn(Student student) {
-        return internalMap.containsKey(student.getStudentId());
+        return hasGradeFor(student.getStudentId());
     }
 
     /**
@@ -49,64 +147,126 @@ public class GradeBook {
      * @param student the student who we want its reference removed from.
      */
     public void removeStudentReference(Student student) {
-        if (isStudentIn(student)) {
-            internalMap.remove(student.getStudentId());
-        }
+        removeGrade(student.getStudentId());
     }
 
     /**
-     * Returns the average for this grade book.
+     * Returns the average for this grade book, or 0 if it has no grades.
      */
     public double getAverage() {
-        double total = 0;
-        for (GradeEntry entry : internalMap.values()) {
-            total += entry.marks;
-        }
-        return total / Math.max(1, internalMap.size());
+        return column.getMean();
     }
 
     /**
-     * Returns the median for this grade book.
+     * Returns the median for this grade book, or 0 if it has no grades.
+     * With an even number of grades, this is the higher of the two middle grades.
      */
     public double getMedian() {
-        if (internalMap.size() == 0) {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the lowest grade such that more than {@code percent} percent of the grades are not greater than it,
+     * or the highest grade if there is none. Returns 0 if this grade book has no grades.
+     * @param percent a number from 0 to 100.
+     */
+    public double getPercentile(double percent) {
+        checkArgument(percent >= 0 && percent <= 100, MESSAGE_PERCENTILE_CONSTRAINTS);
+        if (column.size() == 0) {
             return 0;
         }
-        int mid = internalMap.size() / 2;
-        List<GradeEntry> entries = new ArrayList<>(internalMap.values());
-        entries.sort(new Comparator<GradeEntry>() {
-            @Override
-            public int compare(GradeEntry o1, GradeEntry o2) {
-                return ((Double) (o1.marks - o2.marks)).intValue();
-            }
-        });
-        return entries.get(mid).marks;
+        int rank = (int) Math.min(column.size() - 1, Math.floor(percent * column.size() / 100));
+        return column.getMarksAt(rank);
+    }
+
+    /**
+     * Returns the population standard deviation of the grades in this grade book, or 0 if it has no grades.
+     */
+    public double getStandardDeviation() {
+        return column.getStandardDeviation();
     }
 
     /**
-     * Method to streamify this object. Also, orders it in lexicographical order of Student IDs.
-     * @return a Stream of entries in lexicographical order.
+     * Returns the lowest grade in this grade book, or 0 if it has no grades.
+     */
+    public double getMin() {
+        return getPercentile(0);
+    }
+
+    /**
+     * Returns the highest grade in this grade book, or 0 if it has no grades.
+     */
+    public double getMax() {
+        return getPercentile(100);
+    }
+
+    /**
+     * Method to streamify this object. Orders the entries in ascending order of marks.
+     * @return a Stream of entries in ascending order of marks.
      */
     public Stream<GradeEntry> stream() {
-        return internalMap.values().stream()
-            .sorted(Comparator.comparing(o -> o.marks));
+        List<GradeEntry> entries = new ArrayList<>(column.size());
+        column.forEachInOrder(ordinal ->
+                entries.add(new GradeEntry(studentOrdinals.getStudentId(ordinal), column.get(ordinal))));
+        return entries.stream();
     }
 
     /**
-     * Returns an unmodifiable view of this gradebook.
+     * Returns an unmodifiable view of this gradebook, in ascending order of marks like {@link #stream()}.
+     * The same view is returned every time, so that listeners added to it stay attached.
      */
     public ObservableList<GradeEntry> asUnmodifiableObservableList() {
-        ObservableList<GradeEntry> list = FXCollections.observableArrayList();
-        list.addAll(internalMap.values());
-        internalMap.addListener((MapChangeListener<? super StudentId, ? super GradeEntry>) change -> {
-            if (change.wasAdded()) {
-                list.add(change.getValueAdded());
-            }
-            if (change.wasRemoved()) {
-                list.remove(change.getValueRemoved());
+        if (viewedEntries == null) {
+            viewedEntries = new ViewedEntries();
+            viewedEntries.addAll(stream().collect(Collectors.toList()));
+            unmodifiableViewedEntries = FXCollections.unmodifiableObservableList(viewedEntries);
+        }
+        return unmodifiableViewedEntries;
+    }
+
+    /**
+     * The entries of a grade book that has been viewed, which can also move an entry as a single change.
+     */
+    private static class ViewedEntries extends ModifiableObservableListBase<GradeEntry> {
+        private final List<GradeEntry> entries = new ArrayList<>();
+
+        /**
+         * Removes the entry at {@code from} and adds {@code entry} at {@code to}, notifying listeners once.
+         */
+        void move(int from, int to, GradeEntry entry) {
+            beginChange();
+            try {
+                remove(from);
+                add(to, entry);
+            } finally {
+                endChange();
             }
-        });
-        return list;
+        }
+
+        @Override
+        public GradeEntry get(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        protected void doAdd(int index, GradeEntry element) {
+            entries.add(index, element);
+        }
+
+        @Override
+        protected GradeEntry doSet(int index, GradeEntry element) {
+            return entries.set(index, element);
+        }
+
+        @Override
+        protected GradeEntry doRemove(int index) {
+            return entries.remove(index);
+        }
     }
 
     @Override
@@ -117,6 +277,17 @@ public class GradeBook {
         if (!(other instanceof GradeBook)) {
             return false;
         }
-        return internalMap.equals(((GradeBook) other).internalMap);
+        GradeBook otherGradeBook = (GradeBook) other;
+        if (studentOrdinals == otherGradeBook.studentOrdinals) {
+            return column.hasSameGradesAs(otherGradeBook.column);
+        }
+        return size() == otherGradeBook.size()
+                && stream().allMatch(entry -> entry.marks.equals(otherGradeBook.getGradeFor(entry.studentId)));
+    }
+
+    @Override
+    public int hashCode() {
+        // a sum, so that it does not depend on the ordinals the grades are kept under
+        return stream().mapToInt(entry -> entry.studentId.hashCode() ^ entry.marks.hashCode()).sum();
     }
 }
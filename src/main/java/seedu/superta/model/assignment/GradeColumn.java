@@ -0,0 +1,300 @@
+package seedu.superta.model.assignment;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+import seedu.superta.model.student.StudentOrdinals;
+
+/**
+ * The grades of one assignment, stored as a column of primitive marks indexed by the {@link StudentOrdinals student
+ * ordinals} of its tutorial group, with a bitset telling which students have a grade. The arrays are only as long as
+ * the highest ordinal graded, so a column costs about 20 bytes for each student its tutorial group has seen.
+ *
+ * The graded students are also kept ordered by marks in a treap whose nodes are the ordinals themselves, with the
+ * links and subtree sizes held in arrays beside the marks. Together with a running mean and sum of squared
+ * deviations, this keeps the statistics of the column up to date as grades are added and removed: adding, removing
+ * and finding the grade of a given rank take O(log n) time on average. Grades with the same marks are ordered by
+ * ordinal.
+ */
+class GradeColumn {
+    private static final int NONE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private double[] marks = new double[0];
+    private int[] left = new int[0];
+    private int[] right = new int[0];
+    private int[] subtreeSize = new int[0];
+    private final BitSet graded = new BitSet();
+
+    private int root = NONE;
+    private int count;
+    private double mean;
+    // sum of the squared differences from the mean, kept with Welford's method so that removals stay accurate
+    private double sumOfSquaredDeviations;
+
+    GradeColumn() {}
+
+    GradeColumn(GradeColumn toCopy) {
+        marks = toCopy.marks.clone();
+        left = toCopy.left.clone();
+        right = toCopy.right.clone();
+        subtreeSize = toCopy.subtreeSize.clone();
+        graded.or(toCopy.graded);
+        root = toCopy.root;
+        count = toCopy.count;
+        mean = toCopy.mean;
+        sumOfSquaredDeviations = toCopy.sumOfSquaredDeviations;
+    }
+
+    boolean has(int ordinal) {
+        return ordinal >= 0 && graded.get(ordinal);
+    }
+
+    /**
+     * Returns the marks of the student with {@code ordinal}, who must have a grade.
+     */
+    double get(int ordinal) {
+        assert has(ordinal);
+        return marks[ordinal];
+    }
+
+    /**
+     * Sets the marks of the student with {@code ordinal}, replacing any grade they had.
+     */
+    void put(int ordinal, double value) {
+        remove(ordinal);
+        ensureCapacity(ordinal + 1);
+        marks[ordinal] = value;
+        left[ordinal] = NONE;
+        right[ordinal] = NONE;
+        subtreeSize[ordinal] = 1;
+        graded.set(ordinal);
+        root = insert(root, ordinal);
+
+        count++;
+        double oldMean = mean;
+        mean += (value - oldMean) / count;
+        sumOfSquaredDeviations += (value - oldMean) * (value - mean);
+    }
+
+    /**
+     * Removes the grade of the student with {@code ordinal}, if any.
+     * @return true if there was a grade to remove.
+     */
+    boolean remove(int ordinal) {
+        if (!has(ordinal)) {
+            return false;
+        }
+        root = delete(root, ordinal);
+        graded.clear(ordinal);
+
+        count--;
+        if (count == 0) {
+            mean = 0;
+            sumOfSquaredDeviations = 0;
+            return true;
+        }
+        double value = marks[ordinal];
+        double oldMean = mean;
+        mean -= (value - oldMean) / count;
+        sumOfSquaredDeviations = Math.max(0, sumOfSquaredDeviations - (value - oldMean) * (value - mean));
+        return true;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the marks, or 0 if there are none.
+     */
+    double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population standard deviation of the marks, or 0 if there are none.
+     */
+    double getStandardDeviation() {
+        return count == 0 ? 0 : Math.sqrt(sumOfSquaredDeviations / count);
+    }
+
+    /**
+     * Returns the marks of the grade at {@code rank}, counting from 0 for the lowest marks.
+     */
+    double getMarksAt(int rank) {
+        assert rank >= 0 && rank < count;
+        int node = root;
+        while (true) {
+            int leftSize = size(left[node]);
+            if (rank < leftSize) {
+                node = left[node];
+            } else if (rank == leftSize) {
+                return marks[node];
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Returns the rank of the grade of the student with {@code ordinal}, who must have a grade, counting from 0 for
+     * the lowest marks.
+     */
+    int rankOf(int ordinal) {
+        assert has(ordinal);
+        int rank = 0;
+        int node = root;
+        while (node != ordinal) {
+            if (compare(ordinal, node) < 0) {
+                node = left[node];
+            } else {
+                rank += size(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        return rank + size(left[node]);
+    }
+
+    /**
+     * Passes the ordinals of the graded students to {@code action} in ascending order of marks.
+     */
+    void forEachInOrder(IntConsumer action) {
+        int[] path = new int[count];
+        int depth = 0;
+        int node = root;
+        while (node != NONE || depth > 0) {
+            while (node != NONE) {
+                path[depth++] = node;
+                node = left[node];
+            }
+            node = path[--depth];
+            action.accept(node);
+            node = right[node];
+        }
+    }
+
+    /**
+     * Returns true if {@code other}, whose ordinals must be the same as those of this column, has grades for the same
+     * students, with the same marks.
+     */
+    boolean hasSameGradesAs(GradeColumn other) {
+        if (!graded.equals(other.graded)) {
+            return false;
+        }
+        for (int ordinal = graded.nextSetBit(0); ordinal >= 0; ordinal = graded.nextSetBit(ordinal + 1)) {
+            if (Double.compare(marks[ordinal], other.marks[ordinal]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= marks.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, Math.max(MIN_CAPACITY, marks.length * 2));
+        marks = Arrays.copyOf(marks, newCapacity);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        subtreeSize = Arrays.copyOf(subtreeSize, newCapacity);
+    }
+
+    private int size(int node) {
+        return node == NONE ? 0 : subtreeSize[node];
+    }
+
+    private void updateSize(int node) {
+        subtreeSize[node] = 1 + size(left[node]) + size(right[node]);
+    }
+
+    private int compare(int first, int second) {
+        int comparison = Double.compare(marks[first], marks[second]);
+        return comparison != 0 ? comparison : Integer.compare(first, second);
+    }
+
+    /**
+     * Returns the treap priority of {@code node}, a fixed scrambling of the ordinal so that no array is needed.
+     */
+    private static int priority(int node) {
+        // finalizer of MurmurHash3
+        int hash = node;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int insert(int node, int toInsert) {
+        if (node == NONE) {
+            return toInsert;
+        }
+        if (compare(toInsert, node) < 0) {
+            left[node] = insert(left[node], toInsert);
+            if (priority(left[node]) > priority(node)) {
+                node = rotateRight(node);
+            }
+        } else {
+            right[node] = insert(right[node], toInsert);
+            if (priority(right[node]) > priority(node)) {
+                node = rotateLeft(node);
+            }
+        }
+        updateSize(node);
+        return node;
+    }
+
+    private int delete(int node, int toDelete) {
+        assert node != NONE : "grade to remove is not in the treap";
+        int comparison = compare(toDelete, node);
+        if (comparison < 0) {
+            left[node] = delete(left[node], toDelete);
+        } else if (comparison > 0) {
+            right[node] = delete(right[node], toDelete);
+        } else {
+            return merge(left[node], right[node]);
+        }
+        updateSize(node);
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every grade of {@code first} comes before every grade of {@code second}.
+     */
+    private int merge(int first, int second) {
+        if (first == NONE) {
+            return second;
+        }
+        if (second == NONE) {
+            return first;
+        }
+        if (priority(first) > priority(second)) {
+            right[first] = merge(right[first], second);
+            updateSize(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        updateSize(second);
+        return second;
+    }
+
+    private int rotateRight(int node) {
+        int newRoot = left[node];
+        left[node] = right[newRoot];
+        right[newRoot] = node;
+        updateSize(node);
+        return newRoot;
+    }
+
+    private int rotateLeft(int node) {
+        int newRoot = right[node];
+        right[node] = left[newRoot];
+        left[newRoot] = node;
+        updateSize(node);
+        return newRoot;
+    }
+}
@@ -3,6 +3,11 @@ package seedu.superta.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.superta.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents an Assignment's title in the SuperTA client.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -17,6 +22,8 @@ public class Title {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String TITLE_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern TITLE_VALIDATION_PATTERN = Pattern.compile(TITLE_VALIDATION_REGEX);
+    private static final Interner<Title> INTERNER = Interners.newWeakInterner();
 
     public final String assignmentTitle;
 
@@ -31,11 +38,18 @@ public class Title {
         assignmentTitle = title;
     }
 
+    /**
+     * Returns the interned {@code Title} for {@code title}.
+     */
+    public static Title of(String title) {
+        return INTERNER.intern(new Title(title));
+    }
+
     /**
      * Returns true if a given string is a valid title.
      */
     public static boolean isValidTitle(String test) {
-        return test.matches(TITLE_VALIDATION_REGEX);
+        return TITLE_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
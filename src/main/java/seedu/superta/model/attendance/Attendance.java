@@ -2,6 +2,8 @@ package seedu.superta.model.attendance;
 
 import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
+
 import seedu.superta.model.student.StudentId;
 
 // @@author triger15
@@ -73,6 +75,11 @@ public class Attendance {
                 && otherAttendance.getPresence().equals(getPresence());
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(stId, presence);
+    }
+
     @Override
     public String toString() {
         return stId + " " + presence;
@@ -1,8 +1,12 @@
 package seedu.superta.model.attendance;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -10,17 +14,27 @@ import java.util.stream.Collectors;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
-import javafx.collections.SetChangeListener;
 import seedu.superta.model.attendance.exceptions.DuplicateAttendanceException;
 import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentOrdinals;
 
 /**
  * Represents a Session class in the client.
- *
+ * Attendance is kept as one bitset per {@code Presence} over the {@link StudentOrdinals student ordinals} of the
+ * tutorial group the session belongs to, so marking, checking and removing a student's attendance take constant time
+ * and sessions of the same tutorial group are compared a word at a time. {@code Attendance} objects are only created
+ * when the attendance is read or viewed.
  */
 public class Session {
     private final String name;
-    private final ObservableSet<Attendance> internalSet = FXCollections.observableSet();
+    private StudentOrdinals studentOrdinals;
+    private final Map<Presence, BitSet> attendance = new EnumMap<>(Presence.class);
+    // created when the session is first viewed, and kept in step with the bitsets from then on
+    private ObservableSet<Attendance> viewedAttendance;
+    private ObservableSet<Attendance> unmodifiableViewedAttendance;
+    private ObservableList<Attendance> viewedAttendanceList;
+    private ObservableList<Attendance> unmodifiableViewedAttendanceList;
 
     /**
      * Constructs an {@code Session}.
@@ -30,14 +44,18 @@ public class Session {
     public Session(String name) {
         requireNonNull(name);
         this.name = name;
+        // replaced by the ordinals of the tutorial group when the session is added to one
+        this.studentOrdinals = new StudentOrdinals();
+        for (Presence presence : Presence.values()) {
+            attendance.put(presence, new BitSet());
+        }
     }
 
     public Session(Session toClone) {
         requireNonNull(toClone);
         this.name = toClone.name;
-        toClone.internalSet.stream().map(Attendance::new).forEach(attendance -> {
-            internalSet.add(attendance);
-        });
+        this.studentOrdinals = toClone.studentOrdinals;
+        toClone.attendance.forEach((presence, students) -> attendance.put(presence, (BitSet) students.clone()));
     }
 
     /**
@@ -47,10 +65,10 @@ public class Session {
      * @param attendanceList A valid attendance list.
      */
     public Session(String name, Set<Attendance> attendanceList) {
-        requireAllNonNull(name, attendanceList);
-        this.name = name;
+        this(name);
+        requireNonNull(attendanceList);
         for (Attendance attendance: attendanceList) {
-            internalSet.add(new Attendance(attendance));
+            addToSession(attendance);
         }
     }
 
@@ -59,36 +77,91 @@ public class Session {
      */
     public boolean contains(Attendance toCheck) {
         requireNonNull(toCheck);
-        return internalSet.stream().anyMatch(toCheck::isSameAttendance);
+        return getPresence(studentOrdinals.find(toCheck.getStudentId())).isPresent();
+    }
+
+    /**
+     * Returns true if attendance is recorded in this session for the student with {@code stId}.
+     */
+    public boolean hasAttendanceFor(StudentId stId) {
+        requireNonNull(stId);
+        return getPresence(studentOrdinals.find(stId)).isPresent();
     }
 
     public String getSessionName() {
         return name;
     }
 
+    /**
+     * Returns the number of students whose attendance is recorded in this session.
+     */
+    public int size() {
+        return attendance.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+
+    /**
+     * Returns the number of students with the given {@code presence} in this session.
+     */
+    public int count(Presence presence) {
+        requireNonNull(presence);
+        return attendance.get(presence).cardinality();
+    }
+
+    /**
+     * Returns the attendance recorded in this session, in a set that is not kept in step with the session.
+     */
+    public Set<Attendance> getAttendance() {
+        Set<Attendance> attendances = new LinkedHashSet<>();
+        attendance.forEach((presence, students) -> {
+            for (int ordinal = students.nextSetBit(0); ordinal >= 0; ordinal = students.nextSetBit(ordinal + 1)) {
+                attendances.add(new Attendance(studentOrdinals.getStudentId(ordinal), presence));
+            }
+        });
+        return attendances;
+    }
+
     /**
      * Returns the backing set as an unmodifiable {@code ObservableSet}.
+     * The same view is returned every time, so that listeners added to it stay attached.
      */
     public ObservableSet<Attendance> asUnmodifiableObservableSet() {
-        return FXCollections.unmodifiableObservableSet(internalSet);
+        if (viewedAttendance == null) {
+            viewedAttendance = FXCollections.observableSet(getAttendance());
+            unmodifiableViewedAttendance = FXCollections.unmodifiableObservableSet(viewedAttendance);
+        }
+        return unmodifiableViewedAttendance;
     }
 
     /**
      * Returns an unmodifiable observable list representation of the attendance set.
+     * The same view is returned every time, so that listeners added to it stay attached.
      */
     public ObservableList<Attendance> asUnmodifiableObservableList() {
-        ObservableList<Attendance> list = FXCollections.observableList(internalSet.stream().collect(
-                Collectors.toList()
-        ));
-        internalSet.addListener((SetChangeListener<? super Attendance>) change -> {
-            if (change.wasAdded()) {
-                list.add(change.getElementAdded());
-            }
-            if (change.wasRemoved()) {
-                list.remove(change.getElementRemoved());
+        if (viewedAttendanceList == null) {
+            viewedAttendanceList = FXCollections.observableArrayList(getAttendance());
+            unmodifiableViewedAttendanceList = FXCollections.unmodifiableObservableList(viewedAttendanceList);
+        }
+        return unmodifiableViewedAttendanceList;
+    }
+
+    /**
+     * Moves the attendance of this session under {@code studentOrdinals}, those of the tutorial group it belongs to.
+     * Does nothing if the attendance is already kept under them.
+     */
+    public void useStudentOrdinals(StudentOrdinals studentOrdinals) {
+        requireNonNull(studentOrdinals);
+        if (studentOrdinals == this.studentOrdinals) {
+            return;
+        }
+        for (Map.Entry<Presence, BitSet> entry : attendance.entrySet()) {
+            BitSet students = entry.getValue();
+            BitSet moved = new BitSet();
+            for (int ordinal = students.nextSetBit(0); ordinal >= 0; ordinal = students.nextSetBit(ordinal + 1)) {
+                moved.set(studentOrdinals.of(this.studentOrdinals.getStudentId(ordinal)));
             }
-        });
-        return list;
+            entry.setValue(moved);
+        }
+        this.studentOrdinals = studentOrdinals;
     }
 
     /**
@@ -100,7 +173,14 @@ public class Session {
         if (contains(attendance)) {
             throw new DuplicateAttendanceException();
         }
-        return internalSet.add(attendance);
+        this.attendance.get(attendance.getPresence()).set(studentOrdinals.of(attendance.getStudentId()));
+        if (viewedAttendance != null) {
+            viewedAttendance.add(attendance);
+        }
+        if (viewedAttendanceList != null) {
+            viewedAttendanceList.add(attendance);
+        }
+        return true;
     }
 
     /**
@@ -120,13 +200,33 @@ public class Session {
      * Remove student references.
      */
     public boolean removeStudent(Student target) {
-        Optional<Attendance> optional = internalSet.stream()
-                .filter(attendance -> attendance.getStudentId().equals(target.getStudentId())).findAny();
-        if (optional.isPresent()) {
-            return internalSet.remove(optional.get());
-        } else {
+        int ordinal = studentOrdinals.find(target.getStudentId());
+        Optional<Presence> presence = getPresence(ordinal);
+        if (!presence.isPresent()) {
             return false;
         }
+        attendance.get(presence.get()).clear(ordinal);
+        Attendance removed = new Attendance(target.getStudentId(), presence.get());
+        if (viewedAttendance != null) {
+            viewedAttendance.remove(removed);
+        }
+        if (viewedAttendanceList != null) {
+            viewedAttendanceList.remove(removed);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the presence recorded for the student with {@code ordinal}, if any.
+     */
+    private Optional<Presence> getPresence(int ordinal) {
+        if (ordinal == StudentOrdinals.NONE) {
+            return Optional.empty();
+        }
+        return attendance.entrySet().stream()
+                .filter(entry -> entry.getValue().get(ordinal))
+                .map(Map.Entry::getKey)
+                .findFirst();
     }
 
     /**
@@ -144,17 +244,24 @@ public class Session {
         }
 
         Session otherSession = (Session) other;
-        boolean isSetEqual = otherSession.internalSet.size() == internalSet.size();
-        for (Attendance attendance: internalSet) {
-            isSetEqual = isSetEqual && otherSession.contains(attendance);
+        if (!otherSession.getSessionName().equals(getSessionName())) {
+            return false;
+        }
+        if (otherSession.studentOrdinals == studentOrdinals) {
+            return otherSession.attendance.equals(attendance);
         }
-        return otherSession.getSessionName().equals(getSessionName())
-                && isSetEqual;
+        return otherSession.getAttendance().equals(getAttendance());
+    }
+
+    @Override
+    public int hashCode() {
+        // the hash of a set does not depend on the ordinals the attendance is kept under
+        return Objects.hash(name, getAttendance());
     }
 
     @Override
     public String toString() {
         return "[Session] " + name + ": "
-            + internalSet.stream().map(att -> att.toString()).collect(Collectors.joining(", "));
+            + getAttendance().stream().map(att -> att.toString()).collect(Collectors.joining(", "));
     }
 }
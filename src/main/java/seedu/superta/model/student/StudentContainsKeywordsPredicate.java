@@ -0,0 +1,83 @@
+package seedu.superta.model.student;
+
+import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.superta.model.student.StudentTokenIndex.Field;
+
+/**
+ * Tests that any of a {@code Student}'s {@code Name}, {@code Phone}, {@code Email} or {@code StudentId} matches
+ * any of the keywords given for that field. A keyword matches a whole word, a prefix of a word or a similar word,
+ * as described in {@link StudentTokenIndex#getStudentsMatching(Field, String)}.
+ *
+ * The predicate can be resolved against a {@link StudentTokenIndex} with {@link #using(StudentTokenIndex)}, so that
+ * the matching students are looked up once instead of being tested one by one.
+ */
+public class StudentContainsKeywordsPredicate implements Predicate<Student> {
+    private final Map<Field, List<String>> keywords = new EnumMap<>(Field.class);
+
+    public StudentContainsKeywordsPredicate(List<String> nameKeywords, List<String> phoneKeywords,
+                                            List<String> emailKeywords, List<String> studentIdKeywords) {
+        requireAllNonNull(nameKeywords, phoneKeywords, emailKeywords, studentIdKeywords);
+        keywords.put(Field.NAME, nameKeywords);
+        keywords.put(Field.PHONE, phoneKeywords);
+        keywords.put(Field.EMAIL, emailKeywords);
+        keywords.put(Field.STUDENT_ID, studentIdKeywords);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return keywords.entrySet().stream()
+                .anyMatch(entry -> entry.getValue().stream()
+                        .anyMatch(keyword -> StudentTokenIndex.matches(student, entry.getKey(), keyword)));
+    }
+
+    /**
+     * Returns an equivalent predicate that tests whether a student is among those found in {@code index}.
+     * The students are found again only when {@code index} has changed since they were last found.
+     */
+    public Predicate<Student> using(StudentTokenIndex index) {
+        return new Predicate<Student>() {
+            private Set<Student> matches;
+            private long matchesModificationCount;
+
+            @Override
+            public boolean test(Student student) {
+                if (matches == null || matchesModificationCount != index.getModificationCount()) {
+                    matches = findMatches(index);
+                    matchesModificationCount = index.getModificationCount();
+                }
+                return matches.contains(student);
+            }
+        };
+    }
+
+    /**
+     * Returns the union of the students in {@code index} whose fields contain any of the keywords.
+     */
+    private Set<Student> findMatches(StudentTokenIndex index) {
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach((field, fieldKeywords) ->
+                fieldKeywords.forEach(keyword -> matches.addAll(index.getStudentsMatching(field, keyword))));
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((StudentContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
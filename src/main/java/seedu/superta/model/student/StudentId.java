@@ -3,6 +3,11 @@ package seedu.superta.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.superta.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a Student's Student ID in the SuperTA client.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
@@ -11,6 +16,8 @@ public class StudentId {
     public static final String MESSAGE_STUDENT_ID_CONSTRAINTS = "Student IDs should follow the NUS "
             + "Student Card number.";
     private static final String STUDENT_ID_VALIDATION_REGEX = "[A-Z](\\d){7}[A-Z]";
+    private static final Pattern STUDENT_ID_VALIDATION_PATTERN = Pattern.compile(STUDENT_ID_VALIDATION_REGEX);
+    private static final Interner<StudentId> INTERNER = Interners.newWeakInterner();
     public final String studentId;
 
     /**
@@ -25,11 +32,18 @@ public class StudentId {
         this.studentId = studentId;
     }
 
+    /**
+     * Returns the one {@code StudentId} shared by every student with this ID.
+     */
+    public static StudentId of(String studentId) {
+        return INTERNER.intern(new StudentId(studentId));
+    }
+
     /**
      * Returns true if a given string is a valid student ID.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(STUDENT_ID_VALIDATION_REGEX);
+        return STUDENT_ID_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
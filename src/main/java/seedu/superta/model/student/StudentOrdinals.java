@@ -0,0 +1,78 @@
+package seedu.superta.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives the student IDs seen by one tutorial group small, dense ordinals, so that the per-student data of the group
+ * can be kept in primitive arrays indexed by ordinal instead of in maps keyed by {@code StudentId}. Arrays indexed
+ * by these ordinals are only as long as the number of students the group has seen.
+ *
+ * Ordinals are handed out in the order student IDs are first seen and are never reused, so an ordinal stays valid
+ * for as long as the ordinals are. As ordinals are only ever added, one {@code StudentOrdinals} can be shared by a
+ * tutorial group and its copies, some of which may be read on other threads: looking up an ordinal or a student ID
+ * takes no lock, and only handing out a new ordinal does.
+ */
+public class StudentOrdinals {
+    /** Returned by {@link #find(StudentId)} for student IDs that have no ordinal yet. */
+    public static final int NONE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<StudentId, Integer> ordinals = new ConcurrentHashMap<>();
+    private volatile StudentId[] studentIds = new StudentId[0];
+    private int size;
+
+    /**
+     * Returns the ordinal of {@code studentId}, giving it the next ordinal if it has none yet.
+     */
+    public int of(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer ordinal = ordinals.get(studentId);
+        return ordinal != null ? ordinal : add(studentId);
+    }
+
+    private synchronized int add(StudentId studentId) {
+        Integer existing = ordinals.get(studentId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = size++;
+        StudentId[] ids = studentIds;
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(MIN_CAPACITY, ids.length * 2));
+            ids[ordinal] = studentId;
+            studentIds = ids;
+        } else {
+            ids[ordinal] = studentId;
+        }
+        // published after the student ID, so that an ordinal that can be found can also be resolved
+        ordinals.put(studentId, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the ordinal of {@code studentId}, or {@link #NONE} if it has none yet.
+     */
+    public int find(StudentId studentId) {
+        requireNonNull(studentId);
+        return ordinals.getOrDefault(studentId, NONE);
+    }
+
+    /**
+     * Returns the student ID with the given {@code ordinal}, which must have been handed out by these ordinals.
+     */
+    public StudentId getStudentId(int ordinal) {
+        return studentIds[ordinal];
+    }
+
+    /**
+     * Returns the number of ordinals handed out so far.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+}
@@ -0,0 +1,337 @@
+package seedu.superta.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the words in the name, phone, email and student ID of students to those students.
+ * Words are matched ignoring case, so that looking up a word gives the students whose field contains it, as
+ * {@link seedu.superta.commons.util.StringUtil#containsWordIgnoreCase(String, String)} would find them.
+ *
+ * The words of each field are kept sorted, so that the words starting with a prefix are found without looking at
+ * the others. The words of names and student IDs are also indexed by their trigrams, so that words similar to a
+ * misspelt keyword are found without comparing it with every word.
+ *
+ * The index is kept in sync by {@link UniqueStudentList}, and students are told apart by reference, as they are
+ * in that list.
+ */
+public class StudentTokenIndex {
+
+    /**
+     * The fields of a student that are indexed.
+     */
+    public enum Field {
+        NAME, PHONE, EMAIL, STUDENT_ID
+    }
+
+    /** A keyword ending with this matches the words that start with the rest of the keyword. */
+    public static final String PREFIX_WILDCARD = "*";
+    /** A keyword ending with this matches the words that are a few typing errors away from the rest of it. */
+    public static final String SIMILAR_WILDCARD = "~";
+
+    private static final Set<Field> FIELDS_WITH_TRIGRAMS = EnumSet.of(Field.NAME, Field.STUDENT_ID);
+    private static final String TRIGRAM_PADDING = "  ";
+
+    private final Map<Field, NavigableMap<String, Set<Student>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<String>>> trigrams = new EnumMap<>(Field.class);
+    private long modificationCount;
+
+    StudentTokenIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new TreeMap<>());
+            trigrams.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the students whose {@code field} contains {@code keyword} as a whole word, ignoring case.
+     * The returned set is a read-only view that changes with the index.
+     */
+    public Set<Student> getStudentsWith(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        Set<Student> students = postings.get(field).get(normalize(keyword));
+        return students == null ? Collections.emptySet() : Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns the students whose {@code field} contains a word that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Student> getStudentsWithPrefix(Field field, String prefix) {
+        requireNonNull(field);
+        requireNonNull(prefix);
+        String normalizedPrefix = normalize(prefix);
+        Set<Student> students = newStudentSet();
+        postings.get(field).subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, true)
+                .values().forEach(students::addAll);
+        return students;
+    }
+
+    /**
+     * Returns the students whose {@code field} contains a word that is at most
+     * {@link #getMaxTypingErrors(Field, String)} typing errors away from {@code keyword}, ignoring case. A typing
+     * error is a missing, extra or wrong character, or two adjacent characters that are swapped.
+     * Only names and student IDs can be searched this way; for the other fields, only the word itself is matched.
+     */
+    public Set<Student> getStudentsSimilarTo(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        if (!FIELDS_WITH_TRIGRAMS.contains(field)) {
+            return getStudentsWith(field, keyword);
+        }
+
+        String normalizedKeyword = normalize(keyword);
+        int maxTypingErrors = getMaxTypingErrors(field, normalizedKeyword);
+        Map<String, Set<String>> fieldTrigrams = trigrams.get(field);
+        List<Set<String>> trigramPostings = getTrigrams(normalizedKeyword).stream()
+                .map(trigram -> fieldTrigrams.getOrDefault(trigram, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        // Each typing error changes at most four of the trigrams of a word, so a similar word shares all but
+        // 4 * maxTypingErrors of the trigrams of the keyword, and is among the words with one of the
+        // 4 * maxTypingErrors + 1 rarest of them.
+        int minSharedTrigrams = trigramPostings.size() - 4 * maxTypingErrors;
+
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            candidates = postings.get(field).keySet();
+        } else {
+            candidates = new HashSet<>();
+            for (Set<String> rareTrigramPosting : trigramPostings.subList(0, 4 * maxTypingErrors + 1)) {
+                for (String token : rareTrigramPosting) {
+                    if (!candidates.contains(token) && countContaining(trigramPostings, token) >= minSharedTrigrams) {
+                        candidates.add(token);
+                    }
+                }
+            }
+        }
+
+        Set<Student> students = newStudentSet();
+        for (String token : candidates) {
+            if (getTypingErrors(normalizedKeyword, token, maxTypingErrors) <= maxTypingErrors) {
+                students.addAll(postings.get(field).get(token));
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students whose {@code field} matches {@code keyword}: by prefix if it ends with
+     * {@link #PREFIX_WILDCARD}, by similarity if it ends with {@link #SIMILAR_WILDCARD}, and as a whole word otherwise.
+     */
+    public Set<Student> getStudentsMatching(Field field, String keyword) {
+        requireNonNull(keyword);
+        if (keyword.endsWith(PREFIX_WILDCARD)) {
+            return getStudentsWithPrefix(field, stripWildcard(keyword));
+        }
+        if (keyword.endsWith(SIMILAR_WILDCARD)) {
+            return getStudentsSimilarTo(field, stripWildcard(keyword));
+        }
+        return getStudentsWith(field, keyword);
+    }
+
+    /**
+     * Returns a number that changes every time a student is added to or removed from the index.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns true if {@code field} of {@code student} matches {@code keyword}, as
+     * {@link #getStudentsMatching(Field, String)} would find it.
+     */
+    public static boolean matches(Student student, Field field, String keyword) {
+        boolean isPrefix = keyword.endsWith(PREFIX_WILDCARD);
+        boolean isSimilar = keyword.endsWith(SIMILAR_WILDCARD) && FIELDS_WITH_TRIGRAMS.contains(field);
+        String normalizedKeyword = normalize(isPrefix || keyword.endsWith(SIMILAR_WILDCARD)
+                ? stripWildcard(keyword) : keyword);
+        int maxTypingErrors = getMaxTypingErrors(field, normalizedKeyword);
+
+        for (String token : getValue(student, field).split("\\s+")) {
+            String normalizedToken = normalize(token);
+            if (isPrefix ? normalizedToken.startsWith(normalizedKeyword)
+                    : isSimilar ? getTypingErrors(normalizedKeyword, normalizedToken, maxTypingErrors)
+                            <= maxTypingErrors
+                    : normalizedToken.equals(normalizedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of typing errors allowed for {@code keyword} to still match a word in {@code field}.
+     * Student IDs differ from each other in a few digits, so only one typing error is allowed in them.
+     */
+    public static int getMaxTypingErrors(Field field, String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 6 || field == Field.STUDENT_ID ? 1 : 2;
+    }
+
+    void add(Student student) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Student>> fieldPostings = postings.get(field);
+            for (String token : getValue(student, field).split("\\s+")) {
+                String normalizedToken = normalize(token);
+                Set<Student> students = fieldPostings.get(normalizedToken);
+                if (students == null) {
+                    students = newStudentSet();
+                    fieldPostings.put(normalizedToken, students);
+                    addTrigrams(field, normalizedToken);
+                }
+                students.add(student);
+            }
+        }
+        modificationCount++;
+    }
+
+    void remove(Student student) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Student>> fieldPostings = postings.get(field);
+            for (String token : getValue(student, field).split("\\s+")) {
+                String normalizedToken = normalize(token);
+                Set<Student> students = fieldPostings.get(normalizedToken);
+                if (students != null && students.remove(student) && students.isEmpty()) {
+                    fieldPostings.remove(normalizedToken);
+                    removeTrigrams(field, normalizedToken);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with {@code students}.
+     */
+    void setAll(Iterable<Student> students) {
+        postings.values().forEach(Map::clear);
+        trigrams.values().forEach(Map::clear);
+        students.forEach(this::add);
+        modificationCount++;
+    }
+
+    private void addTrigrams(Field field, String token) {
+        if (FIELDS_WITH_TRIGRAMS.contains(field)) {
+            Map<String, Set<String>> fieldTrigrams = trigrams.get(field);
+            getTrigrams(token).forEach(trigram -> fieldTrigrams.computeIfAbsent(trigram, unused -> new HashSet<>())
+                    .add(token));
+        }
+    }
+
+    private void removeTrigrams(Field field, String token) {
+        if (FIELDS_WITH_TRIGRAMS.contains(field)) {
+            Map<String, Set<String>> fieldTrigrams = trigrams.get(field);
+            for (String trigram : getTrigrams(token)) {
+                Set<String> tokens = fieldTrigrams.get(trigram);
+                if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                    fieldTrigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static int countContaining(List<Set<String>> sets, String element) {
+        int count = 0;
+        for (Set<String> set : sets) {
+            if (set.contains(element)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded so that even words of a single character have some.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> wordTrigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            wordTrigrams.add(padded.substring(i, i + 3));
+        }
+        return wordTrigrams;
+    }
+
+    /**
+     * Returns the number of typing errors between {@code first} and {@code second}, or any number greater than
+     * {@code limit} if there are more than {@code limit} of them.
+     */
+    private static int getTypingErrors(String first, String second, int limit) {
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+
+        // distances[i][j] is the number of typing errors between the first i characters of first and the first j
+        // characters of second
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int rowMinimum = Integer.MAX_VALUE;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, distances[i - 2][j - 2] + 1);
+                }
+                distances[i][j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    private static String stripWildcard(String keyword) {
+        return keyword.substring(0, keyword.length() - 1);
+    }
+
+    private static Set<Student> newStudentSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static String getValue(Student student, Field field) {
+        switch (field) {
+        case NAME:
+            return student.getName().fullName;
+        case PHONE:
+            return student.getPhone().value;
+        case EMAIL:
+            return student.getEmail().value;
+        case STUDENT_ID:
+            return student.getStudentId().studentId;
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
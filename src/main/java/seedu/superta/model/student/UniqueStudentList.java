@@ -3,9 +3,16 @@ package seedu.superta.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +27,14 @@ import seedu.superta.model.student.exceptions.StudentNotFoundException;
  * However, the removal of a student uses Student#equals(Object) so as to ensure that
  * the student with exactly the same fields will be removed.
  *
+ * Students are additionally indexed by their {@code StudentId}, so that lookups, membership checks and removals
+ * by ID do not need to scan the whole list (the list does not require IDs to be unique, so each ID maps to every
+ * student holding it), by their identity, so that checking for a student with the same identity
+ * does not either, and, once the list is first searched, by the words in their fields
+ * (see {@link StudentTokenIndex}).
+ * The indexes are kept in sync by every operation that mutates the list, and are updated before the list itself
+ * so that listeners of the list already see the updated indexes.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -27,13 +42,21 @@ import seedu.superta.model.student.exceptions.StudentNotFoundException;
 public class UniqueStudentList implements Iterable<Student> {
 
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private final Map<StudentId, List<Student>> idIndex = new HashMap<>();
+    // two students have the same identity if they share a name and either a phone or an email, and no two students
+    // in the list do, so every (name, phone) and (name, email) pair belongs to at most one student
+    private final Map<List<Object>, Student> nameWithPhoneIndex = new HashMap<>();
+    private final Map<List<Object>, Student> nameWithEmailIndex = new HashMap<>();
+    // built on first use, since most lists, such as those of tutorial groups and their copies, are never searched
+    private StudentTokenIndex tokenIndex;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return nameWithPhoneIndex.containsKey(nameWithPhone(toCheck))
+                || nameWithEmailIndex.containsKey(nameWithEmail(toCheck));
     }
 
     /**
@@ -41,7 +64,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsId(StudentId toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(s -> s.hasSameId(toCheck));
+        return idIndex.containsKey(toCheck);
     }
 
     /**
@@ -53,9 +76,36 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a student to the list at {@code index}.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        addToIndex(toAdd);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the students may already exist in the list, and no two of them may be the same student.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!studentsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateStudentException();
+        }
+        toAdd.forEach(this::addToIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -69,10 +119,14 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new StudentNotFoundException();
         }
 
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+        Student current = internalList.get(index);
+        if (isHeldByOther(nameWithPhoneIndex.get(nameWithPhone(editedStudent)), current)
+                || isHeldByOther(nameWithEmailIndex.get(nameWithEmail(editedStudent)), current)) {
             throw new DuplicateStudentException();
         }
 
+        removeFromIndex(current);
+        addToIndex(editedStudent);
         internalList.set(index, editedStudent);
     }
 
@@ -82,37 +136,72 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        removeFromIndex(internalList.remove(index));
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list as a single change to the list.
+     * Every one of the students must exist in the list.
+     */
+    public void removeAll(Collection<Student> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Student> studentsToRemove = new HashSet<>(toRemove);
+        for (Student student : studentsToRemove) {
+            if (!student.equals(nameWithPhoneIndex.get(nameWithPhone(student)))) {
+                throw new StudentNotFoundException();
+            }
+        }
+        studentsToRemove.forEach(this::removeFromIndex);
+        internalList.removeAll(studentsToRemove);
     }
 
     /**
-     * Removes a student with the specified ID.
+     * Removes every student with the specified ID.
      */
     public boolean removeStudentWithId(StudentId toRemove) {
-        boolean isPresent = internalList.stream().anyMatch(student -> student.getStudentId().equals(toRemove));
-        if (!isPresent) {
+        List<Student> students = idIndex.get(toRemove);
+        if (students == null) {
             return false;
         }
-        return internalList.removeIf(student -> student.getStudentId().equals(toRemove));
+        List<Student> studentsToRemove = new ArrayList<>(students);
+        studentsToRemove.forEach(this::removeFromIndex);
+        if (studentsToRemove.size() == 1) {
+            internalList.remove(studentsToRemove.get(0));
+        } else {
+            internalList.removeAll(studentsToRemove);
+        }
+        return true;
     }
 
     /**
      * Remove student by their Student ID reference.
+     * Only the first student in the list with that ID is removed.
      */
     public boolean removeById(Student toRemove) {
         requireNonNull(toRemove);
-        Optional<Student> result = internalList.stream()
-                .filter(student -> student.isSameId(toRemove)).findFirst();
-        if (!result.isPresent()) {
+        Optional<Student> student = getStudentWithId(toRemove.getStudentId());
+        if (!student.isPresent()) {
             return false;
         }
-        return internalList.remove(result.get());
+        removeFromIndex(student.get());
+        return internalList.remove(student.get());
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        idIndex.clear();
+        copyIdIndex(replacement, this);
+        nameWithPhoneIndex.clear();
+        nameWithPhoneIndex.putAll(replacement.nameWithPhoneIndex);
+        nameWithEmailIndex.clear();
+        nameWithEmailIndex.putAll(replacement.nameWithEmailIndex);
+        if (tokenIndex != null) {
+            tokenIndex.setAll(replacement.internalList);
+        }
         internalList.setAll(replacement.internalList);
     }
 
@@ -126,12 +215,33 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        idIndex.clear();
+        nameWithPhoneIndex.clear();
+        nameWithEmailIndex.clear();
+        students.forEach(student -> {
+            indexById(student);
+            nameWithPhoneIndex.put(nameWithPhone(student), student);
+            nameWithEmailIndex.put(nameWithEmail(student), student);
+        });
+        if (tokenIndex != null) {
+            tokenIndex.setAll(students);
+        }
         internalList.setAll(students);
     }
 
+    /**
+     * Returns the first student in the list with the specified ID, if any.
+     */
     public Optional<Student> getStudentWithId(StudentId id) {
-        return internalList.stream().filter(st -> st.getStudentId().equals(id))
-            .findFirst();
+        List<Student> students = idIndex.get(id);
+        if (students == null) {
+            return Optional.empty();
+        }
+        if (students.size() == 1) {
+            return Optional.of(students.get(0));
+        }
+        // only students sharing an ID need the position in the list, which takes a scan to find
+        return students.stream().min(Comparator.comparingInt(internalList::indexOf));
     }
 
     /**
@@ -140,9 +250,23 @@ public class UniqueStudentList implements Iterable<Student> {
     public UniqueStudentList clone() {
         UniqueStudentList other = new UniqueStudentList();
         other.internalList.addAll(this.internalList);
+        copyIdIndex(this, other);
+        other.nameWithPhoneIndex.putAll(this.nameWithPhoneIndex);
+        other.nameWithEmailIndex.putAll(this.nameWithEmailIndex);
         return other;
     }
 
+    /**
+     * Returns the index of the words in the fields of the students in this list.
+     */
+    public StudentTokenIndex getTokenIndex() {
+        if (tokenIndex == null) {
+            tokenIndex = new StudentTokenIndex();
+            tokenIndex.setAll(internalList);
+        }
+        return tokenIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -174,17 +298,77 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.hashCode();
     }
 
+    /**
+     * Indexes {@code student} by its ID, by its identity and by the words in its fields.
+     */
+    private void addToIndex(Student student) {
+        indexById(student);
+        nameWithPhoneIndex.put(nameWithPhone(student), student);
+        nameWithEmailIndex.put(nameWithEmail(student), student);
+        if (tokenIndex != null) {
+            tokenIndex.add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student}, which must be the instance in the list, from the indexes.
+     */
+    private void removeFromIndex(Student student) {
+        StudentId id = student.getStudentId();
+        List<Student> studentsWithId = idIndex.get(id);
+        if (studentsWithId.size() == 1) {
+            idIndex.remove(id);
+        } else {
+            studentsWithId.remove(student);
+        }
+        nameWithPhoneIndex.remove(nameWithPhone(student));
+        nameWithEmailIndex.remove(nameWithEmail(student));
+        if (tokenIndex != null) {
+            tokenIndex.remove(student);
+        }
+    }
+
+    /**
+     * Returns true if {@code holder}, the student indexed under one of the identity keys of an edited student, is a
+     * student other than {@code current}, the one being edited.
+     */
+    private static boolean isHeldByOther(Student holder, Student current) {
+        return holder != null && holder != current;
+    }
+
+    private void indexById(Student student) {
+        idIndex.computeIfAbsent(student.getStudentId(), unused -> new ArrayList<>(1)).add(student);
+    }
+
+    /**
+     * Copies the index by ID of {@code from} into {@code to}, without sharing the mutable lists of students.
+     */
+    private static void copyIdIndex(UniqueStudentList from, UniqueStudentList to) {
+        from.idIndex.forEach((id, students) -> to.idIndex.put(id, new ArrayList<>(students)));
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
+     * Two students are the same if they share a name and either a phone or an email
+     * (see {@link Student#isSameStudent(Student)}), so it suffices to look for a repeated
+     * (name, phone) or (name, email) pair.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> namesWithPhones = new HashSet<>();
+        Set<List<Object>> namesWithEmails = new HashSet<>();
+        for (Student student : students) {
+            if (!namesWithPhones.add(nameWithPhone(student)) || !namesWithEmails.add(nameWithEmail(student))) {
+                return false;
             }
         }
         return true;
     }
+
+    private static List<Object> nameWithPhone(Student student) {
+        return List.of(student.getName(), student.getPhone());
+    }
+
+    private static List<Object> nameWithEmail(Student student) {
+        return List.of(student.getName(), student.getEmail());
+    }
 }
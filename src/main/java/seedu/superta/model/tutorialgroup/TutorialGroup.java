@@ -13,14 +13,20 @@ import seedu.superta.model.attendance.Session;
 import seedu.superta.model.attendance.UniqueSessionList;
 import seedu.superta.model.attendance.exceptions.DuplicateSessionException;
 import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentOrdinals;
 import seedu.superta.model.student.UniqueStudentList;
 
 /**
  * Model for Tutorial Group.
+ * The grade books of its assignments and the attendance of its sessions are kept under student ordinals owned by the
+ * tutorial group, which are shared with its copies, so that they are only as large as the number of students the
+ * tutorial group has seen.
  */
 public class TutorialGroup {
     private final String id;
     private final String name;
+    private final StudentOrdinals studentOrdinals;
     private final UniqueStudentList students;
     private final UniqueAssignmentList assignments;
     private final UniqueSessionList attendanceSessions;
@@ -29,6 +35,7 @@ public class TutorialGroup {
         requireNonNull(id);
         this.id = id;
         this.name = name;
+        this.studentOrdinals = new StudentOrdinals();
         this.students = new UniqueStudentList();
         this.assignments = new UniqueAssignmentList();
         this.attendanceSessions = new UniqueSessionList();
@@ -37,6 +44,7 @@ public class TutorialGroup {
     public TutorialGroup(TutorialGroup toClone) {
         this.id = toClone.id;
         this.name = toClone.name;
+        this.studentOrdinals = toClone.studentOrdinals;
         this.students = toClone.students.clone();
         this.assignments = toClone.assignments.clone();
         this.attendanceSessions = toClone.attendanceSessions.clone();
@@ -48,15 +56,25 @@ public class TutorialGroup {
                          UniqueSessionList sessions) {
         this.id = id;
         this.name = name;
+        this.studentOrdinals = new StudentOrdinals();
         this.students = students;
         this.assignments = assignments;
         this.attendanceSessions = sessions;
+        assignments.forEach(assignment -> assignment.getGradebook().useStudentOrdinals(studentOrdinals));
+        sessions.forEach(session -> session.useStudentOrdinals(studentOrdinals));
     }
 
     public void addStudent(Student student) {
         students.add(student);
     }
 
+    /**
+     * Adds all of {@code students}, none of whom may already be in the tutorial group, to the tutorial group.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+    }
+
     /**
      * Removes a student from the tutorial group.
      */
@@ -69,15 +87,32 @@ public class TutorialGroup {
     }
 
     /**
-     * Updates a student with the updated value.
+     * Updates a student with the updated value, if the student is in the tutorial group.
+     * Returns true if the student was updated.
      */
-    public void updateStudent(Student target, Student edited) {
-        students.removeById(target);
+    public boolean updateStudent(Student target, Student edited) {
+        if (!students.removeById(target)) {
+            return false;
+        }
         students.add(edited);
+        return true;
+    }
+
+    /**
+     * Returns true if {@code student} is in the tutorial group, or has a grade or attendance recorded in it.
+     */
+    public boolean refersTo(Student student) {
+        StudentId stId = student.getStudentId();
+        return students.getStudentWithId(stId).isPresent()
+                || assignments.asUnmodifiableObservableList().stream()
+                        .anyMatch(assignment -> assignment.getGradebook().hasGradeFor(stId))
+                || attendanceSessions.asUnmodifiableObservableList().stream()
+                        .anyMatch(session -> session.hasAttendanceFor(stId));
     }
 
     public void addAssignment(Assignment assignment) {
         assignments.add(assignment);
+        assignment.getGradebook().useStudentOrdinals(studentOrdinals);
     }
 
     /**
@@ -94,6 +129,7 @@ public class TutorialGroup {
 
     public void createAttendanceSession(Session session) throws DuplicateSessionException {
         attendanceSessions.add(session);
+        session.useStudentOrdinals(studentOrdinals);
     }
 
     public void removeAttendanceSession(Session session) {
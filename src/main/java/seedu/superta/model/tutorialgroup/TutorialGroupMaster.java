@@ -2,6 +2,7 @@ package seedu.superta.model.tutorialgroup;
 
 import static seedu.superta.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import javafx.collections.WeakMapChangeListener;
 import seedu.superta.model.student.Student;
 import seedu.superta.model.tutorialgroup.exceptions.TutorialGroupNotFoundException;
 
@@ -34,6 +36,19 @@ public class TutorialGroupMaster {
     public final ObservableMap<String, TutorialGroup> tutorialGroups = FXCollections.observableHashMap();
     private Set<String> uids = new HashSet<>();
 
+    // created when the tutorial groups are first viewed as a list, and kept in step with the map from then on
+    private ObservableList<TutorialGroup> tutorialGroupList;
+    private ObservableList<TutorialGroup> unmodifiableTutorialGroupList;
+    // held here so that it lives exactly as long as this listing; the map only refers to it weakly
+    private final MapChangeListener<String, TutorialGroup> tutorialGroupListUpdater = change -> {
+        if (change.wasRemoved()) {
+            tutorialGroupList.remove(change.getValueRemoved());
+        }
+        if (change.wasAdded()) {
+            tutorialGroupList.add(change.getValueAdded());
+        }
+    };
+
     public TutorialGroupMaster() {
     }
 
@@ -47,8 +62,9 @@ public class TutorialGroupMaster {
     /**
      * Adds a tutorial group to the listing.
      * @param tg The tutorial group to be added.
+     * @return The tutorial group as added, which has a generated ID if {@code tg}'s ID was already taken.
      */
-    public void addTutorialGroup(TutorialGroup tg) {
+    public TutorialGroup addTutorialGroup(TutorialGroup tg) {
         TutorialGroup toAdd = tg;
         if (contains(tg.getId())) {
             String finalUid = generateUid(tg.getId());
@@ -56,6 +72,7 @@ public class TutorialGroupMaster {
         }
         tutorialGroups.put(toAdd.getId(), toAdd);
         uids.add(toAdd.getId());
+        return toAdd;
     }
 
     /**
@@ -125,30 +142,30 @@ public class TutorialGroupMaster {
 
     /**
      * Returns an unmodifiable list view of the tutorial groups.
+     * The same view is returned every time, so that listeners added to it stay attached.
      */
     public ObservableList<TutorialGroup> asUnmodifiableObservableList() {
-        ObservableList<TutorialGroup> list = FXCollections.observableArrayList();
-        list.addAll(tutorialGroups.values());
-        tutorialGroups.addListener((MapChangeListener<? super String, ? super TutorialGroup>) change -> {
-            if (change.wasAdded()) {
-                list.add(change.getValueAdded());
-            }
-            if (change.wasRemoved()) {
-                list.remove(change.getValueRemoved());
-            }
-        });
-        return list;
+        if (tutorialGroupList == null) {
+            tutorialGroupList = FXCollections.observableArrayList(tutorialGroups.values());
+            unmodifiableTutorialGroupList = FXCollections.unmodifiableObservableList(tutorialGroupList);
+            tutorialGroups.addListener(new WeakMapChangeListener<>(tutorialGroupListUpdater));
+        }
+        return unmodifiableTutorialGroupList;
     }
 
     /**
-     * Updates a student in all the tutorial groups.
+     * Updates a student in all the tutorial groups, and returns the IDs of the tutorial groups the student is in.
      * @param target The target to be edited.
      * @param edited The updated model.
      */
-    public void updateStudent(Student target, Student edited) {
+    public List<String> updateStudent(Student target, Student edited) {
+        List<String> updatedIds = new ArrayList<>();
         tutorialGroups.forEach((key, tutorialGroup) -> {
-            tutorialGroup.updateStudent(target, edited);
+            if (tutorialGroup.updateStudent(target, edited)) {
+                updatedIds.add(key);
+            }
         });
+        return updatedIds;
     }
 
     /**
@@ -176,15 +193,19 @@ public class TutorialGroupMaster {
     }
 
     /**
-     * Removes all references to this student in this tutorial group, as well as its assignments.
+     * Removes all references to this student in this tutorial group, as well as its assignments, and returns the IDs
+     * of the tutorial groups that referred to the student.
      * @param target the student to be removed.
      */
-    public void removeStudentReferences(Student target) {
+    public List<String> removeStudentReferences(Student target) {
+        List<String> updatedIds = new ArrayList<>();
         tutorialGroups.forEach((id, tutorialGroup) -> {
-            tutorialGroup.removeStudent(target);
-            tutorialGroup.getAssignments().asUnmodifiableObservableList().forEach(assignment -> assignment
-                .removeStudentReferences(target));
+            if (tutorialGroup.refersTo(target)) {
+                tutorialGroup.removeStudent(target);
+                updatedIds.add(id);
+            }
         });
+        return updatedIds;
     }
 
     @Override
@@ -27,27 +27,27 @@ public class SampleDataUtil {
     public static Student[] getSampleStudents() {
         return new Student[] {
             new Student(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new StudentId("A0123456T"),
+                StudentId.of("A0123456T"),
                 getTagSet("friends"),
                 getFeedbackList("")),
             new Student(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new StudentId("A0144582N"),
+                StudentId.of("A0144582N"),
                 getTagSet("colleagues", "friends"),
                 getFeedbackList("")),
             new Student(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new StudentId("A0128314Y"),
+                StudentId.of("A0128314Y"),
                 getTagSet("neighbours"),
                 getFeedbackList("")),
             new Student(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new StudentId("A0122301Y"),
+                StudentId.of("A0122301Y"),
                 getTagSet("family"),
                 getFeedbackList("")),
             new Student(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new StudentId("A0182324E"),
+                StudentId.of("A0182324E"),
                 getTagSet("classmates"),
                 getFeedbackList("")),
             new Student(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new StudentId("A0139410Y"),
+                StudentId.of("A0139410Y"),
                 getTagSet("colleagues"),
                 getFeedbackList("")),
         };
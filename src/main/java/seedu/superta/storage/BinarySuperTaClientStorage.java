@@ -0,0 +1,496 @@
+package seedu.superta.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.superta.commons.core.LogsCenter;
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.commons.exceptions.IllegalValueException;
+import seedu.superta.commons.util.FileUtil;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.GradeBook;
+import seedu.superta.model.assignment.GradeEntry;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.assignment.UniqueAssignmentList;
+import seedu.superta.model.attendance.Attendance;
+import seedu.superta.model.attendance.Presence;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.attendance.UniqueSessionList;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.UniqueStudentList;
+import seedu.superta.model.student.exceptions.DuplicateStudentException;
+import seedu.superta.model.tag.Tag;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * A class to access SuperTaClient data stored as a compact binary snapshot on the hard disk.
+ *
+ * Every student ID in the client is written once, in a dictionary at the start of the file, and referred to by its
+ * index everywhere else. Grade books are written as an array of indices and an array of marks, and the attendance of
+ * a session as one bitset over the dictionary for each kind of {@link Presence}.
+ *
+ * Every count and length read from a file is checked against the bytes left in it before anything is allocated
+ * for it, so that a corrupt file fails to convert instead of running the app out of memory.
+ */
+public class BinarySuperTaClientStorage implements SuperTaClientStorage {
+
+    /** The first four bytes of every binary data file, "STA" followed by a zero byte. */
+    public static final int MAGIC_NUMBER = 0x53544100;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a SuperTA binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d.";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Unknown student reference %d.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Corrupted binary data file.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySuperTaClientStorage.class);
+
+    private Path filePath;
+
+    public BinarySuperTaClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSuperTaClientFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient() throws DataConversionException, IOException {
+        return readSuperTaClient(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SuperTaClient file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readClient(in, Files.size(filePath)));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (EOFException eofe) {
+            throw new DataConversionException(eofe);
+        }
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        saveSuperTaClient(superTaClient, filePath);
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException {
+        requireNonNull(superTaClient);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            writeClient(out, superTaClient);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the binary data file {@link #MAGIC_NUMBER}.
+     */
+    public static boolean isBinaryDataFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC_NUMBER;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code superTaClient} to {@code out} in the binary format.
+     */
+    static void writeClient(DataOutputStream out, ReadOnlySuperTaClient superTaClient) throws IOException {
+        StudentIdDictionary dictionary = new StudentIdDictionary(superTaClient);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(dictionary.size());
+        for (StudentId studentId : dictionary.ids()) {
+            writeString(out, studentId.studentId);
+        }
+
+        out.writeInt(superTaClient.getStudentList().size());
+        for (Student student : superTaClient.getStudentList()) {
+            writeStudent(out, student, dictionary);
+        }
+
+        out.writeInt(superTaClient.getTutorialGroupMap().size());
+        for (TutorialGroup tg : superTaClient.getTutorialGroupMap().values()) {
+            writeTutorialGroup(out, tg, dictionary);
+        }
+    }
+
+    private static void writeStudent(DataOutputStream out, Student student, StudentIdDictionary dictionary)
+            throws IOException {
+        out.writeInt(dictionary.indexOf(student.getStudentId()));
+        writeString(out, student.getName().fullName);
+        writeString(out, student.getPhone().value);
+        writeString(out, student.getEmail().value);
+        out.writeInt(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeString(out, tag.tagName);
+        }
+        out.writeInt(student.getFeedback().size());
+        for (Feedback feedback : student.getFeedback()) {
+            writeString(out, feedback.value);
+        }
+    }
+
+    private static void writeTutorialGroup(DataOutputStream out, TutorialGroup tg, StudentIdDictionary dictionary)
+            throws IOException {
+        writeString(out, tg.getId());
+        writeString(out, tg.getName());
+        out.writeInt(tg.getStudents().size());
+        for (Student student : tg.getStudents()) {
+            out.writeInt(dictionary.indexOf(student.getStudentId()));
+        }
+        out.writeInt(tg.getAssignments().size());
+        for (Assignment assignment : tg.getAssignments()) {
+            writeAssignment(out, assignment, dictionary);
+        }
+        out.writeInt(tg.getSessions().asUnmodifiableObservableList().size());
+        for (Session session : tg.getSessions()) {
+            writeSession(out, session, dictionary);
+        }
+    }
+
+    private static void writeAssignment(DataOutputStream out, Assignment assignment, StudentIdDictionary dictionary)
+            throws IOException {
+        writeString(out, assignment.getTitle().assignmentTitle);
+        out.writeDouble(assignment.getMaxMarks());
+        List<GradeEntry> entries = assignment.getGradebook().stream().collect(Collectors.toList());
+        out.writeInt(entries.size());
+        for (GradeEntry entry : entries) {
+            out.writeInt(dictionary.indexOf(entry.studentId));
+        }
+        for (GradeEntry entry : entries) {
+            out.writeDouble(entry.marks);
+        }
+    }
+
+    private static void writeSession(DataOutputStream out, Session session, StudentIdDictionary dictionary)
+            throws IOException {
+        Map<Presence, BitSet> attendance = new EnumMap<>(Presence.class);
+        for (Attendance a : session.getAttendance()) {
+            attendance.computeIfAbsent(a.getPresence(), p -> new BitSet(dictionary.size()))
+                    .set(dictionary.indexOf(a.getStudentId()));
+        }
+
+        writeString(out, session.getSessionName());
+        out.writeInt(attendance.size());
+        for (Map.Entry<Presence, BitSet> entry : attendance.entrySet()) {
+            writeString(out, Presence.token(entry.getKey()));
+            long[] words = entry.getValue().toLongArray();
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length followed by its UTF-8 bytes.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, this has no limit on the length of {@code value}.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //// reading
+
+    /**
+     * Reads a client written by {@link #writeClient(DataOutputStream, ReadOnlySuperTaClient)} from the next
+     * {@code size} bytes of {@code stream}.
+     */
+    static SuperTaClient readClient(InputStream stream, long size) throws IOException, IllegalValueException {
+        SizedDataInputStream in = new SizedDataInputStream(stream, size);
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        StudentId[] dictionary = new StudentId[readCount(in, Integer.BYTES)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = StudentId.of(readString(in));
+        }
+
+        List<Student> students = new ArrayList<>();
+        Set<StudentId> studentIds = new HashSet<>();
+        int studentCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < studentCount; i++) {
+            Student student = readStudent(in, dictionary);
+            if (!studentIds.add(student.getStudentId())) {
+                throw new IllegalValueException(XmlSerializableSuperTaClient.MESSAGE_DUPLICATE_PERSON);
+            }
+            students.add(student);
+        }
+        SuperTaClient superTaClient = new SuperTaClient();
+        try {
+            superTaClient.setStudents(students);
+        } catch (DuplicateStudentException dse) {
+            throw new IllegalValueException(XmlSerializableSuperTaClient.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        int tutorialGroupCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < tutorialGroupCount; i++) {
+            superTaClient.addTutorialGroup(readTutorialGroup(in, dictionary, superTaClient));
+        }
+        return superTaClient;
+    }
+
+    private static Student readStudent(SizedDataInputStream in, StudentId[] dictionary)
+            throws IOException, IllegalValueException {
+        StudentId studentId = readStudentId(in, dictionary);
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        int tagCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < tagCount; i++) {
+            tagged.add(new XmlAdaptedTag(readString(in)));
+        }
+        List<XmlAdaptedFeedback> allFeedback = new ArrayList<>();
+        int feedbackCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < feedbackCount; i++) {
+            allFeedback.add(new XmlAdaptedFeedback(readString(in)));
+        }
+        return new XmlAdaptedStudent(name, phone, email, studentId.studentId, tagged, allFeedback).toModelType();
+    }
+
+    private static TutorialGroup readTutorialGroup(SizedDataInputStream in, StudentId[] dictionary,
+                                                   SuperTaClient superTaClient)
+            throws IOException, IllegalValueException {
+        String id = readString(in);
+        String name = readString(in);
+
+        List<Student> students = new ArrayList<>();
+        int studentCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < studentCount; i++) {
+            StudentId studentId = readStudentId(in, dictionary);
+            students.add(superTaClient.getStudentWithId(studentId).orElseThrow(() -> new IllegalValueException(
+                    String.format(StaxSuperTaClientStorage.MESSAGE_UNKNOWN_STUDENT, id, studentId))));
+        }
+        UniqueStudentList studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+
+        List<Assignment> assignments = new ArrayList<>();
+        int assignmentCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < assignmentCount; i++) {
+            assignments.add(readAssignment(in, dictionary));
+        }
+
+        List<Session> sessions = new ArrayList<>();
+        int sessionCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(readSession(in, dictionary));
+        }
+
+        return new TutorialGroup(id, name, studentList, new UniqueAssignmentList(assignments),
+                new UniqueSessionList(sessions));
+    }
+
+    private static Assignment readAssignment(SizedDataInputStream in, StudentId[] dictionary)
+            throws IOException, IllegalValueException {
+        Title title = Title.of(readString(in));
+        double maxMarks = in.readDouble();
+
+        int gradeCount = readCount(in, Integer.BYTES + Double.BYTES);
+        StudentId[] studentIds = new StudentId[gradeCount];
+        for (int i = 0; i < gradeCount; i++) {
+            studentIds[i] = readStudentId(in, dictionary);
+        }
+        GradeBook gradebook = new GradeBook();
+        for (int i = 0; i < gradeCount; i++) {
+            gradebook.addGrade(studentIds[i], in.readDouble());
+        }
+        return new Assignment(title, maxMarks, gradebook);
+    }
+
+    private static Session readSession(SizedDataInputStream in, StudentId[] dictionary)
+            throws IOException, IllegalValueException {
+        String sessionName = readString(in);
+        Set<Attendance> attendances = new HashSet<>();
+        int presenceCount = readCount(in, Integer.BYTES);
+        for (int i = 0; i < presenceCount; i++) {
+            Presence presence = Presence.getPresence(readString(in));
+            long[] words = new long[readCount(in, Long.BYTES)];
+            for (int j = 0; j < words.length; j++) {
+                words[j] = in.readLong();
+            }
+            BitSet students = BitSet.valueOf(words);
+            for (int index = students.nextSetBit(0); index >= 0; index = students.nextSetBit(index + 1)) {
+                attendances.add(new Attendance(lookUp(dictionary, index), presence));
+            }
+        }
+        return new Session(sessionName, attendances);
+    }
+
+    private static StudentId readStudentId(SizedDataInputStream in, StudentId[] dictionary)
+            throws IOException, IllegalValueException {
+        return lookUp(dictionary, in.readInt());
+    }
+
+    private static StudentId lookUp(StudentId[] dictionary, int index) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, index));
+        }
+        return dictionary[index];
+    }
+
+    /**
+     * Reads a count of items that take up at least {@code bytesPerItem} bytes each, which can neither be negative
+     * nor be more than the bytes left in the file can hold.
+     */
+    private static int readCount(SizedDataInputStream in, int bytesPerItem) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > in.getRemaining() / bytesPerItem) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String readString(SizedDataInputStream in) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readCount(in, 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A {@code DataInputStream} that keeps count of the bytes left in its input.
+     */
+    private static class SizedDataInputStream extends DataInputStream {
+        SizedDataInputStream(InputStream in, long size) {
+            super(new CountingInputStream(in, size));
+        }
+
+        long getRemaining() {
+            return ((CountingInputStream) in).remaining;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long remaining;
+
+        CountingInputStream(InputStream in, long size) {
+            super(in);
+            remaining = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * Assigns an index to every student ID in a client: first those in the student list, in order, and then those
+     * only found in its tutorial groups.
+     */
+    private static class StudentIdDictionary {
+        private final Map<StudentId, Integer> indices = new LinkedHashMap<>();
+
+        StudentIdDictionary(ReadOnlySuperTaClient superTaClient) {
+            for (Student student : superTaClient.getStudentList()) {
+                add(student.getStudentId());
+            }
+            for (TutorialGroup tg : superTaClient.getTutorialGroupMap().values()) {
+                for (Student student : tg.getStudents()) {
+                    add(student.getStudentId());
+                }
+                for (Assignment assignment : tg.getAssignments()) {
+                    assignment.getGradebook().stream().forEach(entry -> add(entry.studentId));
+                }
+                for (Session session : tg.getSessions()) {
+                    session.getAttendance().forEach(attendance -> add(attendance.getStudentId()));
+                }
+            }
+        }
+
+        private void add(StudentId studentId) {
+            indices.putIfAbsent(studentId, indices.size());
+        }
+
+        int indexOf(StudentId studentId) {
+            return indices.get(studentId);
+        }
+
+        int size() {
+            return indices.size();
+        }
+
+        Set<StudentId> ids() {
+            return indices.keySet();
+        }
+    }
+}
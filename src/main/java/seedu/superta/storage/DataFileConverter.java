@@ -0,0 +1,97 @@
+package seedu.superta.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.model.DataFileFormat;
+import seedu.superta.model.ReadOnlySuperTaClient;
+
+/**
+ * Converts SuperTA data files between the xml and binary formats, and from the sharded format to xml.
+ *
+ * Usage: {@code java seedu.superta.storage.DataFileConverter SOURCE TARGET}. The format of SOURCE is detected from
+ * its contents, and TARGET is written in the other format.
+ */
+public class DataFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: DataFileConverter SOURCE TARGET\n"
+            + "Converts an xml data file to the binary format, or a binary or sharded data file to the xml format.";
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s (%3$s).";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file %1$s not found.";
+
+    private DataFileConverter() {}
+
+    /**
+     * Returns the format of the data file at {@code filePath}.
+     */
+    public static DataFileFormat detectFormat(Path filePath) throws IOException {
+        if (BinarySuperTaClientStorage.isBinaryDataFile(filePath)) {
+            return DataFileFormat.BINARY;
+        }
+        if (Files.isDirectory(ShardedSuperTaClientStorage.getShardDirectory(filePath))) {
+            return DataFileFormat.SHARDED_XML;
+        }
+        return DataFileFormat.XML;
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath} in the given {@code format}.
+     */
+    public static SuperTaClientStorage createStorage(Path filePath, DataFileFormat format) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinarySuperTaClientStorage(filePath);
+        case SHARDED_XML:
+            return new ShardedSuperTaClientStorage(filePath);
+        case XML:
+        default:
+            return new StaxSuperTaClientStorage(filePath);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code source} and writes its data to {@code target} in the other format.
+     * Sharded data files are converted to a single xml data file.
+     *
+     * @return the format {@code target} was written in.
+     * @throws FileNotFoundException if there is no file at {@code source}.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    public static DataFileFormat convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        if (!Files.exists(source)) {
+            throw new FileNotFoundException(String.format(MESSAGE_SOURCE_NOT_FOUND, source));
+        }
+        DataFileFormat sourceFormat = detectFormat(source);
+        DataFileFormat targetFormat = sourceFormat == DataFileFormat.XML ? DataFileFormat.BINARY : DataFileFormat.XML;
+        ReadOnlySuperTaClient data = createStorage(source, sourceFormat).readSuperTaClient().get();
+        createStorage(target, targetFormat).saveSuperTaClient(data);
+        return targetFormat;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        try {
+            DataFileFormat targetFormat = convert(source, target);
+            System.out.println(String.format(MESSAGE_SUCCESS, source, target, targetFormat));
+        } catch (DataConversionException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
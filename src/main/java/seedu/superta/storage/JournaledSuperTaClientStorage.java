@@ -0,0 +1,549 @@
+package seedu.superta.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.superta.commons.core.LogsCenter;
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.commons.exceptions.IllegalValueException;
+import seedu.superta.commons.util.FileUtil;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.exceptions.DuplicateStudentException;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * A SuperTaClient storage that saves changes by appending them to a journal, instead of rewriting the whole data
+ * file every time.
+ *
+ * The data file is kept by {@code snapshotStorage} and holds a snapshot of the client. Each save appends a record
+ * of the students and tutorial groups that changed since the previous save to the journal, and reading replays the
+ * journal over the snapshot. Once {@code compactionThreshold} records have been appended, and when the storage is
+ * closed, the latest data is written to a new snapshot and the journal is emptied.
+ *
+ * The journal starts with the length and checksum of the files of the snapshot it belongs to, so a journal left
+ * behind by a compaction that did not complete is recognised and ignored. Every record carries its own length and
+ * checksum, so a record that was only partly written when the app stopped is discarded, along with anything after
+ * it. So is a record that cannot be replayed, such as a tail of zeros left by a file system that extended the
+ * journal before it wrote the record.
+ */
+public class JournaledSuperTaClientStorage implements SuperTaClientStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final int JOURNAL_MAGIC_NUMBER = 0x5354414a;
+    private static final int JOURNAL_FORMAT_VERSION = 1;
+    private static final int JOURNAL_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledSuperTaClientStorage.class);
+
+    private final SuperTaClientStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final boolean isSyncedOnEveryRecord;
+    private final int compactionThreshold;
+
+    /** The data as of the last record in the journal, or null if it has not been read or saved yet. */
+    private SuperTaClient journaledData;
+    private boolean hasValidJournal;
+    private int recordCount;
+
+    public JournaledSuperTaClientStorage(SuperTaClientStorage snapshotStorage, boolean isSyncedOnEveryRecord) {
+        this(snapshotStorage, getJournalFilePath(snapshotStorage.getSuperTaClientFilePath()), isSyncedOnEveryRecord,
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledSuperTaClientStorage(SuperTaClientStorage snapshotStorage, Path journalFilePath,
+                                         boolean isSyncedOnEveryRecord, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.isSyncedOnEveryRecord = isSyncedOnEveryRecord;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal");
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Path getSuperTaClientFilePath() {
+        return snapshotStorage.getSuperTaClientFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient() throws DataConversionException, IOException {
+        return readSuperTaClient(getSuperTaClientFilePath());
+    }
+
+    /**
+     * Reads the data file at {@code filePath}. If it is the data file of this storage, its journal is replayed over
+     * it as well.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySuperTaClient> readSuperTaClient(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getSuperTaClientFilePath())) {
+            return snapshotStorage.readSuperTaClient(filePath);
+        }
+
+        Optional<ReadOnlySuperTaClient> snapshot = snapshotStorage.readSuperTaClient();
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        replayJournal(snapshot.get());
+        return Optional.of(new SuperTaClient(journaledData));
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        saveSuperTaClient(superTaClient, getSuperTaClientFilePath());
+    }
+
+    /**
+     * Saves {@code superTaClient} to {@code filePath}. If it is the data file of this storage, only the changes since
+     * the previous save are written, to the journal.
+     */
+    @Override
+    public synchronized void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath)
+            throws IOException {
+        requireNonNull(superTaClient);
+        requireNonNull(filePath);
+        if (!filePath.equals(getSuperTaClientFilePath())) {
+            snapshotStorage.saveSuperTaClient(superTaClient, filePath);
+            return;
+        }
+
+        SuperTaClient data = SuperTaClient.snapshotOf(superTaClient);
+        if (journaledData == null || !hasValidJournal || recordCount >= compactionThreshold) {
+            compact(data);
+            return;
+        }
+
+        byte[] record = createRecord(journaledData, data);
+        if (record == null) {
+            // the changes cannot be replayed from a record, e.g. the students were reordered
+            compact(data);
+            return;
+        }
+        appendRecord(record);
+        journaledData = data;
+        recordCount++;
+    }
+
+    /**
+     * Saves {@code superTaClient} to a new snapshot, which empties the journal.
+     */
+    @Override
+    public synchronized void replaceSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        requireNonNull(superTaClient);
+        compact(SuperTaClient.snapshotOf(superTaClient));
+    }
+
+    /**
+     * Returns the files of the snapshot, followed by the journal if there is one.
+     */
+    @Override
+    public synchronized List<Path> getSuperTaClientFiles() throws IOException {
+        List<Path> files = new ArrayList<>(snapshotStorage.getSuperTaClientFiles());
+        if (Files.exists(journalFilePath)) {
+            files.add(journalFilePath);
+        }
+        return files;
+    }
+
+    /**
+     * Compacts the journal into the data file, if anything has been journaled since the last compaction.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (journaledData != null && (!hasValidJournal || recordCount > 0)) {
+            compact(journaledData);
+        }
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    //// compaction
+
+    /**
+     * Writes {@code data} to a new snapshot and starts a new, empty journal for it.
+     * The snapshot is replaced atomically by {@code snapshotStorage}, so it holds either the old data or
+     * {@code data} in full. Until the new journal is moved into place, the old one does not belong to the new
+     * snapshot and is ignored.
+     */
+    private void compact(SuperTaClient data) throws IOException {
+        Path newJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+
+        snapshotStorage.replaceSuperTaClient(data);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(newJournalFilePath))) {
+            writeJournalHeader(out, snapshotStorage.getSuperTaClientFiles());
+        }
+        FileUtil.moveReplacing(newJournalFilePath, journalFilePath);
+
+        journaledData = data;
+        hasValidJournal = true;
+        recordCount = 0;
+        logger.fine("Compacted journal into " + getSuperTaClientFilePath());
+    }
+
+    private static void writeJournalHeader(DataOutputStream out, List<Path> snapshotFiles) throws IOException {
+        out.writeInt(JOURNAL_MAGIC_NUMBER);
+        out.writeInt(JOURNAL_FORMAT_VERSION);
+        out.writeLong(size(snapshotFiles));
+        out.writeLong(checksum(snapshotFiles));
+    }
+
+    //// appending
+
+    /**
+     * Returns a record of the changes from {@code previous} to {@code current}, or null if they cannot be recorded.
+     * The tutorial groups that changed are found from the revisions of {@code current} when it carries those of
+     * {@code previous} (see {@link SuperTaClient#snapshotOf}), and the students are only compared if the student
+     * list changed, so that a save does not take time in the size of the whole client.
+     */
+    private static byte[] createRecord(SuperTaClient previous, SuperTaClient current) throws IOException {
+        boolean hasRevisions = previous.hasSameHistoryAs(current);
+
+        List<StudentId> removedStudents = new ArrayList<>();
+        List<Student> changedStudents = new ArrayList<>();
+        boolean haveStudentsChanged = hasRevisions
+                ? current.haveStudentsChangedSince(previous.getRevision())
+                : !previous.getStudentList().equals(current.getStudentList());
+        if (haveStudentsChanged && !findStudentChanges(previous, current, removedStudents, changedStudents)) {
+            return null;
+        }
+
+        List<String> removedTutorialGroups = new ArrayList<>();
+        previous.getTutorialGroupMap().keySet().stream().filter(id -> !current.getTutorialGroupMap().containsKey(id))
+                .forEach(removedTutorialGroups::add);
+        List<TutorialGroup> changedTutorialGroups = new ArrayList<>();
+        current.getTutorialGroupMap().values().stream()
+                .filter(tg -> hasRevisions
+                        ? current.hasTutorialGroupChangedSince(tg.getId(), previous.getRevision())
+                        : !tg.equals(previous.getTutorialGroupMap().get(tg.getId())))
+                .forEach(changedTutorialGroups::add);
+
+        // the changed students, and the students of the changed tutorial groups so that they can be resolved
+        SuperTaClient changes = new SuperTaClient();
+        List<Student> students = new ArrayList<>(changedStudents);
+        Map<StudentId, Student> included = new HashMap<>();
+        changedStudents.forEach(student -> included.put(student.getStudentId(), student));
+        for (TutorialGroup tg : changedTutorialGroups) {
+            for (Student student : tg.getStudents()) {
+                if (included.putIfAbsent(student.getStudentId(), student) == null) {
+                    students.add(student);
+                }
+            }
+        }
+        try {
+            changes.setStudents(students);
+        } catch (DuplicateStudentException dse) {
+            // a changed student has the identity of another student that a changed tutorial group still holds
+            return null;
+        }
+        changedTutorialGroups.forEach(changes::addTutorialGroup);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(removedStudents.size());
+            for (StudentId id : removedStudents) {
+                out.writeUTF(id.studentId);
+            }
+            out.writeInt(changedStudents.size());
+            for (Student student : changedStudents) {
+                out.writeUTF(student.getStudentId().studentId);
+            }
+            out.writeInt(removedTutorialGroups.size());
+            for (String id : removedTutorialGroups) {
+                out.writeUTF(id);
+            }
+            BinarySuperTaClientStorage.writeClient(out, changes);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Adds the IDs of the students of {@code previous} that are not in {@code current} to {@code removedStudents},
+     * and the students of {@code current} that are new or changed to {@code changedStudents}. Returns false if
+     * replaying these would not give the students of {@code current} in their order, as a record can only remove
+     * students, change them in place and add them at the end of the list, or if a change could not be replayed
+     * because another changed student would still hold the identity it takes.
+     */
+    private static boolean findStudentChanges(SuperTaClient previous, SuperTaClient current,
+                                              List<StudentId> removedStudents, List<Student> changedStudents) {
+        Map<StudentId, Integer> previousPositions = new HashMap<>();
+        List<Student> previousStudents = previous.getStudentList();
+        for (int i = 0; i < previousStudents.size(); i++) {
+            if (previousPositions.put(previousStudents.get(i).getStudentId(), i) != null) {
+                return false;
+            }
+        }
+
+        Set<StudentId> currentIds = new HashSet<>();
+        Map<List<Object>, StudentId> previousIdentitiesOfEdited = new HashMap<>();
+        int lastPosition = -1;
+        boolean hasNewStudent = false;
+        for (Student student : current.getStudentList()) {
+            if (!currentIds.add(student.getStudentId())) {
+                return false;
+            }
+            Integer position = previousPositions.get(student.getStudentId());
+            if (position == null) {
+                hasNewStudent = true;
+                changedStudents.add(student);
+                continue;
+            }
+            if (hasNewStudent || position < lastPosition) {
+                return false;
+            }
+            lastPosition = position;
+            Student previousStudent = previousStudents.get(position);
+            if (student != previousStudent && !student.equals(previousStudent)) {
+                changedStudents.add(student);
+                previousIdentitiesOfEdited.put(List.of(previousStudent.getName(), previousStudent.getPhone()),
+                        previousStudent.getStudentId());
+                previousIdentitiesOfEdited.put(List.of(previousStudent.getName(), previousStudent.getEmail()),
+                        previousStudent.getStudentId());
+            }
+        }
+
+        // edits are replayed one by one, while the students edited after them still hold their old identities
+        for (Student student : changedStudents) {
+            StudentId withPhone = previousIdentitiesOfEdited.get(List.of(student.getName(), student.getPhone()));
+            StudentId withEmail = previousIdentitiesOfEdited.get(List.of(student.getName(), student.getEmail()));
+            if ((withPhone != null && !withPhone.equals(student.getStudentId()))
+                    || (withEmail != null && !withEmail.equals(student.getStudentId()))) {
+                return false;
+            }
+        }
+
+        previousPositions.keySet().stream().filter(id -> !currentIds.contains(id)).forEach(removedStudents::add);
+        return true;
+    }
+
+    private void appendRecord(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+        buffer.putInt(record.length);
+        buffer.putLong(checksum(record));
+        buffer.put(record);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isSyncedOnEveryRecord) {
+                channel.force(false);
+            }
+        }
+    }
+
+    //// replaying
+
+    /**
+     * Replays the records in the journal over {@code snapshot} into {@link #journaledData}, and records whether the
+     * journal belongs to the snapshot. A journal that does not belong to the snapshot is ignored, and a journal that
+     * ends with a record that is incomplete, corrupted or cannot be replayed is truncated to the last record that
+     * can.
+     */
+    private void replayJournal(ReadOnlySuperTaClient snapshot) throws IOException {
+        journaledData = new SuperTaClient(snapshot);
+        recordCount = 0;
+        hasValidJournal = false;
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        try (InputStream stream = Files.newInputStream(journalFilePath)) {
+            DataInputStream in = new DataInputStream(stream);
+            if (!isJournalOfSnapshot(in, snapshotStorage.getSuperTaClientFiles())) {
+                logger.warning("Ignoring journal " + journalFilePath + ", which does not belong to the data file");
+                return;
+            }
+            hasValidJournal = true;
+
+            long journalLength = Files.size(journalFilePath);
+            long validLength = JOURNAL_HEADER_SIZE;
+            List<byte[]> replayedRecords = new ArrayList<>();
+            Optional<byte[]> record;
+            while ((record = readRecord(in, journalLength - validLength - RECORD_HEADER_SIZE)).isPresent()) {
+                if (!tryApplyRecord(journaledData, record.get())) {
+                    // the record may have been applied in part, so the data is replayed again without it
+                    journaledData = new SuperTaClient(snapshot);
+                    for (byte[] replayedRecord : replayedRecords) {
+                        tryApplyRecord(journaledData, replayedRecord);
+                    }
+                    break;
+                }
+                replayedRecords.add(record.get());
+                validLength += RECORD_HEADER_SIZE + record.get().length;
+                recordCount++;
+            }
+            if (validLength < journalLength) {
+                logger.warning("Discarding incomplete record at the end of journal " + journalFilePath);
+                truncate(validLength);
+            }
+        }
+    }
+
+    private static boolean isJournalOfSnapshot(DataInputStream in, List<Path> snapshotFiles) throws IOException {
+        try {
+            return in.readInt() == JOURNAL_MAGIC_NUMBER
+                    && in.readInt() == JOURNAL_FORMAT_VERSION
+                    && in.readLong() == size(snapshotFiles)
+                    && in.readLong() == checksum(snapshotFiles);
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the next record in the journal, which can be no longer than {@code maxLength}, or an empty optional if
+     * there are no more complete records.
+     */
+    private static Optional<byte[]> readRecord(DataInputStream in, long maxLength) throws IOException {
+        try {
+            int length = in.readInt();
+            long checksum = in.readLong();
+            // a record is never empty, so a length of zero is the start of a tail of zeros rather than of a record
+            if (length <= 0 || length > maxLength) {
+                return Optional.empty();
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            return checksum == checksum(record) ? Optional.of(record) : Optional.empty();
+        } catch (EOFException eofe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Applies the changes in {@code record} to {@code data}, and returns false if they cannot be decoded or applied,
+     * in which case they may have been applied in part.
+     */
+    private boolean tryApplyRecord(SuperTaClient data, byte[] record) {
+        try {
+            applyRecord(data, record);
+            return true;
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            logger.warning("Cannot replay record in journal " + journalFilePath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Applies the changes in {@code record} to {@code data}.
+     */
+    private static void applyRecord(SuperTaClient data, byte[] record) throws IOException, IllegalValueException {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(record);
+        DataInputStream in = new DataInputStream(bytes);
+        List<StudentId> removedStudents = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            removedStudents.add(StudentId.of(in.readUTF()));
+        }
+        List<StudentId> changedStudents = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            changedStudents.add(StudentId.of(in.readUTF()));
+        }
+        List<String> removedTutorialGroups = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            removedTutorialGroups.add(in.readUTF());
+        }
+        SuperTaClient changes = BinarySuperTaClientStorage.readClient(bytes, bytes.available());
+
+        for (StudentId id : removedStudents) {
+            data.getStudentWithId(id).ifPresent(data::removeStudent);
+        }
+        for (StudentId id : changedStudents) {
+            Student changed = changes.getStudentWithId(id).get();
+            Optional<Student> existing = data.getStudentWithId(id);
+            if (existing.isPresent()) {
+                data.updateStudent(existing.get(), changed);
+            } else {
+                data.addStudent(changed);
+            }
+        }
+        for (String id : removedTutorialGroups) {
+            data.getTutorialGroup(id).ifPresent(data::removeTutorialGroup);
+        }
+        for (TutorialGroup tg : changes.getTutorialGroupMap().values()) {
+            if (data.hasTutorialGroup(tg.getId())) {
+                data.updateTutorialGroup(tg);
+            } else {
+                data.addTutorialGroup(tg);
+            }
+        }
+    }
+
+    private void truncate(long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code files} one after another, which for a single file is the
+     * checksum of that file.
+     */
+    private static long checksum(List<Path> files) throws IOException {
+        CRC32 crc = new CRC32();
+        for (Path file : files) {
+            crc.update(Files.readAllBytes(file));
+        }
+        return crc.getValue();
+    }
+
+    private static long size(List<Path> files) throws IOException {
+        long size = 0;
+        for (Path file : files) {
+            size += Files.size(file);
+        }
+        return size;
+    }
+}
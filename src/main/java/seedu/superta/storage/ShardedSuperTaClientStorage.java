@@ -0,0 +1,354 @@
+package seedu.superta.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.superta.commons.core.LogsCenter;
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.commons.exceptions.IllegalValueException;
+import seedu.superta.commons.util.FileUtil;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * A class to access SuperTaClient data stored as a roster file and one file per tutorial group on the hard disk.
+ *
+ * The roster file holds the students, in the same format as {@link StaxSuperTaClientStorage}, and each tutorial
+ * group is held in a shard file of that format in a directory next to it. A save only rewrites the roster and the
+ * shards that changed since the previous save. Changes are found from the revisions of the data when it carries
+ * those of the previously saved data (see {@link SuperTaClient#snapshotOf}), and by comparing it with the
+ * previously saved data otherwise.
+ *
+ * As a shard refers to the students of the roster, a save must replace the roster and its shards together. The
+ * files of a save are first written to a pending directory next to the roster, and the save is committed by moving
+ * a commit file listing the shards to delete into that directory. Only then are the files moved into place. A save
+ * that was interrupted is completed before the roster is next read or saved if it was committed, and discarded
+ * otherwise, so the roster and shards are always those of one save.
+ */
+public class ShardedSuperTaClientStorage implements SuperTaClientStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".groups";
+    public static final String SHARD_FILE_EXTENSION = ".xml";
+    public static final String PENDING_DIRECTORY_SUFFIX = ".pending";
+
+    private static final String PENDING_ROSTER_FILE_NAME = "roster" + SHARD_FILE_EXTENSION;
+    private static final String PENDING_SHARD_DIRECTORY_NAME = "groups";
+    private static final String COMMIT_FILE_NAME = "commit";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedSuperTaClientStorage.class);
+
+    private Path filePath;
+
+    /** The data as last read from or saved to {@code filePath}, or null if it has not been read or saved yet. */
+    private SuperTaClient savedData;
+
+    public ShardedSuperTaClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the directory that holds the tutorial group shards of the roster file at {@code rosterFilePath}.
+     */
+    public static Path getShardDirectory(Path rosterFilePath) {
+        return rosterFilePath.resolveSibling(rosterFilePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the shard that holds the tutorial group with the given {@code id}.
+     */
+    public static Path getShardFilePath(Path rosterFilePath, String id) {
+        return getShardDirectory(rosterFilePath).resolve(getShardFileName(id));
+    }
+
+    private static String getShardFileName(String id) {
+        try {
+            return URLEncoder.encode(id, "UTF-8") + SHARD_FILE_EXTENSION;
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError("UTF-8 is always supported", uee);
+        }
+    }
+
+    /**
+     * Returns the directory that holds the files of a save to the roster file at {@code rosterFilePath} until they
+     * are moved into place.
+     */
+    public static Path getPendingDirectory(Path rosterFilePath) {
+        return rosterFilePath.resolveSibling(rosterFilePath.getFileName() + PENDING_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the file whose presence marks the pending save to the roster file at {@code rosterFilePath} as
+     * committed.
+     */
+    static Path getCommitFilePath(Path rosterFilePath) {
+        return getPendingDirectory(rosterFilePath).resolve(COMMIT_FILE_NAME);
+    }
+
+    @Override
+    public Path getSuperTaClientFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient() throws DataConversionException, IOException {
+        return readSuperTaClient(filePath);
+    }
+
+    /**
+     * Reads the roster file at {@code filePath}, and its tutorial group shards in parallel.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySuperTaClient> readSuperTaClient(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        recoverInterruptedSave(filePath);
+
+        Optional<ReadOnlySuperTaClient> roster = new StaxSuperTaClientStorage(filePath).readSuperTaClient();
+        if (!roster.isPresent()) {
+            return Optional.empty();
+        }
+
+        SuperTaClient superTaClient = new SuperTaClient(roster.get());
+        List<Shard> shards = listShardFiles(getShardDirectory(filePath)).parallelStream()
+                .map(Shard::read)
+                .collect(Collectors.toList());
+        for (Shard shard : shards) {
+            superTaClient.addTutorialGroup(shard.resolve(superTaClient));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedData = SuperTaClient.copyWithRevisions(superTaClient);
+        }
+        return Optional.of(superTaClient);
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        saveSuperTaClient(superTaClient, filePath);
+    }
+
+    /**
+     * Saves {@code superTaClient} to the roster file at {@code filePath} and its shards. If {@code filePath} is the
+     * roster file of this storage, only the roster and the shards that changed since the previous save are written.
+     */
+    @Override
+    public synchronized void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath)
+            throws IOException {
+        requireNonNull(superTaClient);
+        requireNonNull(filePath);
+
+        recoverInterruptedSave(filePath);
+        prepareSave(superTaClient, filePath);
+        completeSave(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            // free if the data is already a snapshot, as that of a SuperTaClientChangedEvent is
+            savedData = SuperTaClient.snapshotOf(superTaClient);
+        }
+    }
+
+    /**
+     * Saves {@code superTaClient} to the roster file of this storage, which is already atomic as the pending save is
+     * committed before any file is moved into place.
+     */
+    @Override
+    public void replaceSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        saveSuperTaClient(superTaClient, filePath);
+    }
+
+    /**
+     * Returns the roster file and then its shards, in the order of their file names, once any interrupted save has
+     * been recovered.
+     */
+    @Override
+    public synchronized List<Path> getSuperTaClientFiles() throws IOException {
+        recoverInterruptedSave(filePath);
+        List<Path> files = new ArrayList<>();
+        files.add(filePath);
+        listShardFiles(getShardDirectory(filePath)).stream().sorted().forEach(files::add);
+        return files;
+    }
+
+    /**
+     * Writes the roster and the shards of {@code superTaClient} that need to be written to the pending directory of
+     * {@code filePath}, and commits the save.
+     */
+    synchronized void prepareSave(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException {
+        SuperTaClient previous = filePath.equals(this.filePath) ? savedData : null;
+        SuperTaClient current = superTaClient instanceof SuperTaClient ? (SuperTaClient) superTaClient : null;
+        boolean hasRevisions = previous != null && previous.hasSameHistoryAs(current);
+        Path pendingDirectory = getPendingDirectory(filePath);
+
+        if (previous == null
+                || (hasRevisions && current.haveStudentsChangedSince(previous.getRevision()))
+                || (!hasRevisions && !previous.getStudentList().equals(superTaClient.getStudentList()))) {
+            StaxSuperTaClientStorage.saveStudents(superTaClient, pendingDirectory.resolve(PENDING_ROSTER_FILE_NAME));
+        }
+
+        int shardsWritten = 0;
+        for (TutorialGroup tg : superTaClient.getTutorialGroupMap().values()) {
+            boolean isChanged = previous == null
+                    || (hasRevisions && current.hasTutorialGroupChangedSince(tg.getId(), previous.getRevision()))
+                    || (!hasRevisions && !tg.equals(previous.getTutorialGroupMap().get(tg.getId())));
+            if (isChanged) {
+                StaxSuperTaClientStorage.saveTutorialGroup(tg, pendingDirectory.resolve(PENDING_SHARD_DIRECTORY_NAME)
+                        .resolve(getShardFileName(tg.getId())));
+                shardsWritten++;
+            }
+        }
+        logger.fine("Writing " + shardsWritten + " of " + superTaClient.getTutorialGroupMap().size()
+                + " tutorial group shards of " + filePath);
+
+        // the commit file is moved into place last, once everything it commits has been written
+        Path newCommitFilePath = pendingDirectory.resolve(COMMIT_FILE_NAME + ".tmp");
+        Files.createDirectories(pendingDirectory);
+        Files.write(newCommitFilePath, findRemovedShards(superTaClient, filePath, previous), StandardCharsets.UTF_8);
+        FileUtil.moveReplacing(newCommitFilePath, getCommitFilePath(filePath));
+    }
+
+    /**
+     * Moves the files of the committed save to the roster file at {@code rosterFilePath} into place, and deletes the
+     * shards it removed. Files that were already moved by an earlier attempt are skipped.
+     */
+    private static void completeSave(Path rosterFilePath) throws IOException {
+        Path pendingDirectory = getPendingDirectory(rosterFilePath);
+        List<String> removedShardFileNames = Files.readAllLines(getCommitFilePath(rosterFilePath),
+                StandardCharsets.UTF_8);
+
+        Path pendingRosterFilePath = pendingDirectory.resolve(PENDING_ROSTER_FILE_NAME);
+        if (Files.exists(pendingRosterFilePath)) {
+            FileUtil.moveReplacing(pendingRosterFilePath, rosterFilePath);
+        }
+        Path shardDirectory = getShardDirectory(rosterFilePath);
+        for (Path pendingShard : listShardFiles(pendingDirectory.resolve(PENDING_SHARD_DIRECTORY_NAME))) {
+            Files.createDirectories(shardDirectory);
+            FileUtil.moveReplacing(pendingShard, shardDirectory.resolve(pendingShard.getFileName()));
+        }
+        for (String shardFileName : removedShardFileNames) {
+            Files.deleteIfExists(shardDirectory.resolve(shardFileName));
+        }
+
+        Files.delete(getCommitFilePath(rosterFilePath));
+        deleteRecursively(pendingDirectory);
+    }
+
+    /**
+     * Completes the save to the roster file at {@code rosterFilePath} that was interrupted after it was committed,
+     * or discards the files of one that was interrupted before.
+     */
+    private static void recoverInterruptedSave(Path rosterFilePath) throws IOException {
+        Path pendingDirectory = getPendingDirectory(rosterFilePath);
+        if (!Files.exists(pendingDirectory)) {
+            return;
+        }
+        if (Files.exists(getCommitFilePath(rosterFilePath))) {
+            logger.warning("Completing interrupted save of " + rosterFilePath);
+            completeSave(rosterFilePath);
+        } else {
+            logger.warning("Discarding uncommitted save of " + rosterFilePath);
+            deleteRecursively(pendingDirectory);
+        }
+    }
+
+    /**
+     * Returns the file names of the shards of tutorial groups that are no longer in {@code superTaClient}. Only the
+     * tutorial groups in {@code previous} are looked at, unless it is null.
+     */
+    private static List<String> findRemovedShards(ReadOnlySuperTaClient superTaClient, Path rosterFilePath,
+                                                  SuperTaClient previous) throws IOException {
+        Set<String> shardFileNames = new HashSet<>();
+        if (previous == null) {
+            listShardFiles(getShardDirectory(rosterFilePath))
+                    .forEach(shardFile -> shardFileNames.add(shardFile.getFileName().toString()));
+        } else {
+            previous.getTutorialGroupMap().keySet().forEach(id -> shardFileNames.add(getShardFileName(id)));
+        }
+        superTaClient.getTutorialGroupMap().keySet().forEach(id -> shardFileNames.remove(getShardFileName(id)));
+        return new ArrayList<>(shardFileNames);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static List<Path> listShardFiles(Path shardDirectory) throws IOException {
+        List<Path> shardFiles = new ArrayList<>();
+        if (!Files.isDirectory(shardDirectory)) {
+            return shardFiles;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            stream.forEach(shardFiles::add);
+        }
+        return shardFiles;
+    }
+
+    /**
+     * The result of reading a tutorial group shard: the tutorial group and the IDs of its students, or the error
+     * that stopped it from being read.
+     */
+    private static class Shard {
+        private final List<StudentId> studentIds = new ArrayList<>();
+        private TutorialGroup tutorialGroup;
+        private DataConversionException conversionError;
+        private IOException ioError;
+
+        static Shard read(Path filePath) {
+            Shard shard = new Shard();
+            try {
+                shard.tutorialGroup = StaxSuperTaClientStorage.readTutorialGroup(filePath, shard.studentIds);
+            } catch (DataConversionException dce) {
+                shard.conversionError = dce;
+            } catch (IOException ioe) {
+                shard.ioError = ioe;
+            }
+            return shard;
+        }
+
+        /**
+         * Returns the tutorial group, with its students looked up in {@code superTaClient}.
+         */
+        TutorialGroup resolve(SuperTaClient superTaClient) throws DataConversionException, IOException {
+            if (conversionError != null) {
+                throw conversionError;
+            }
+            if (ioError != null) {
+                throw ioError;
+            }
+
+            List<Student> students = new ArrayList<>();
+            for (StudentId studentId : studentIds) {
+                Optional<Student> student = superTaClient.getStudentWithId(studentId);
+                if (!student.isPresent()) {
+                    throw new DataConversionException(new IllegalValueException(String.format(
+                            StaxSuperTaClientStorage.MESSAGE_UNKNOWN_STUDENT, tutorialGroup.getId(), studentId)));
+                }
+                students.add(student.get());
+            }
+            tutorialGroup.getStudents().setStudents(students);
+            return tutorialGroup;
+        }
+    }
+}
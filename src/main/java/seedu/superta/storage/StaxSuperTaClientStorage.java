@@ -0,0 +1,663 @@
+package seedu.superta.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.superta.commons.core.LogsCenter;
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.commons.exceptions.IllegalValueException;
+import seedu.superta.commons.util.FileUtil;
+import seedu.superta.logic.parser.ParserUtil;
+import seedu.superta.logic.parser.exceptions.ParseException;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.GradeBook;
+import seedu.superta.model.assignment.GradeEntry;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.assignment.UniqueAssignmentList;
+import seedu.superta.model.attendance.Attendance;
+import seedu.superta.model.attendance.Presence;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.attendance.UniqueSessionList;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.UniqueStudentList;
+import seedu.superta.model.tag.Tag;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+/**
+ * A class to access SuperTaClient data stored as an xml file on the hard disk, one element at a time.
+ *
+ * The file format is the same as that of {@link XmlSuperTaClientStorage}. Students and tutorial groups are read
+ * directly into the model and written directly from it, so the whole document is never held in memory as a JAXB
+ * object graph.
+ */
+public class StaxSuperTaClientStorage implements SuperTaClientStorage {
+
+    public static final String MESSAGE_UNKNOWN_STUDENT = XmlAdaptedTutorialGroup.MESSAGE_UNKNOWN_STUDENT;
+    public static final String MESSAGE_MISSING_TUTORIAL_GROUP = "%s does not contain a tutorial group.";
+
+    private static final Logger logger = LogsCenter.getLogger(StaxSuperTaClientStorage.class);
+
+    /** The number of students that are read before they are converted into the model's students, in parallel. */
+    static final int STUDENT_BATCH_SIZE = 1024;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+
+    private static final String ROOT = "addressbook";
+    private static final String STUDENT = "students";
+    private static final String STUDENT_NAME = "name";
+    private static final String STUDENT_PHONE = "phone";
+    private static final String STUDENT_EMAIL = "email";
+    private static final String STUDENT_ID = "studentId";
+    private static final String STUDENT_TAG = "tagged";
+    private static final String STUDENT_FEEDBACK = "allFeedback";
+    private static final String TUTORIAL_GROUP = "tutorialGroups";
+    private static final String TUTORIAL_GROUP_NAME = "name";
+    private static final String TUTORIAL_GROUP_ID = "id";
+    private static final String TUTORIAL_GROUP_STUDENT_ID = "studentIds";
+    private static final String ASSIGNMENT = "assignments";
+    private static final String ASSIGNMENT_TITLE = "title";
+    private static final String ASSIGNMENT_TITLE_VALUE = "assignmentTitle";
+    private static final String ASSIGNMENT_MAX_MARKS = "maxMarks";
+    private static final String GRADEBOOK = "gradebook";
+    private static final String GRADE = "grades";
+    private static final String GRADE_STUDENT_ID = "studentId";
+    private static final String GRADE_MARKS = "marks";
+    private static final String SESSION = "sessions";
+    private static final String SESSION_NAME = "sessionName";
+    private static final String ATTENDANCE = "attendance";
+    private static final String ATTENDANCE_STUDENT_ID = "studentId";
+    private static final String ATTENDANCE_STATUS = "status";
+
+    private Path filePath;
+
+    public StaxSuperTaClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSuperTaClientFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient() throws DataConversionException, IOException {
+        return readSuperTaClient(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlySuperTaClient> readSuperTaClient(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SuperTaClient file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream stream = Files.newInputStream(filePath)) {
+            return Optional.of(readClientFromStream(stream));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        }
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        saveSuperTaClient(superTaClient, filePath);
+    }
+
+    @Override
+    public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException {
+        requireNonNull(superTaClient);
+        requireNonNull(filePath);
+
+        writeFile(filePath, writer -> writeClient(writer, superTaClient, true));
+    }
+
+    /**
+     * Saves only the students of {@code superTaClient} to {@code filePath}, which is then a data file without any
+     * tutorial groups.
+     */
+    static void saveStudents(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException {
+        requireNonNull(superTaClient);
+        requireNonNull(filePath);
+
+        writeFile(filePath, writer -> writeClient(writer, superTaClient, false));
+    }
+
+    /**
+     * Saves {@code tutorialGroup} to {@code filePath}, as a data file that holds only that tutorial group.
+     */
+    static void saveTutorialGroup(TutorialGroup tutorialGroup, Path filePath) throws IOException {
+        requireNonNull(tutorialGroup);
+        requireNonNull(filePath);
+
+        writeFile(filePath, writer -> {
+            writeStartElement(writer, 0, ROOT);
+            writeTutorialGroup(writer, tutorialGroup);
+            writeEndElement(writer, 0);
+        });
+    }
+
+    /**
+     * Reads the tutorial group in a file written by {@link #saveTutorialGroup(TutorialGroup, Path)}.
+     * The tutorial group is returned without its students, whose IDs are added to {@code studentIds} instead.
+     */
+    static TutorialGroup readTutorialGroup(Path filePath, List<StudentId> studentIds)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        try (InputStream stream = Files.newInputStream(filePath)) {
+            XMLStreamReader reader = createReader(stream);
+            try {
+                TutorialGroup tutorialGroup = null;
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if (tutorialGroup == null && TUTORIAL_GROUP.equals(reader.getLocalName())) {
+                        tutorialGroup = readTutorialGroup(reader, studentIds);
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+                if (tutorialGroup == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_TUTORIAL_GROUP, filePath));
+                }
+                return tutorialGroup;
+            } finally {
+                reader.close();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        }
+    }
+
+    /**
+     * Writes an xml document to {@code filePath}, whose elements are written by {@code content}.
+     */
+    private static void writeFile(Path filePath, XmlContent content) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        try (Writer out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            out.write(XML_DECLARATION);
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+            content.write(writer);
+            writer.flush();
+            writer.close();
+            out.write("\n");
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse);
+        }
+    }
+
+    /**
+     * Writes the elements of an xml document.
+     */
+    @FunctionalInterface
+    private interface XmlContent {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    //// reading
+
+    /**
+     * Reads a whole SuperTaClient from {@code stream}.
+     * Students are converted in batches as they are read, so that only one batch of them is held in their xml form
+     * at a time. The students of each tutorial group are looked up once the whole document has been read, as
+     * tutorial groups only refer to them by ID, and the tutorial groups are resolved in parallel.
+     */
+    private static SuperTaClient readClientFromStream(InputStream stream)
+            throws XMLStreamException, IllegalValueException {
+        XMLStreamReader reader = createReader(stream);
+
+        try {
+            long startTime = System.nanoTime();
+            List<Student> modelStudents = new ArrayList<>();
+            List<XmlAdaptedStudent> xmlStudents = new ArrayList<>(STUDENT_BATCH_SIZE);
+            List<TutorialGroup> tutorialGroups = new ArrayList<>();
+            List<List<StudentId>> tutorialGroupStudentIds = new ArrayList<>();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case STUDENT:
+                    xmlStudents.add(readStudent(reader));
+                    if (xmlStudents.size() == STUDENT_BATCH_SIZE) {
+                        modelStudents.addAll(XmlSerializableSuperTaClient.toModelStudents(xmlStudents));
+                        xmlStudents.clear();
+                    }
+                    break;
+                case TUTORIAL_GROUP:
+                    List<StudentId> studentIds = new ArrayList<>();
+                    tutorialGroups.add(readTutorialGroup(reader, studentIds));
+                    tutorialGroupStudentIds.add(studentIds);
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            modelStudents.addAll(XmlSerializableSuperTaClient.toModelStudents(xmlStudents));
+            SuperTaClient superTaClient = XmlSerializableSuperTaClient.toModelTypeWithModelStudents(modelStudents);
+            long studentsTime = System.nanoTime();
+
+            List<Integer> indices = IntStream.range(0, tutorialGroups.size()).boxed().collect(Collectors.toList());
+            XmlSerializableSuperTaClient.convertInParallel(indices, i -> resolveStudents(tutorialGroups.get(i),
+                    tutorialGroupStudentIds.get(i), superTaClient))
+                    .forEach(superTaClient::addTutorialGroup);
+            long tutorialGroupsTime = System.nanoTime();
+
+            logger.fine(String.format("Read and converted %d students in %d ms and resolved %d tutorial groups in %d ms",
+                    modelStudents.size(), (studentsTime - startTime) / 1_000_000, tutorialGroups.size(),
+                    (tutorialGroupsTime - studentsTime) / 1_000_000));
+            return superTaClient;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Sets the students of {@code tg} to the students of {@code superTaClient} with {@code studentIds}, and returns
+     * {@code tg}. {@code superTaClient} is only read, so tutorial groups can be resolved against it concurrently.
+     *
+     * @throws IllegalValueException if {@code superTaClient} has no student with one of {@code studentIds}.
+     */
+    private static TutorialGroup resolveStudents(TutorialGroup tg, List<StudentId> studentIds,
+                                                 SuperTaClient superTaClient) throws IllegalValueException {
+        List<Student> students = new ArrayList<>();
+        for (StudentId studentId : studentIds) {
+            students.add(superTaClient.getStudentWithId(studentId).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, tg.getId(), studentId))));
+        }
+        tg.getStudents().setStudents(students);
+        return tg;
+    }
+
+    /**
+     * Returns a reader of the xml document in {@code stream}, positioned at its root element.
+     */
+    private static XMLStreamReader createReader(InputStream stream) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = factory.createXMLStreamReader(stream);
+
+        reader.nextTag();
+        if (!ROOT.equals(reader.getLocalName())) {
+            reader.close();
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+        return reader;
+    }
+
+    /**
+     * Reads a student, which is converted into the model's {@code Student} later, together with the other students
+     * of its batch.
+     */
+    private static XmlAdaptedStudent readStudent(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String studentId = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        List<XmlAdaptedFeedback> allFeedback = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case STUDENT_NAME:
+                name = reader.getElementText();
+                break;
+            case STUDENT_PHONE:
+                phone = reader.getElementText();
+                break;
+            case STUDENT_EMAIL:
+                email = reader.getElementText();
+                break;
+            case STUDENT_ID:
+                studentId = reader.getElementText();
+                break;
+            case STUDENT_TAG:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case STUDENT_FEEDBACK:
+                allFeedback.add(new XmlAdaptedFeedback(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedStudent(name, phone, email, studentId, tagged, allFeedback);
+    }
+
+    /**
+     * Reads a tutorial group without its students, whose IDs are added to {@code studentIds} instead.
+     */
+    private static TutorialGroup readTutorialGroup(XMLStreamReader reader, List<StudentId> studentIds)
+            throws XMLStreamException, IllegalValueException {
+        String name = null;
+        String id = null;
+        List<Assignment> assignments = new ArrayList<>();
+        List<Session> sessions = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case TUTORIAL_GROUP_NAME:
+                name = reader.getElementText();
+                break;
+            case TUTORIAL_GROUP_ID:
+                id = reader.getElementText();
+                break;
+            case TUTORIAL_GROUP_STUDENT_ID:
+                studentIds.add(StudentId.of(reader.getElementText()));
+                break;
+            case ASSIGNMENT:
+                assignments.add(readAssignment(reader));
+                break;
+            case SESSION:
+                sessions.add(readSession(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (name == null) {
+            throw new IllegalValueException(String.format(XmlAdaptedTutorialGroup.MISSING_FIELD_MESSAGE_FORMAT,
+                    "name"));
+        }
+        if (id == null) {
+            throw new IllegalValueException(String.format(XmlAdaptedTutorialGroup.MISSING_FIELD_MESSAGE_FORMAT, "ID"));
+        }
+        return new TutorialGroup(id, name, new UniqueStudentList(), new UniqueAssignmentList(assignments),
+                new UniqueSessionList(sessions));
+    }
+
+    private static Assignment readAssignment(XMLStreamReader reader) throws XMLStreamException,
+                                                                           IllegalValueException {
+        String title = null;
+        Double maxMarks = null;
+        GradeBook gradebook = new GradeBook();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ASSIGNMENT_TITLE:
+                title = readTitle(reader);
+                break;
+            case ASSIGNMENT_MAX_MARKS:
+                maxMarks = parseDouble(reader.getElementText());
+                break;
+            case GRADEBOOK:
+                readGradeBook(reader, gradebook);
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (title == null) {
+            throw new IllegalValueException(String.format(XmlAdaptedAssignment.MISSING_FIELD_MESSAGE_FORMAT,
+                    "title"));
+        }
+        if (maxMarks == null) {
+            throw new IllegalValueException(String.format(XmlAdaptedAssignment.MISSING_FIELD_MESSAGE_FORMAT,
+                    "max marks"));
+        }
+        return new Assignment(Title.of(title), maxMarks, gradebook);
+    }
+
+    private static String readTitle(XMLStreamReader reader) throws XMLStreamException {
+        String title = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (ASSIGNMENT_TITLE_VALUE.equals(reader.getLocalName())) {
+                title = reader.getElementText();
+            } else {
+                skipElement(reader);
+            }
+        }
+        return title;
+    }
+
+    /**
+     * Reads the grades of a gradebook into {@code gradebook}.
+     * Grades with an invalid student ID are skipped, as they are when the file is read by JAXB.
+     */
+    private static void readGradeBook(XMLStreamReader reader, GradeBook gradebook) throws XMLStreamException,
+                                                                                         IllegalValueException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!GRADE.equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+
+            String studentId = null;
+            Double marks = null;
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case GRADE_STUDENT_ID:
+                    studentId = reader.getElementText();
+                    break;
+                case GRADE_MARKS:
+                    marks = parseDouble(reader.getElementText());
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+
+            if (marks == null) {
+                throw new IllegalValueException(String.format(XmlGrade.MISSING_FIELD_MESSAGE_FORMAT, "marks"));
+            }
+            try {
+                gradebook.addGrade(ParserUtil.parseStudentId(String.valueOf(studentId)), marks);
+            } catch (ParseException pe) {
+                logger.warning("Skipping grade of invalid student " + studentId);
+            }
+        }
+    }
+
+    private static Session readSession(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        String sessionName = null;
+        Set<Attendance> attendances = new HashSet<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case SESSION_NAME:
+                sessionName = reader.getElementText();
+                break;
+            case ATTENDANCE:
+                attendances.add(readAttendance(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (sessionName == null) {
+            throw new IllegalValueException(String.format(XmlAdaptedSession.MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        return new Session(sessionName, attendances);
+    }
+
+    private static Attendance readAttendance(XMLStreamReader reader) throws XMLStreamException,
+                                                                           IllegalValueException {
+        String studentId = null;
+        Presence status = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ATTENDANCE_STUDENT_ID:
+                studentId = reader.getElementText();
+                break;
+            case ATTENDANCE_STATUS:
+                status = parsePresence(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedAttendance(studentId, status).toModelType();
+    }
+
+    /**
+     * Returns the number in {@code text}, or null if it is not a number.
+     */
+    private static Double parseDouble(String text) {
+        try {
+            return Double.valueOf(text.trim());
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the presence named by {@code text}, or null if there is no such presence.
+     */
+    private static Presence parsePresence(String text) {
+        try {
+            return Presence.getPresence(text.trim());
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Skips the element that {@code reader} is at, and everything in it.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    //// writing
+
+    private static void writeClient(XMLStreamWriter writer, ReadOnlySuperTaClient superTaClient,
+                                    boolean isWithTutorialGroups) throws XMLStreamException {
+        writeStartElement(writer, 0, ROOT);
+        for (Student student : superTaClient.getStudentList()) {
+            writeStudent(writer, student);
+        }
+        if (isWithTutorialGroups) {
+            for (TutorialGroup tg : superTaClient.getTutorialGroupMap().values()) {
+                writeTutorialGroup(writer, tg);
+            }
+        }
+        writeEndElement(writer, 0);
+    }
+
+    private static void writeStudent(XMLStreamWriter writer, Student student) throws XMLStreamException {
+        writeStartElement(writer, 1, STUDENT);
+        writeTextElement(writer, 2, STUDENT_NAME, student.getName().fullName);
+        writeTextElement(writer, 2, STUDENT_PHONE, student.getPhone().value);
+        writeTextElement(writer, 2, STUDENT_EMAIL, student.getEmail().value);
+        writeTextElement(writer, 2, STUDENT_ID, student.getStudentId().studentId);
+        for (Tag tag : student.getTags()) {
+            writeTextElement(writer, 2, STUDENT_TAG, tag.tagName);
+        }
+        for (Feedback feedback : student.getFeedback()) {
+            writeTextElement(writer, 2, STUDENT_FEEDBACK, feedback.value);
+        }
+        writeEndElement(writer, 1);
+    }
+
+    private static void writeTutorialGroup(XMLStreamWriter writer, TutorialGroup tg) throws XMLStreamException {
+        writeStartElement(writer, 1, TUTORIAL_GROUP);
+        writeTextElement(writer, 2, TUTORIAL_GROUP_NAME, tg.getName());
+        writeTextElement(writer, 2, TUTORIAL_GROUP_ID, tg.getId());
+        for (Student student : tg.getStudents()) {
+            writeTextElement(writer, 2, TUTORIAL_GROUP_STUDENT_ID, student.getStudentId().studentId);
+        }
+        for (Assignment assignment : tg.getAssignments()) {
+            writeAssignment(writer, assignment);
+        }
+        for (Session session : tg.getSessions()) {
+            writeSession(writer, session);
+        }
+        writeEndElement(writer, 1);
+    }
+
+    private static void writeAssignment(XMLStreamWriter writer, Assignment assignment) throws XMLStreamException {
+        writeStartElement(writer, 2, ASSIGNMENT);
+        writeStartElement(writer, 3, ASSIGNMENT_TITLE);
+        writeTextElement(writer, 4, ASSIGNMENT_TITLE_VALUE, assignment.getTitle().assignmentTitle);
+        writeEndElement(writer, 3);
+        writeTextElement(writer, 3, ASSIGNMENT_MAX_MARKS, String.valueOf(assignment.getMaxMarks()));
+        writeStartElement(writer, 3, GRADEBOOK);
+        List<GradeEntry> entries = assignment.getGradebook().stream().collect(Collectors.toList());
+        for (GradeEntry entry : entries) {
+            writeStartElement(writer, 4, GRADE);
+            writeTextElement(writer, 5, GRADE_STUDENT_ID, entry.studentId.studentId);
+            writeTextElement(writer, 5, GRADE_MARKS, String.valueOf(entry.marks));
+            writeEndElement(writer, 4);
+        }
+        writeEndElement(writer, 3);
+        writeEndElement(writer, 2);
+    }
+
+    private static void writeSession(XMLStreamWriter writer, Session session) throws XMLStreamException {
+        writeStartElement(writer, 2, SESSION);
+        writeTextElement(writer, 3, SESSION_NAME, session.getSessionName());
+        for (Attendance attendance : session.getAttendance()) {
+            writeStartElement(writer, 3, ATTENDANCE);
+            writeTextElement(writer, 4, ATTENDANCE_STUDENT_ID, attendance.getStudentId().studentId);
+            writeTextElement(writer, 4, ATTENDANCE_STATUS, Presence.token(attendance.getPresence()));
+            writeEndElement(writer, 3);
+        }
+        writeEndElement(writer, 2);
+    }
+
+    /**
+     * Starts an element on a new line, indented by {@code depth} levels as JAXB's formatted output is.
+     */
+    private static void writeStartElement(XMLStreamWriter writer, int depth, String name) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    private static void writeEndElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String name, String text)
+            throws XMLStreamException {
+        writeStartElement(writer, depth, name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indent = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indent.append(INDENT);
+        }
+        writer.writeCharacters(indent.toString());
+    }
+}
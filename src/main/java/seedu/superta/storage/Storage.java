@@ -31,9 +31,21 @@ public interface Storage extends SuperTaClientStorage, UserPrefsStorage {
     void saveSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Schedules the current version of the Address Book to be saved to the hard disk.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleSuperTaClientChangedEvent(SuperTaClientChangedEvent abce);
+
+    /**
+     * Saves any scheduled changes to the hard disk, and returns only after they have been saved.
+     */
+    void flush();
+
+    /**
+     * Saves any scheduled changes to the hard disk and completes any deferred work, before the app exits.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    @Override
+    void close();
 }
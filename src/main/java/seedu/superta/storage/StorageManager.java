@@ -2,12 +2,20 @@ package seedu.superta.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.superta.commons.core.ComponentManager;
+import seedu.superta.commons.core.Config;
 import seedu.superta.commons.core.LogsCenter;
 import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
 import seedu.superta.commons.events.storage.DataSavingExceptionEvent;
@@ -17,6 +25,10 @@ import seedu.superta.model.UserPrefs;
 
 /**
  * Manages storage of SuperTaClient data in local storage.
+ *
+ * Changes to the SuperTaClient are saved on a dedicated writer thread. All changes made within
+ * {@code saveDelayInMillis} of the first unsaved change are written to file together, as a single save of the
+ * latest data.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,11 +36,25 @@ public class StorageManager extends ComponentManager implements Storage {
     private SuperTaClientStorage superTaClientStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayInMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlySuperTaClient> pendingData = new AtomicReference<>();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean(false);
 
     public StorageManager(SuperTaClientStorage superTaClientStorage, UserPrefsStorage userPrefsStorage) {
+        this(superTaClientStorage, userPrefsStorage, Config.DEFAULT_SAVE_DELAY_IN_MILLIS);
+    }
+
+    public StorageManager(SuperTaClientStorage superTaClientStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayInMillis) {
         super();
         this.superTaClientStorage = superTaClientStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayInMillis = saveDelayInMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,7 +90,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlySuperTaClient> readSuperTaClient(Path filePath)
             throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return superTaClientStorage.readSuperTaClient(filePath);
     }
 
@@ -75,17 +101,66 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         superTaClientStorage.saveSuperTaClient(superTaClient, filePath);
     }
 
+    @Override
+    public void replaceSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        logger.fine(() -> "Attempting to replace data file: " + getSuperTaClientFilePath());
+        superTaClientStorage.replaceSuperTaClient(superTaClient);
+    }
+
+    @Override
+    public List<Path> getSuperTaClientFiles() throws IOException {
+        return superTaClientStorage.getSuperTaClientFiles();
+    }
+
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(this::savePendingData).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush pending changes " + e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            superTaClientStorage.close();
+        } catch (IOException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
+        writer.shutdown();
+    }
 
     @Override
     @Subscribe
     public void handleSuperTaClientChangedEvent(SuperTaClientChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        pendingData.set(event.data);
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::savePendingData, saveDelayInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the latest pending data, if any, to file.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    private void savePendingData() {
+        isSaveScheduled.set(false);
+        ReadOnlySuperTaClient data = pendingData.getAndSet(null);
+        if (data == null) {
+            return;
+        }
         try {
-            saveSuperTaClient(event.data);
+            saveSuperTaClient(data);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
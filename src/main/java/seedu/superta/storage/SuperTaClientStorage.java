@@ -2,9 +2,12 @@ package seedu.superta.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.commons.util.FileUtil;
 import seedu.superta.model.ReadOnlySuperTaClient;
 import seedu.superta.model.SuperTaClient;
 
@@ -43,4 +46,33 @@ public interface SuperTaClientStorage {
      */
     void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlySuperTaClient} to the storage atomically: if the save is interrupted, the storage
+     * holds either its previous data or {@code superTaClient}, and never a mix of the two.
+     * By default, the data is saved to a file next to the data file, which is then moved over the data file.
+     * @param superTaClient cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void replaceSuperTaClient(ReadOnlySuperTaClient superTaClient) throws IOException {
+        Path filePath = getSuperTaClientFilePath();
+        Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        saveSuperTaClient(superTaClient, newFilePath);
+        FileUtil.moveReplacing(newFilePath, filePath);
+    }
+
+    /**
+     * Returns the files that hold the data in the storage, in the order they are read in.
+     * By default, this is only the data file.
+     * @throws IOException if there was any problem listing the files.
+     */
+    default List<Path> getSuperTaClientFiles() throws IOException {
+        return Collections.singletonList(getSuperTaClientFilePath());
+    }
+
+    /**
+     * Completes any work the storage has deferred, before the app exits.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void close() throws IOException {}
+
 }
@@ -54,6 +54,6 @@ public class XmlAdaptedAttendance implements XmlAdapted<Attendance> {
         if (status == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "presence"));
         }
-        return new Attendance(new StudentId(studentId), status);
+        return new Attendance(StudentId.of(studentId), status);
     }
 }
@@ -43,7 +43,7 @@ public class XmlAdaptedSession implements XmlAdapted<Session> {
      */
     public XmlAdaptedSession(Session source) {
         sessionName = source.getSessionName();
-        attendance = source.asUnmodifiableObservableSet().stream()
+        attendance = source.getAttendance().stream()
                 .map(XmlAdaptedAttendance::new)
                 .collect(Collectors.toSet());
     }
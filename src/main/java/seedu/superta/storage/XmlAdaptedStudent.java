@@ -60,6 +60,17 @@ public class XmlAdaptedStudent {
         }
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedStudent} with the given student details and feedback.
+     */
+    public XmlAdaptedStudent(String name, String phone, String email, String studentId,
+                             List<XmlAdaptedTag> tagged, List<XmlAdaptedFeedback> allFeedback) {
+        this(name, phone, email, studentId, tagged);
+        if (allFeedback != null) {
+            this.allFeedback = new ArrayList<>(allFeedback);
+        }
+    }
+
     /**
      * Converts a given Student into this class for JAXB use.
      *
@@ -125,7 +136,7 @@ public class XmlAdaptedStudent {
         if (!StudentId.isValidStudentId(studentId)) {
             throw new IllegalValueException(StudentId.MESSAGE_STUDENT_ID_CONSTRAINTS);
         }
-        final StudentId modelStudentId = new StudentId(studentId);
+        final StudentId modelStudentId = StudentId.of(studentId);
 
         final List<Feedback> modelFeedback = new ArrayList<>(allStudentFeedback);
 
@@ -27,6 +27,6 @@ public class XmlAdaptedTitle implements XmlAdapted<Title> {
         if (assignmentTitle == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "title"));
         }
-        return new Title(assignmentTitle);
+        return Title.of(assignmentTitle);
     }
 }
@@ -24,6 +24,7 @@ import seedu.superta.model.tutorialgroup.TutorialGroup;
 public class XmlAdaptedTutorialGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Tutorial Group's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Tutorial group %s contains unknown student %s.";
 
     @XmlElement(required = true)
     private String name;
@@ -61,11 +62,13 @@ public class XmlAdaptedTutorialGroup {
 
     /**
      * Requires the data store so that we don't recreate students.
+     * Only reads from {@code superTaClient}, so several tutorial groups may be converted with it at once.
      */
     public TutorialGroup toModelType(SuperTaClient superTaClient) throws IllegalValueException {
         final List<Student> modelStudents = new ArrayList<>();
-        for (String id : studentIds) {
-            Student student = superTaClient.getStudentWithId(new StudentId(id)).get();
+        for (String studentId : studentIds) {
+            Student student = superTaClient.getStudentWithId(StudentId.of(studentId)).orElseThrow(() ->
+                new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, id, studentId)));
             modelStudents.add(student);
         }
         UniqueStudentList studentList = new UniqueStudentList();
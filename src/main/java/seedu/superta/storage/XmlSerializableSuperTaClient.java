@@ -1,16 +1,22 @@
 package seedu.superta.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import seedu.superta.commons.core.LogsCenter;
 import seedu.superta.commons.exceptions.IllegalValueException;
 import seedu.superta.model.ReadOnlySuperTaClient;
 import seedu.superta.model.SuperTaClient;
 import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.exceptions.DuplicateStudentException;
 import seedu.superta.model.tutorialgroup.TutorialGroup;
 
 /**
@@ -21,6 +27,8 @@ public class XmlSerializableSuperTaClient {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate student(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(XmlSerializableSuperTaClient.class);
+
     @XmlElement
     private List<XmlAdaptedStudent> students;
 
@@ -48,26 +56,116 @@ public class XmlSerializableSuperTaClient {
 
     /**
      * Converts this SuperTA client into the model's {@code SuperTaClient} object.
+     * Students are converted in parallel, and then tutorial groups are, looking up their students by ID.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedStudent}.
      */
     public SuperTaClient toModelType() throws IllegalValueException {
-        SuperTaClient superTaClient = new SuperTaClient();
-        for (XmlAdaptedStudent p : students) {
-            Student student = p.toModelType();
-            if (superTaClient.hasStudent(student)) {
+        long startTime = System.nanoTime();
+        SuperTaClient superTaClient = toModelTypeWithStudents(students);
+        long studentsTime = System.nanoTime();
+
+        List<TutorialGroup> modelTutorialGroups = convertInParallel(tutorialGroups,
+            xmlTg -> xmlTg.toModelType(superTaClient));
+        modelTutorialGroups.forEach(superTaClient::addTutorialGroup);
+        long tutorialGroupsTime = System.nanoTime();
+
+        logger.fine(String.format("Converted %d students in %d ms and %d tutorial groups in %d ms",
+                students.size(), (studentsTime - startTime) / 1_000_000,
+                tutorialGroups.size(), (tutorialGroupsTime - studentsTime) / 1_000_000));
+        return superTaClient;
+    }
+
+    /**
+     * Returns a {@code SuperTaClient} that holds {@code students}, which are converted into the model's
+     * {@code Student} objects in parallel.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in {@code students}.
+     */
+    static SuperTaClient toModelTypeWithStudents(List<XmlAdaptedStudent> students) throws IllegalValueException {
+        return toModelTypeWithModelStudents(toModelStudents(students));
+    }
+
+    /**
+     * Converts {@code students} into the model's {@code Student} objects in parallel, and returns them in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code students}.
+     */
+    static List<Student> toModelStudents(List<XmlAdaptedStudent> students) throws IllegalValueException {
+        return convertInParallel(students, XmlAdaptedStudent::toModelType);
+    }
+
+    /**
+     * Returns a {@code SuperTaClient} that holds {@code modelStudents}.
+     * Students are duplicates if they share an ID, as the tutorial groups refer to students by ID, or an identity.
+     * IDs are compared as {@code SuperTaClient#hasStudent} compares them, which is how duplicates have always been
+     * found on load.
+     *
+     * @throws IllegalValueException if there are duplicates in {@code modelStudents}.
+     */
+    static SuperTaClient toModelTypeWithModelStudents(List<Student> modelStudents) throws IllegalValueException {
+        Set<StudentId> studentIds = new HashSet<>();
+        for (Student student : modelStudents) {
+            if (!studentIds.add(student.getStudentId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            superTaClient.addStudent(student);
         }
-        for (XmlAdaptedTutorialGroup xmlTg : tutorialGroups) {
-            TutorialGroup tg = xmlTg.toModelType(superTaClient);
-            superTaClient.addTutorialGroup(tg);
+
+        SuperTaClient superTaClient = new SuperTaClient();
+        try {
+            superTaClient.setStudents(modelStudents);
+        } catch (DuplicateStudentException dse) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return superTaClient;
     }
 
+    /**
+     * Applies {@code conversion} to each of {@code sources} on the common fork-join pool, and returns the results in
+     * the order of {@code sources}.
+     *
+     * @throws IllegalValueException if the conversion of any of {@code sources} failed.
+     */
+    static <T, R> List<R> convertInParallel(List<T> sources, Conversion<T, R> conversion)
+            throws IllegalValueException {
+        try {
+            return sources.parallelStream()
+                .map(source -> {
+                    try {
+                        return conversion.convert(source);
+                    } catch (IllegalValueException ive) {
+                        throw new ConversionFailedException(ive);
+                    }
+                })
+                .collect(Collectors.toList());
+        } catch (ConversionFailedException cfe) {
+            throw cfe.getCause();
+        }
+    }
+
+    /**
+     * Converts an xml-adapted object into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<T, R> {
+        R convert(T source) throws IllegalValueException;
+    }
+
+    /**
+     * Carries the {@code IllegalValueException} of a failed conversion out of a stream.
+     */
+    private static class ConversionFailedException extends RuntimeException {
+        ConversionFailedException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,7 @@ package seedu.superta.ui;
 // @@author Caephler
 
 import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -28,6 +29,8 @@ public class AssignmentCard extends UiPart<Region> {
 
     private TutorialGroup tutorialGroup;
     private Assignment assignment;
+    // the grade book outlives this card, so it only refers to this listener weakly
+    private final ListChangeListener<GradeEntry> gradeBookListener = change -> updateStudentCount();
 
     public AssignmentCard(TutorialGroup tutorialGroup, Assignment assignment) {
         super(FXML);
@@ -45,10 +48,7 @@ public class AssignmentCard extends UiPart<Region> {
         );
 
         assignment.getGradebook().asUnmodifiableObservableList().addListener(
-            (ListChangeListener<? super GradeEntry>) change -> {
-                updateStudentCount();
-            }
-        );
+            new WeakListChangeListener<>(gradeBookListener));
     }
 
     /**
@@ -56,7 +56,7 @@ public class AssignmentCard extends UiPart<Region> {
      */
     public void updateStudentCount() {
         int total = tutorialGroup.getStudents().size();
-        long graded = assignment.getGradebook().stream().count();
+        int graded = assignment.getGradebook().size();
 
         studentsGraded.setText("" + graded + " / " + total + " students graded");
     }
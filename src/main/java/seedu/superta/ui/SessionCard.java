@@ -1,6 +1,7 @@
 package seedu.superta.ui;
 
 import javafx.collections.SetChangeListener;
+import javafx.collections.WeakSetChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -24,6 +25,12 @@ public class SessionCard extends UiPart<Region> {
 
     private Session session;
     private TutorialGroup tutorialGroup;
+    // the session outlives this card, so it only refers to this listener weakly
+    private final SetChangeListener<Attendance> attendanceListener = change -> {
+        if (change.wasAdded() || change.wasRemoved()) {
+            updateAttendanceCount();
+        }
+    };
 
     public SessionCard(Session session, TutorialGroup tutorialGroup) {
         super(FXML);
@@ -35,17 +42,11 @@ public class SessionCard extends UiPart<Region> {
     }
 
     private void setListeners() {
-        session.asUnmodifiableObservableSet().addListener(
-            (SetChangeListener<? super Attendance>) change -> {
-                if (change.wasAdded() || change.wasRemoved()) {
-                    updateAttendanceCount();
-                }
-            }
-        );
+        session.asUnmodifiableObservableSet().addListener(new WeakSetChangeListener<>(attendanceListener));
     }
 
     private void updateAttendanceCount() {
-        setAttendanceCount(session.asUnmodifiableObservableSet().size(),
+        setAttendanceCount(session.size(),
                            tutorialGroup.getStudents().size());
     }
 
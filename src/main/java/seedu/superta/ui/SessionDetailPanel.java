@@ -107,7 +107,7 @@ public class SessionDetailPanel extends ViewPanelContent {
      * Updates the attendance count using the internal session and tutorial group details.
      */
     private void updateAttendanceCount() {
-        setAttendanceCount(session.asUnmodifiableObservableSet().size(),
+        setAttendanceCount(session.size(),
                 tutorialGroup.getStudents().size());
     }
 
@@ -15,6 +15,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.superta.commons.core.LogsCenter;
 import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.commons.events.model.UndoHistoryChangedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +24,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String UNDO_HISTORY_STATUS_INITIAL = "No undo history yet";
+    public static final String UNDO_HISTORY_STATUS = "Undo history: %d steps, ~%d KB";
 
     /**
      * Used to generate time stamps.
@@ -41,12 +44,15 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar undoHistoryStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setUndoHistoryStatus(UNDO_HISTORY_STATUS_INITIAL);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
         registerAsAnEventHandler(this);
     }
@@ -73,6 +79,10 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setUndoHistoryStatus(String status) {
+        Platform.runLater(() -> undoHistoryStatus.setText(status));
+    }
+
     @Subscribe
     public void handleSuperTaClientChangedEvent(SuperTaClientChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +90,10 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleUndoHistoryChangedEvent(UndoHistoryChangedEvent uhce) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(uhce, "Updating undo history status"));
+        setUndoHistoryStatus(String.format(UNDO_HISTORY_STATUS, uhce.depth, uhce.sizeInBytes / 1024));
+    }
 }
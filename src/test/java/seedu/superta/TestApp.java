@@ -72,6 +72,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public SuperTaClient readStorageAddressBook() {
+        storage.flush();
         try {
             return new SuperTaClient(storage.readSuperTaClient().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,166 @@
+package seedu.superta.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private AsyncLogHandler asyncHandler;
+
+    @After
+    public void tearDown() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    @Test
+    public void publish_records_writtenInOrderOffCallingThread() {
+        RecordingHandler target = new RecordingHandler();
+        asyncHandler = new AsyncLogHandler(128, target);
+
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedMessages.add("message " + i);
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.flush();
+
+        assertEquals(expectedMessages, target.messages);
+        assertNotSame(Thread.currentThread(), target.lastThread);
+        assertTrue(target.flushCount > 0);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        asyncHandler = new AsyncLogHandler(16, target);
+        asyncHandler.setLevel(Level.INFO);
+
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncHandler.flush();
+
+        assertEquals(Collections.singletonList("info"), target.messages);
+    }
+
+    @Test
+    public void publish_bufferFull_recordsBelowWarningDroppedAndReported() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                await(release);
+                super.publish(record);
+            }
+        };
+        asyncHandler = new AsyncLogHandler(2, target);
+
+        asyncHandler.publish(new LogRecord(Level.INFO, "being written"));
+        await(isWriting);
+        asyncHandler.publish(new LogRecord(Level.INFO, "buffered 1"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "buffered 2"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, asyncHandler.getDroppedCount());
+
+        // a warning waits for room instead of being dropped
+        Thread warningThread = new Thread(() -> asyncHandler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        Thread.sleep(20);
+        assertTrue(warningThread.isAlive());
+
+        release.countDown();
+        warningThread.join();
+        asyncHandler.flush();
+        assertEquals(Arrays.asList("being written", "1 log records dropped as the log buffer was full",
+                "buffered 1", "buffered 2", "warning"), target.messages);
+        assertEquals(1, asyncHandler.getDroppedCount());
+    }
+
+    @Test
+    public void close_pendingRecords_writtenAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler();
+        asyncHandler = new AsyncLogHandler(16, target);
+
+        asyncHandler.publish(new LogRecord(Level.INFO, "before close"));
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "after close"));
+        // closing again does nothing
+        asyncHandler.close();
+
+        assertEquals(Collections.singletonList("before close"), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_sourceLookedUpOnCallingThread() {
+        RecordingHandler target = new RecordingHandler();
+        asyncHandler = new AsyncLogHandler(16, target);
+        Logger logger = Logger.getLogger("AsyncLogHandlerTest");
+        logger.setUseParentHandlers(false);
+        logger.addHandler(asyncHandler);
+        try {
+            logger.info(() -> "message");
+            asyncHandler.flush();
+        } finally {
+            logger.removeHandler(asyncHandler);
+        }
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.lastSourceClassName);
+        assertFalse(target.messages.isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A handler that records the messages it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private volatile Thread lastThread;
+        private volatile String lastSourceClassName;
+        private volatile int flushCount;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            lastThread = Thread.currentThread();
+            lastSourceClassName = record.getSourceClassName();
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
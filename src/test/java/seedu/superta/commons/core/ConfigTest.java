@@ -16,7 +16,9 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : SuperTA\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Save delay : 300ms\n"
+                + "Event dispatch mode : SYNCHRONOUS";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
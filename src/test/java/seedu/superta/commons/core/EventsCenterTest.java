@@ -0,0 +1,173 @@
+package seedu.superta.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.superta.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private final ExecutorService uiThread = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+        uiThread.shutdownNow();
+    }
+
+    @Test
+    public void post_synchronousMode_handledBeforePostReturns() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        RecordingHandler handler = new RecordingHandler();
+        RecordingHandler uiHandler = new RecordingHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.registerUiHandler(uiHandler);
+
+        eventsCenter.post(new NumberedEvent(1));
+
+        assertEquals(EventDispatchMode.SYNCHRONOUS, eventsCenter.getMode());
+        assertEquals(Collections.singletonList(1), handler.numbers);
+        assertEquals(Collections.singletonList(1), uiHandler.numbers);
+        assertSame(Thread.currentThread(), handler.lastThread);
+        assertSame(eventsCenter.getBackgroundQueue(), eventsCenter.getUiQueue());
+        assertEquals(1, eventsCenter.getBackgroundQueue().getHandledCount());
+        assertEquals(0, eventsCenter.getBackgroundQueue().getQueueDepth());
+    }
+
+    @Test
+    public void post_asynchronousMode_handledInOrderOffPostingThread() throws Exception {
+        EventsCenter.useAsynchronousDispatch(uiThread);
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        RecordingHandler handler = new RecordingHandler();
+        RecordingHandler uiHandler = new RecordingHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.registerUiHandler(uiHandler);
+
+        for (int i = 1; i <= 100; i++) {
+            eventsCenter.post(new NumberedEvent(i));
+        }
+        eventsCenter.flush();
+        uiThread.submit(() -> null).get();
+
+        List<Integer> expectedNumbers = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            expectedNumbers.add(i);
+        }
+        assertEquals(EventDispatchMode.ASYNCHRONOUS, eventsCenter.getMode());
+        assertEquals(expectedNumbers, handler.numbers);
+        assertEquals(expectedNumbers, uiHandler.numbers);
+        assertNotSame(Thread.currentThread(), handler.lastThread);
+        assertNotSame(handler.lastThread, uiHandler.lastThread);
+        assertEquals(100, eventsCenter.getBackgroundQueue().getHandledCount());
+        assertEquals(100, eventsCenter.getUiQueue().getHandledCount());
+    }
+
+    @Test
+    public void getQueueDepth_slowHandler_pendingEventsCountedAndHandlingTimeRecorded() throws Exception {
+        EventsCenter.useAsynchronousDispatch(uiThread);
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) throws InterruptedException {
+                started.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+        });
+
+        eventsCenter.post(new NumberedEvent(1));
+        eventsCenter.post(new NumberedEvent(2));
+        eventsCenter.post(new NumberedEvent(3));
+        assertEquals(3, eventsCenter.getBackgroundQueue().getQueueDepth());
+        // no UI handler is registered, so nothing is queued for the UI
+        assertEquals(0, eventsCenter.getUiQueue().getQueueDepth());
+
+        // the first event is being handled for at least as long as this sleeps
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        release.countDown();
+        eventsCenter.flush();
+        assertEquals(0, eventsCenter.getBackgroundQueue().getQueueDepth());
+        assertEquals(3, eventsCenter.getBackgroundQueue().getHandledCount());
+        assertTrue(eventsCenter.getBackgroundQueue().getMaxHandlingTimeInNanos()
+                >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(eventsCenter.getBackgroundQueue().getMeanHandlingTimeInNanos()
+                <= eventsCenter.getBackgroundQueue().getMaxHandlingTimeInNanos());
+    }
+
+    @Test
+    public void post_handlerPostsEvent_nestedEventHandledAfterCurrentOne() throws Exception {
+        EventsCenter.useAsynchronousDispatch(uiThread);
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        RecordingHandler handler = new RecordingHandler();
+        CountDownLatch secondPosted = new CountDownLatch(1);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) throws InterruptedException {
+                if (event.number == 1) {
+                    // the nested event must be posted after the second one for their order to be known
+                    secondPosted.await(10, TimeUnit.SECONDS);
+                    eventsCenter.post(new NumberedEvent(3));
+                    // flushing from a handler would wait for itself, so it returns at once
+                    eventsCenter.flush();
+                }
+            }
+        });
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new NumberedEvent(1));
+        eventsCenter.post(new NumberedEvent(2));
+        secondPosted.countDown();
+        eventsCenter.flush();
+        eventsCenter.flush();
+
+        assertEquals(Arrays.asList(1, 2, 3), handler.numbers);
+    }
+
+    /**
+     * An event that carries a number.
+     */
+    private static class NumberedEvent extends BaseEvent {
+        private final int number;
+
+        NumberedEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "event " + number;
+        }
+    }
+
+    /**
+     * A handler that records the numbers of the events it handles, and the thread that called it last.
+     */
+    private static class RecordingHandler {
+        private final List<Integer> numbers = Collections.synchronizedList(new ArrayList<>());
+        private volatile Thread lastThread;
+
+        @Subscribe
+        public void handle(NumberedEvent event) {
+            numbers.add(event.number);
+            lastThread = Thread.currentThread();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.superta.commons.core;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import seedu.superta.commons.events.BaseEvent;
+
+/**
+ * Measures the time the command thread spends logging the messages of a command, as {@code LogicManager},
+ * {@code EventsCenter} and {@code StorageManager} log them, before and after logging was made asynchronous.
+ *
+ * Before, every message was concatenated eagerly, including those below the enabled level, and written by a
+ * synchronous {@code FileHandler}. After, messages are built by {@code Supplier}s only when their level is enabled,
+ * and written by an {@link AsyncLogHandler}. The time taken until the log file has been written is reported as
+ * well, as the writer thread still has to write every record.
+ *
+ * This is not part of the test suite, as the times depend on the machine. Run it with {@code gradle
+ * loggingBenchmark}, or with {@code java seedu.superta.commons.core.LoggingBenchmark [COMMAND_COUNT]}.
+ */
+public class LoggingBenchmark {
+
+    private static final int DEFAULT_COMMAND_COUNT = 20000;
+    private static final int ROUND_COUNT = 5;
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws IOException {
+        int commandCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMMAND_COUNT;
+        new LoggingBenchmark().run(commandCount);
+    }
+
+    private void run(int commandCount) throws IOException {
+        Path directory = Files.createTempDirectory("logging-benchmark");
+        FileHandler syncHandler = createFileHandler(directory.resolve("sync.log"));
+        Logger syncLogger = createLogger("LoggingBenchmark.sync", syncHandler);
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(commandCount * 8,
+                createFileHandler(directory.resolve("async.log")));
+        Logger asyncLogger = createLogger("LoggingBenchmark.async", asyncHandler);
+
+        // warm up
+        logCommandsEagerly(syncLogger, commandCount / 4);
+        logCommandsLazily(asyncLogger, commandCount / 4);
+        asyncHandler.flush();
+
+        long[] syncCommandTimes = new long[ROUND_COUNT];
+        long[] asyncCommandTimes = new long[ROUND_COUNT];
+        long[] asyncWrittenTimes = new long[ROUND_COUNT];
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            long start = getCommandThreadTime();
+            logCommandsEagerly(syncLogger, commandCount);
+            syncCommandTimes[round] = getCommandThreadTime() - start;
+
+            long startNanos = System.nanoTime();
+            start = getCommandThreadTime();
+            logCommandsLazily(asyncLogger, commandCount);
+            asyncCommandTimes[round] = getCommandThreadTime() - start;
+            asyncHandler.flush();
+            asyncWrittenTimes[round] = System.nanoTime() - startNanos;
+        }
+
+        System.out.println(String.format("Logging %d commands, median of %d rounds (%s):", commandCount,
+                ROUND_COUNT, threadBean.isCurrentThreadCpuTimeSupported() ? "command thread CPU time" : "wall time"));
+        System.out.println(String.format("  eager messages, synchronous FileHandler: %d ms",
+                toMillis(median(syncCommandTimes))));
+        System.out.println(String.format("  lazy messages, AsyncLogHandler:          %d ms (%d ms wall time until "
+                + "written)", toMillis(median(asyncCommandTimes)), toMillis(median(asyncWrittenTimes))));
+        System.out.println(String.format("  records dropped: %d", asyncHandler.getDroppedCount()));
+
+        syncLogger.removeHandler(syncHandler);
+        syncHandler.close();
+        asyncLogger.removeHandler(asyncHandler);
+        asyncHandler.close();
+    }
+
+    /**
+     * Logs the messages of {@code commandCount} commands as they were logged before, with every message built
+     * whether or not its level is enabled.
+     */
+    private static void logCommandsEagerly(Logger logger, int commandCount) {
+        for (int i = 0; i < commandCount; i++) {
+            String commandText = "find n/Alice" + i;
+            BenchmarkEvent event = new BenchmarkEvent(i);
+            logger.info("----------------[USER COMMAND][" + commandText + "]");
+            logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event);
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+            logger.fine("Attempting to write to data file: " + event.getDataFile());
+        }
+    }
+
+    /**
+     * Logs the messages of {@code commandCount} commands as they are logged now, with each message only built if
+     * its level is enabled.
+     */
+    private static void logCommandsLazily(Logger logger, int commandCount) {
+        for (int i = 0; i < commandCount; i++) {
+            String commandText = "find n/Alice" + i;
+            BenchmarkEvent event = new BenchmarkEvent(i);
+            logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+            logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event);
+            logger.info(() -> LogsCenter.getEventHandlingLogMessage(event,
+                    "Local data changed, scheduling save to file"));
+            logger.fine(() -> "Attempting to write to data file: " + event.getDataFile());
+        }
+    }
+
+    private long getCommandThreadTime() {
+        return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static FileHandler createFileHandler(Path file) throws IOException {
+        FileHandler fileHandler = new FileHandler(file.toString());
+        fileHandler.setFormatter(new SimpleFormatter());
+        return fileHandler;
+    }
+
+    private static Logger createLogger(String name, Handler handler) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        return logger;
+    }
+
+    /**
+     * An event that describes itself as a {@code SuperTaClientChangedEvent} does.
+     */
+    private static class BenchmarkEvent extends BaseEvent {
+        private final int studentCount;
+
+        BenchmarkEvent(int studentCount) {
+            this.studentCount = studentCount;
+        }
+
+        String getDataFile() {
+            return "data/superta.xml";
+        }
+
+        @Override
+        public String toString() {
+            return "number of persons " + studentCount;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.superta.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void getLogger_requestedAgain_sameLoggerWithOneHandler() {
+        Logger logger = LogsCenter.getLogger("LogsCenterTest");
+        Handler[] handlers = logger.getHandlers();
+
+        assertSame(logger, LogsCenter.getLogger("LogsCenterTest"));
+        assertEquals(1, handlers.length);
+        assertTrue(handlers[0] instanceof AsyncLogHandler);
+        assertSame(handlers[0], logger.getHandlers()[0]);
+        assertFalse(logger.getUseParentHandlers());
+    }
+
+    @Test
+    public void fine_levelDisabled_messageNotBuilt() {
+        Logger logger = LogsCenter.getLogger("LogsCenterTest");
+        AtomicBoolean isBuilt = new AtomicBoolean(false);
+
+        logger.fine(() -> {
+            isBuilt.set(true);
+            return "fine";
+        });
+
+        assertFalse(isBuilt.get());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.superta.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void splitRow_nullLine_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        CsvUtil.splitRow(null);
+    }
+
+    @Test
+    public void splitRow() {
+        // empty line -> one empty field
+        assertEquals(Collections.singletonList(""), CsvUtil.splitRow(""));
+
+        // fields are trimmed
+        assertEquals(Arrays.asList("A0123456A", "12.5"), CsvUtil.splitRow(" A0123456A , 12.5 "));
+
+        // empty fields are kept
+        assertEquals(Arrays.asList("A0123456A", "", ""), CsvUtil.splitRow("A0123456A,,"));
+
+        // quoted fields may hold separators and quotes
+        assertEquals(Arrays.asList("Tan, Alice", "say \"hi\""), CsvUtil.splitRow("\"Tan, Alice\",\"say \"\"hi\"\"\""));
+    }
+}
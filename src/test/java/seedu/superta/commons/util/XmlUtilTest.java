@@ -1,6 +1,9 @@
 package seedu.superta.commons.util;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -34,6 +37,9 @@ public class XmlUtilTest {
     private static final Path VALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("validPerson.xml");
     private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempAddressBook.xml");
 
+    private static final int LARGE_ROSTER_SIZE = 5000;
+    private static final long SAVE_TIMEOUT = 2000;
+
     private static final String INVALID_PHONE = "9482asf424";
 
     private static final String VALID_NAME = "Hans Muster";
@@ -140,6 +146,35 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void getContext_sameClass_cachedContextReturned() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableSuperTaClient.class),
+                XmlUtil.getContext(XmlSerializableSuperTaClient.class));
+    }
+
+    /**
+     * Verifies that saving a roster of {@code LARGE_ROSTER_SIZE} students again requires lesser than
+     * {@code SAVE_TIMEOUT} milliseconds to execute.
+     */
+    @Test
+    public void saveDataToFile_largeRosterSavedAgain_performanceTest() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        SuperTaClientBuilder builder = new SuperTaClientBuilder();
+        for (int i = 0; i < LARGE_ROSTER_SIZE; i++) {
+            builder.withPerson(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("student" + i + "@u.nus.edu")
+                    .withStudentId(String.format("A%07dZ", i))
+                    .build());
+        }
+        XmlSerializableSuperTaClient dataToWrite = new XmlSerializableSuperTaClient(builder.build());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+
+        assertTimeoutPreemptively(ofMillis(SAVE_TIMEOUT), () -> XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite),
+                "Saving a large roster exceeded time limit");
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedStudent}
      * objects.
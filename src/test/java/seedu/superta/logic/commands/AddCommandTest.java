@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -104,6 +105,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importStudents(List<Student> students, Map<String, List<StudentId>> enrolments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlySuperTaClient newData) {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +180,11 @@ public class AddCommandTest {
 
         }
 
+        @Override
+        public void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks) {
+
+        }
+
         @Override
         public void createAttendance(String tgId, Session session) {
 
@@ -248,6 +259,26 @@ public class AddCommandTest {
         public void commitSuperTaClient() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void startTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
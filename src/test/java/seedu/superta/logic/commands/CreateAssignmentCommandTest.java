@@ -8,6 +8,7 @@ import static seedu.superta.logic.commands.CommandTestUtil.VALID_TUTORIAL_GROUP_
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -68,6 +69,11 @@ public class CreateAssignmentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importStudents(List<Student> students, Map<String, List<StudentId>> enrolments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlySuperTaClient newData) {
             throw new AssertionError("This method should not be called.");
@@ -138,6 +144,11 @@ public class CreateAssignmentCommandTest {
 
         }
 
+        @Override
+        public void gradeAll(String tgId, Title asId, Map<StudentId, Double> marks) {
+
+        }
+
         @Override
         public void createAttendance(String tgId, Session session) {
 
@@ -211,6 +222,26 @@ public class CreateAssignmentCommandTest {
         public void commitSuperTaClient() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void startTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -126,6 +126,20 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, commandHistory, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_keepsIdentityButTakesIdentityOfAnother_failure() {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Student namesake = new StudentBuilder().withName(firstStudent.getName().toString()).withPhone("99990000")
+                .withEmail("namesake@example.com").withStudentId("A0999999X").build();
+        model.addStudent(namesake);
+
+        // keeps the name and phone of the first student, but takes the name and email of the namesake
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON,
+                new EditStudentDescriptorBuilder().withEmail(namesake.getEmail().toString()).build());
+
+        assertCommandFailure(editCommand, model, commandHistory, EditCommand.MESSAGE_DUPLICATE_PERSON);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
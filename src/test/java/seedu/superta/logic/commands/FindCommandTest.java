@@ -13,6 +13,7 @@ import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClien
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -24,7 +25,10 @@ import seedu.superta.model.UserPrefs;
 import seedu.superta.model.student.EmailContainsKeywordsPredicate;
 import seedu.superta.model.student.NameContainsKeywordsPredicate;
 import seedu.superta.model.student.PhoneContainsKeywordsPredicate;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentContainsKeywordsPredicate;
 import seedu.superta.model.student.StudentidContainsKeywordsPredicate;
+import seedu.superta.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -97,6 +101,40 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, DANIEL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_indexedPredicate_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        List<String> keywords = Arrays.asList("Meyer", "87652533", "heinz@example.com", "A1820123Y");
+        FindCommand command = new FindCommand(
+                new StudentContainsKeywordsPredicate(keywords, keywords, keywords, keywords));
+        expectedModel.updateFilteredStudentList(preparePredicate("Meyer 87652533 heinz@example.com A1820123Y"));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, FIONA), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_indexedPredicate_followsLaterChanges() {
+        FindCommand command = new FindCommand(new StudentContainsKeywordsPredicate(Arrays.asList("Kurz"),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        command.execute(model, commandHistory);
+        assertEquals(Arrays.asList(CARL), model.getFilteredStudentList());
+
+        // a student who did not match now does
+        Student editedFiona = new StudentBuilder(FIONA).withName("Fiona Kurz").build();
+        model.updateStudent(FIONA, editedFiona);
+        model.commitSuperTaClient();
+        assertEquals(Arrays.asList(CARL, editedFiona), model.getFilteredStudentList());
+
+        // a student who matched no longer does
+        model.updateStudent(CARL, new StudentBuilder(CARL).withName("Carl Kunz").build());
+        model.commitSuperTaClient();
+        assertEquals(Arrays.asList(editedFiona), model.getFilteredStudentList());
+
+        // undoing brings the student back
+        model.undoSuperTaClient();
+        assertEquals(Arrays.asList(CARL, editedFiona), model.getFilteredStudentList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code Predicate}.
      */
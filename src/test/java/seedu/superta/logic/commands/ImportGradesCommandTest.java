@@ -0,0 +1,233 @@
+package seedu.superta.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_CANNOT_READ_FILE;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_DUPLICATE_STUDENT;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_INVALID_ASSIGNMENT;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_INVALID_MARKS;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_INVALID_ROW;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_INVALID_STUDENT_ID;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_INVALID_TUTORIAL_GROUP;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_NOTHING_TO_IMPORT;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_REJECTED_ROW;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_ROWS_REJECTED;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_STUDENT_NOT_IN_GROUP;
+import static seedu.superta.logic.commands.ImportGradesCommand.MESSAGE_SUCCESS;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalStudents;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.model.Model;
+import seedu.superta.model.ModelManager;
+import seedu.superta.model.UserPrefs;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.AssignmentBuilder;
+import seedu.superta.testutil.TutorialGroupBuilder;
+import seedu.superta.ui.testutil.EventsCollectorRule;
+
+public class ImportGradesCommandTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TutorialGroup typicalTg = new TutorialGroupBuilder().build();
+    private final Assignment typicalAssignment = new AssignmentBuilder().build();
+    private final Title asId = typicalAssignment.getTitle();
+    private final StudentId alice = getTypicalStudents().get(0).getStudentId();
+    private final StudentId benson = getTypicalStudents().get(1).getStudentId();
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = getModelWithAssignment();
+    }
+
+    @Test
+    public void execute_validFile_gradedInOneChange() throws Exception {
+        Map<StudentId, Double> marks = new LinkedHashMap<>();
+        List<String> lines = new ArrayList<>();
+        lines.add("Student ID,Marks");
+        for (Student student : getTypicalStudents()) {
+            marks.put(student.getStudentId(), 10.0 + marks.size());
+            lines.add(student.getStudentId() + "," + marks.get(student.getStudentId()));
+        }
+        ImportGradesCommand command = new ImportGradesCommand(typicalTg.getId(), asId, writeCsv(lines));
+
+        Model expectedModel = getModelWithAssignment();
+        expectedModel.gradeAll(typicalTg.getId(), asId, marks);
+        expectedModel.commitSuperTaClient();
+
+        eventsCollectorRule.eventsCollector.reset();
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, marks.size()),
+                expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+
+        // a single undo reverts every grade
+        model.undoSuperTaClient();
+        assertEquals(0, getGradeBookSize(model));
+    }
+
+    @Test
+    public void execute_existingGrade_replaced() throws Exception {
+        model.gradeAll(typicalTg.getId(), asId, singletonMarks(alice, 50.0));
+        model.commitSuperTaClient();
+        ImportGradesCommand command = new ImportGradesCommand(typicalTg.getId(), asId,
+                writeCsv(Arrays.asList(alice + ",60")));
+
+        model.undoSuperTaClient();
+        model.redoSuperTaClient();
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, 1),
+                getGradedModel(singletonMarks(alice, 50.0), singletonMarks(alice, 60.0)));
+
+        // undo restores the replaced grade
+        model.undoSuperTaClient();
+        assertEquals(50.0, getAssignment(model).getGradebook().getGradeFor(alice), 0);
+    }
+
+    @Test
+    public void execute_invalidRows_rejectedWithoutAbortingImport() throws Exception {
+        List<String> lines = Arrays.asList(
+                alice + ",40",
+                "",
+                "A12,40",
+                "A0123456N,40",
+                benson + ",101",
+                benson + ",forty",
+                benson.toString(),
+                alice + ",30",
+                benson + ",20");
+        ImportGradesCommand command = new ImportGradesCommand(typicalTg.getId(), asId, writeCsv(lines));
+
+        Map<StudentId, Double> expectedMarks = new LinkedHashMap<>();
+        expectedMarks.put(alice, 40.0);
+        expectedMarks.put(benson, 20.0);
+        String invalidMarks = String.format(MESSAGE_INVALID_MARKS, typicalAssignment.getMaxMarks());
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2) + "\n"
+                + String.format(MESSAGE_ROWS_REJECTED, 6) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 3, MESSAGE_INVALID_STUDENT_ID) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 4, MESSAGE_STUDENT_NOT_IN_GROUP) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 5, invalidMarks) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 6, invalidMarks) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 7, MESSAGE_INVALID_ROW) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 8, String.format(MESSAGE_DUPLICATE_STUDENT, 1));
+
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, getGradedModel(expectedMarks));
+    }
+
+    @Test
+    public void execute_noValidRows_failure() throws Exception {
+        ImportGradesCommand command = new ImportGradesCommand(typicalTg.getId(), asId,
+                writeCsv(Arrays.asList("Student ID,Marks", "A0123456N,40")));
+        assertCommandFailure(command, model, commandHistory, MESSAGE_NOTHING_TO_IMPORT + "\n"
+                + String.format(MESSAGE_ROWS_REJECTED, 1) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 2, MESSAGE_STUDENT_NOT_IN_GROUP));
+
+        // empty file
+        assertCommandFailure(new ImportGradesCommand(typicalTg.getId(), asId, writeCsv(new ArrayList<>())),
+                model, commandHistory, MESSAGE_NOTHING_TO_IMPORT);
+    }
+
+    @Test
+    public void execute_invalidTarget_failure() throws Exception {
+        Path file = writeCsv(Arrays.asList(alice + ",40"));
+        assertCommandFailure(new ImportGradesCommand("invalid_tg", asId, file), model, commandHistory,
+                MESSAGE_INVALID_TUTORIAL_GROUP);
+        assertCommandFailure(new ImportGradesCommand(typicalTg.getId(), new Title("Invalid Assignment"), file),
+                model, commandHistory, MESSAGE_INVALID_ASSIGNMENT);
+
+        Path missingFile = testFolder.getRoot().toPath().resolve("missing.csv");
+        assertCommandFailure(new ImportGradesCommand(typicalTg.getId(), asId, missingFile), model, commandHistory,
+                String.format(MESSAGE_CANNOT_READ_FILE, missingFile));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("grades.csv");
+        ImportGradesCommand standardCommand = new ImportGradesCommand(typicalTg.getId(), asId, file);
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new ImportGradesCommand(typicalTg.getId(), new Title(asId.toString()),
+                testFolder.getRoot().toPath().resolve("grades.csv"))));
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+        // different file -> returns false
+        assertFalse(standardCommand.equals(new ImportGradesCommand(typicalTg.getId(), asId,
+                testFolder.getRoot().toPath().resolve("other.csv"))));
+    }
+
+    private Path writeCsv(List<String> lines) throws IOException {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, lines);
+        return file;
+    }
+
+    private Model getModelWithAssignment() {
+        Model model = new ModelManager(getTypicalSuperTaClient(), new UserPrefs());
+        model.addTutorialGroup(new TutorialGroupBuilder().build());
+        for (Student student : getTypicalStudents()) {
+            model.addStudentToTutorialGroup(typicalTg.getId(), student.getStudentId());
+        }
+        model.addAssignment(typicalTg.getId(), new AssignmentBuilder().build());
+        model.commitSuperTaClient();
+        return model;
+    }
+
+    /**
+     * Returns the model of {@link #getModelWithAssignment()} graded with each of {@code marks} in turn,
+     * each as one committed change.
+     */
+    @SafeVarargs
+    private final Model getGradedModel(Map<StudentId, Double>... marks) {
+        Model model = getModelWithAssignment();
+        for (Map<StudentId, Double> change : marks) {
+            model.gradeAll(typicalTg.getId(), asId, change);
+            model.commitSuperTaClient();
+        }
+        return model;
+    }
+
+    private Map<StudentId, Double> singletonMarks(StudentId studentId, Double marks) {
+        Map<StudentId, Double> singleton = new LinkedHashMap<>();
+        singleton.put(studentId, marks);
+        return singleton;
+    }
+
+    private Assignment getAssignment(Model model) {
+        return model.getTutorialGroup(typicalTg.getId()).get().getAssignment(asId).get();
+    }
+
+    private int getGradeBookSize(Model model) {
+        return getAssignment(model).getGradebook().size();
+    }
+}
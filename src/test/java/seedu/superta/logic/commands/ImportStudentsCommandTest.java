@@ -0,0 +1,212 @@
+package seedu.superta.logic.commands;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_CANNOT_READ_FILE;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_DUPLICATE_STUDENT;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_EXISTING_STUDENT;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_EMAIL;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_NAME;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_PHONE;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_ROW;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_STUDENT_ID;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_INVALID_TUTORIAL_GROUP;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_NOTHING_TO_IMPORT;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_REJECTED_ROW;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_ROWS_REJECTED;
+import static seedu.superta.logic.commands.ImportStudentsCommand.MESSAGE_SUCCESS;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.HOON;
+import static seedu.superta.testutil.TypicalSuperTaClient.IDA;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.model.Model;
+import seedu.superta.model.ModelManager;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.UserPrefs;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.StudentBuilder;
+import seedu.superta.testutil.TutorialGroupBuilder;
+import seedu.superta.ui.testutil.EventsCollectorRule;
+
+public class ImportStudentsCommandTest {
+
+    private static final int LARGE_ROSTER_SIZE = 10000;
+    private static final long LARGE_ROSTER_TIMEOUT = 2000;
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TutorialGroup typicalTg = new TutorialGroupBuilder().build();
+    private final Student jane = new StudentBuilder().withName("Jane Tan").withPhone("91234567")
+            .withEmail("jane@example.com").withStudentId("A0000001Y").build();
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = getModelWithTutorialGroup();
+    }
+
+    @Test
+    public void execute_validFile_importedInOneChange() throws Exception {
+        ImportStudentsCommand command = new ImportStudentsCommand(writeCsv(Arrays.asList(
+                "Name,Phone,Email,Student ID,Tutorial Group",
+                toRow(HOON) + "," + typicalTg.getId(),
+                toRow(IDA),
+                toRow(jane) + "," + typicalTg.getId())));
+
+        Model expectedModel = getModelWithTutorialGroup();
+        expectedModel.importStudents(Arrays.asList(HOON, IDA, jane), Collections.singletonMap(typicalTg.getId(),
+                Arrays.asList(HOON.getStudentId(), jane.getStudentId())));
+        expectedModel.commitSuperTaClient();
+
+        eventsCollectorRule.eventsCollector.reset();
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, 3, 2), expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+        assertTrue(model.getTutorialGroup(typicalTg.getId()).get().getStudents().containsId(jane.getStudentId()));
+
+        // a single undo removes every student and enrolment
+        model.undoSuperTaClient();
+        assertEquals(new SuperTaClient(getModelWithTutorialGroup().getSuperTaClient()),
+                new SuperTaClient(model.getSuperTaClient()));
+    }
+
+    @Test
+    public void execute_invalidRows_rejectedWithoutAbortingImport() throws Exception {
+        Student hoonWithOtherId = new StudentBuilder(HOON).withStudentId("A0000002Y").build();
+        Student idaWithOtherPhone = new StudentBuilder(IDA).withPhone("91111111").withStudentId("A0000003Y").build();
+        ImportStudentsCommand command = new ImportStudentsCommand(writeCsv(Arrays.asList(
+                toRow(HOON),
+                "",
+                "Hoon Meier,8482424,stefan@example.com",
+                "Hoon M*ier,8482424,stefan@example.com,A0000004Y",
+                "Hoon Meier,phone,stefan@example.com,A0000004Y",
+                "Hoon Meier,8482424,stefan,A0000004Y",
+                "Hoon Meier,8482424,stefan@example.com,A12",
+                toRow(ALICE),
+                toRow(hoonWithOtherId),
+                toRow(jane) + ",invalid_tg",
+                toRow(IDA),
+                toRow(idaWithOtherPhone))));
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, 0) + "\n"
+                + String.format(MESSAGE_ROWS_REJECTED, 9) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 3, MESSAGE_INVALID_ROW) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 4, MESSAGE_INVALID_NAME) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 5, MESSAGE_INVALID_PHONE) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 6, MESSAGE_INVALID_EMAIL) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 7, MESSAGE_INVALID_STUDENT_ID) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 8, MESSAGE_EXISTING_STUDENT) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 9, String.format(MESSAGE_DUPLICATE_STUDENT, 1)) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 10, MESSAGE_INVALID_TUTORIAL_GROUP) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 12, String.format(MESSAGE_DUPLICATE_STUDENT, 11));
+
+        Model expectedModel = getModelWithTutorialGroup();
+        expectedModel.importStudents(Arrays.asList(HOON, IDA), Collections.emptyMap());
+        expectedModel.commitSuperTaClient();
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noValidRows_failure() throws Exception {
+        ImportStudentsCommand command = new ImportStudentsCommand(writeCsv(Arrays.asList(
+                "Name,Phone,Email,Student ID", toRow(ALICE))));
+        assertCommandFailure(command, model, commandHistory, MESSAGE_NOTHING_TO_IMPORT + "\n"
+                + String.format(MESSAGE_ROWS_REJECTED, 1) + "\n"
+                + String.format(MESSAGE_REJECTED_ROW, 2, MESSAGE_EXISTING_STUDENT));
+
+        // empty file
+        assertCommandFailure(new ImportStudentsCommand(writeCsv(new ArrayList<>())), model, commandHistory,
+                MESSAGE_NOTHING_TO_IMPORT);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path missingFile = testFolder.getRoot().toPath().resolve("missing.csv");
+        assertCommandFailure(new ImportStudentsCommand(missingFile), model, commandHistory,
+                String.format(MESSAGE_CANNOT_READ_FILE, missingFile));
+    }
+
+    /**
+     * Verifies that importing and enrolling a roster of {@code LARGE_ROSTER_SIZE} students, which spans many batches
+     * of rows, requires lesser than {@code LARGE_ROSTER_TIMEOUT} milliseconds to execute.
+     */
+    @Test
+    public void execute_largeRoster_withinTimeLimit() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < LARGE_ROSTER_SIZE; i++) {
+            lines.add(String.format("Student %d,9%07d,student%d@u.nus.edu,A%07dZ,%s", i, i, i, i, typicalTg.getId()));
+        }
+        ImportStudentsCommand command = new ImportStudentsCommand(writeCsv(lines));
+        int initialSize = model.getFilteredStudentList().size();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_ROSTER_TIMEOUT), () -> {
+            CommandResult result = command.execute(model, commandHistory);
+            assertEquals(String.format(MESSAGE_SUCCESS, LARGE_ROSTER_SIZE, LARGE_ROSTER_SIZE), result.feedbackToUser);
+        }, "Import of a large roster exceeded time limit");
+        assertEquals(initialSize + LARGE_ROSTER_SIZE, model.getFilteredStudentList().size());
+        assertEquals(LARGE_ROSTER_SIZE, model.getTutorialGroup(typicalTg.getId()).get().getStudents().size());
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.getRoot().toPath().resolve("roster.csv");
+        ImportStudentsCommand standardCommand = new ImportStudentsCommand(file);
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new ImportStudentsCommand(testFolder.getRoot().toPath()
+                .resolve("roster.csv"))));
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+        // different file -> returns false
+        assertFalse(standardCommand.equals(new ImportStudentsCommand(testFolder.getRoot().toPath()
+                .resolve("other.csv"))));
+    }
+
+    private Path writeCsv(List<String> lines) throws IOException {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, lines);
+        return file;
+    }
+
+    private String toRow(Student student) {
+        return student.getName() + "," + student.getPhone() + "," + student.getEmail() + ","
+                + student.getStudentId();
+    }
+
+    private Model getModelWithTutorialGroup() {
+        Model model = new ModelManager(getTypicalSuperTaClient(), new UserPrefs());
+        model.addTutorialGroup(new TutorialGroupBuilder().build());
+        model.commitSuperTaClient();
+        return model;
+    }
+}
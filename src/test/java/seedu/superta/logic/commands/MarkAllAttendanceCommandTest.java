@@ -0,0 +1,146 @@
+package seedu.superta.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.superta.logic.commands.MarkAllAttendanceCommand.MESSAGE_INVALID_SESSION;
+import static seedu.superta.logic.commands.MarkAllAttendanceCommand.MESSAGE_INVALID_STUDENTS;
+import static seedu.superta.logic.commands.MarkAllAttendanceCommand.MESSAGE_INVALID_TUTORIAL_GROUP;
+import static seedu.superta.logic.commands.MarkAllAttendanceCommand.MESSAGE_NOTHING_TO_MARK;
+import static seedu.superta.logic.commands.MarkAllAttendanceCommand.MESSAGE_SUCCESS;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalStudents;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.model.Model;
+import seedu.superta.model.ModelManager;
+import seedu.superta.model.UserPrefs;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.TutorialGroupBuilder;
+import seedu.superta.ui.testutil.EventsCollectorRule;
+
+public class MarkAllAttendanceCommandTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Session typicalSession = new Session("W4 Tutorial");
+    private final TutorialGroup typicalTg = new TutorialGroupBuilder().build();
+    private final StudentId alice = getTypicalStudents().get(0).getStudentId();
+    private final StudentId benson = getTypicalStudents().get(1).getStudentId();
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = getModelWithSession();
+    }
+
+    @Test
+    public void execute_allStudents_markedInOneChange() {
+        int studentCount = getTypicalStudents().size();
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.emptySet());
+
+        Model expectedModel = getModelWithSession();
+        expectedModel.markAttendance(typicalTg.getId(), typicalSession, getAllStudentIds());
+        expectedModel.commitSuperTaClient();
+
+        eventsCollectorRule.eventsCollector.reset();
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, studentCount),
+                expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+
+        // a single undo reverts every student
+        model.undoSuperTaClient();
+        assertEquals(0, model.getTutorialGroup(typicalTg.getId()).get().getSession(typicalSession).get().size());
+    }
+
+    @Test
+    public void execute_excludedAndAlreadyMarkedStudents_notMarkedAgain() {
+        model.markAttendance(typicalTg.getId(), typicalSession, Collections.singleton(alice));
+        model.commitSuperTaClient();
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.singleton(benson));
+
+        Set<StudentId> expectedMarked = getAllStudentIds();
+        expectedMarked.remove(alice);
+        expectedMarked.remove(benson);
+        Model expectedModel = getModelWithSession();
+        expectedModel.markAttendance(typicalTg.getId(), typicalSession, Collections.singleton(alice));
+        expectedModel.commitSuperTaClient();
+        expectedModel.markAttendance(typicalTg.getId(), typicalSession, expectedMarked);
+        expectedModel.commitSuperTaClient();
+
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, expectedMarked.size()),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_everyoneMarkedOrExcluded_failure() {
+        Set<StudentId> allButAlice = getAllStudentIds();
+        allButAlice.remove(alice);
+        model.markAttendance(typicalTg.getId(), typicalSession, allButAlice);
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.singleton(alice));
+        assertCommandFailure(command, model, commandHistory, MESSAGE_NOTHING_TO_MARK);
+    }
+
+    @Test
+    public void execute_invalidTarget_failure() {
+        assertCommandFailure(new MarkAllAttendanceCommand("invalid_tg", typicalSession, Collections.emptySet()),
+                model, commandHistory, MESSAGE_INVALID_TUTORIAL_GROUP);
+        assertCommandFailure(new MarkAllAttendanceCommand(typicalTg.getId(), new Session("invalid_session"),
+                Collections.emptySet()), model, commandHistory, MESSAGE_INVALID_SESSION);
+        assertCommandFailure(new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.singleton(new StudentId("A0123456N"))), model, commandHistory, MESSAGE_INVALID_STUDENTS);
+    }
+
+    @Test
+    public void equals() {
+        MarkAllAttendanceCommand standardCommand = new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.singleton(alice));
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new MarkAllAttendanceCommand(typicalTg.getId(), new Session("W4 Tutorial"),
+                Collections.singleton(alice))));
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+        // different excluded students -> returns false
+        assertFalse(standardCommand.equals(new MarkAllAttendanceCommand(typicalTg.getId(), typicalSession,
+                Collections.emptySet())));
+    }
+
+    private Model getModelWithSession() {
+        Model model = new ModelManager(getTypicalSuperTaClient(), new UserPrefs());
+        model.addTutorialGroup(new TutorialGroupBuilder().build());
+        for (Student student : getTypicalStudents()) {
+            model.addStudentToTutorialGroup(typicalTg.getId(), student.getStudentId());
+        }
+        model.createAttendance(typicalTg.getId(), new Session(typicalSession));
+        model.commitSuperTaClient();
+        return model;
+    }
+
+    private Set<StudentId> getAllStudentIds() {
+        return getTypicalStudents().stream().map(Student::getStudentId).collect(Collectors.toSet());
+    }
+}
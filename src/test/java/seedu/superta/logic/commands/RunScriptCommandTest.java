@@ -0,0 +1,160 @@
+package seedu.superta.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.superta.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.superta.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.superta.logic.commands.RunScriptCommand.MESSAGE_CANNOT_READ_FILE;
+import static seedu.superta.logic.commands.RunScriptCommand.MESSAGE_COMMAND_NOT_ALLOWED;
+import static seedu.superta.logic.commands.RunScriptCommand.MESSAGE_FAILED_LINE;
+import static seedu.superta.logic.commands.RunScriptCommand.MESSAGE_NOTHING_TO_RUN;
+import static seedu.superta.logic.commands.RunScriptCommand.MESSAGE_SUCCESS;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.logic.CommandHistory;
+import seedu.superta.model.Model;
+import seedu.superta.model.ModelManager;
+import seedu.superta.model.UserPrefs;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.StudentBuilder;
+import seedu.superta.ui.testutil.EventsCollectorRule;
+
+public class RunScriptCommandTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Student jane = new StudentBuilder().withName("Jane Tan").withPhone("91234567")
+            .withEmail("jane@example.com").withStudentId("A0000001Y").withTags().build();
+
+    private Model model = new ModelManager(getTypicalSuperTaClient(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validScript_runAsOneChange() throws Exception {
+        RunScriptCommand command = new RunScriptCommand(writeScript(Arrays.asList(
+                "# week 3",
+                "create-tutorial-group n/Lab 9 id/09",
+                "",
+                "add n/Jane Tan p/91234567 e/jane@example.com id/A0000001Y",
+                "  delete 1  ")));
+
+        Model expectedModel = new ModelManager(getTypicalSuperTaClient(), new UserPrefs());
+        expectedModel.addTutorialGroup(new TutorialGroup("09", "Lab 9"));
+        expectedModel.addStudent(jane);
+        expectedModel.deleteStudent(ALICE);
+        expectedModel.commitSuperTaClient();
+
+        eventsCollectorRule.eventsCollector.reset();
+        assertCommandSuccess(command, model, commandHistory, String.format(MESSAGE_SUCCESS, 3), expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+        assertFalse(model.isInTransaction());
+
+        // a single undo reverts the whole script
+        model.undoSuperTaClient();
+        assertFalse(model.canUndoSuperTaClient());
+        assertFalse(model.hasTutorialGroup("09"));
+        assertFalse(model.hasStudent(jane));
+    }
+
+    @Test
+    public void execute_failingCommand_scriptRolledBack() throws Exception {
+        RunScriptCommand command = new RunScriptCommand(writeScript(Arrays.asList(
+                "create-tutorial-group n/Lab 9 id/09",
+                "delete 1",
+                "delete 99")));
+
+        assertCommandFailure(command, model, commandHistory,
+                String.format(MESSAGE_FAILED_LINE, 3, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.hasTutorialGroup("09"));
+        assertFalse(model.isInTransaction());
+        assertFalse(model.canUndoSuperTaClient());
+        assertEquals(0, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+    }
+
+    @Test
+    public void execute_invalidLine_nothingRun() throws Exception {
+        RunScriptCommand command = new RunScriptCommand(writeScript(Arrays.asList(
+                "create-tutorial-group n/Lab 9 id/09",
+                "frobnicate")));
+
+        assertCommandFailure(command, model, commandHistory, String.format(MESSAGE_FAILED_LINE, 2,
+                MESSAGE_UNKNOWN_COMMAND));
+        assertFalse(model.hasTutorialGroup("09"));
+    }
+
+    @Test
+    public void execute_commandNotAllowed_nothingRun() throws Exception {
+        for (String commandWord : Arrays.asList(UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD,
+                ExitCommand.COMMAND_WORD)) {
+            RunScriptCommand command = new RunScriptCommand(writeScript(Arrays.asList(
+                    "delete 1",
+                    commandWord)));
+            assertCommandFailure(command, model, commandHistory, String.format(MESSAGE_FAILED_LINE, 2,
+                    String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord)));
+        }
+
+        RunScriptCommand nestedScript = new RunScriptCommand(writeScript(Arrays.asList(
+                RunScriptCommand.COMMAND_WORD + " file/other.txt")));
+        assertCommandFailure(nestedScript, model, commandHistory, String.format(MESSAGE_FAILED_LINE, 1,
+                String.format(MESSAGE_COMMAND_NOT_ALLOWED, RunScriptCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void execute_noCommands_failure() throws Exception {
+        RunScriptCommand command = new RunScriptCommand(writeScript(Arrays.asList("# nothing yet", "")));
+        assertCommandFailure(command, model, commandHistory, MESSAGE_NOTHING_TO_RUN);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path missingFile = testFolder.getRoot().toPath().resolve("missing.txt");
+        assertCommandFailure(new RunScriptCommand(missingFile), model, commandHistory,
+                String.format(MESSAGE_CANNOT_READ_FILE, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(Paths.get("week3.txt"));
+
+        // same object -> returns true
+        assertEquals(command, command);
+
+        // same values -> returns true
+        assertEquals(command, new RunScriptCommand(Paths.get("week3.txt")));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different file -> returns false
+        assertFalse(command.equals(new RunScriptCommand(Paths.get("week4.txt"))));
+    }
+
+    private Path writeScript(List<String> lines) throws IOException {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, lines);
+        return file;
+    }
+}
@@ -2,13 +2,15 @@ package seedu.superta.logic.parser;
 
 import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import seedu.superta.logic.commands.FindCommand;
-import seedu.superta.model.student.NameContainsKeywordsPredicate;
+import seedu.superta.model.student.StudentContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -51,17 +53,20 @@ public class FindCommandParserTest {
     }*/
 
     @Test
-    public void parse_validArgs_returnsFindCommand() throws Exception {
+    public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
-        FindCommand findCommand = parser.parse(" n/Alice");
-        // TODO: Fix up this test. Predicates cannot be compared because find command now composes of a few different
-        // predicates.
-        // assertParseSuccess(parser, " n/Alice", expectedFindCommand);
+                new FindCommand(new StudentContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"),
+                        Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertParseSuccess(parser, " n/Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
-        // assertParseSuccess(parser, " \n n/Alice \n \t", expectedFindCommand);
+        assertParseSuccess(parser, " \n n/Alice \n \t Bob  \t", expectedFindCommand);
+
+        // keywords for several fields
+        expectedFindCommand = new FindCommand(new StudentContainsKeywordsPredicate(Arrays.asList("Alice"),
+                Arrays.asList("91234567"), Collections.emptyList(), Arrays.asList("A0123456Y")));
+        assertParseSuccess(parser, " n/Alice p/91234567 id/A0123456Y", expectedFindCommand);
     }
 
 }
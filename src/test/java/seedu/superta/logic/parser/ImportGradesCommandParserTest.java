@@ -0,0 +1,42 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_ASSIGNMENT_TITLE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_TUTORIAL_GROUP_ID;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.superta.logic.commands.ImportGradesCommand;
+import seedu.superta.model.assignment.Title;
+
+public class ImportGradesCommandParserTest {
+    private ImportGradesCommandParser parser = new ImportGradesCommandParser();
+    private final String tgId = "01a";
+    private final Title asId = new Title("Lab 1");
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        String userInput = " " + PREFIX_GENERAL_TUTORIAL_GROUP_ID + tgId + " "
+                + PREFIX_GENERAL_ASSIGNMENT_TITLE + asId + " "
+                + PREFIX_FILE + " grades/lab 1.csv ";
+        assertParseSuccess(parser, userInput, new ImportGradesCommand(tgId, asId, Paths.get("grades", "lab 1.csv")));
+    }
+
+    @Test
+    public void parse_missingCompulsoryField_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGradesCommand.MESSAGE_USAGE);
+        // tutorial group id missing
+        assertParseFailure(parser, " as/" + asId + " file/lab1.csv", expectedMessage);
+        // assignment missing
+        assertParseFailure(parser, " tg/" + tgId + " file/lab1.csv", expectedMessage);
+        // file missing
+        assertParseFailure(parser, " tg/" + tgId + " as/" + asId, expectedMessage);
+        // empty file path
+        assertParseFailure(parser, " tg/" + tgId + " as/" + asId + " file/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.superta.logic.commands.ImportStudentsCommand;
+
+public class ImportStudentsCommandParserTest {
+    private ImportStudentsCommandParser parser = new ImportStudentsCommandParser();
+
+    @Test
+    public void parse_filePresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + " rosters/cs2103 roster.csv ",
+                new ImportStudentsCommand(Paths.get("rosters", "cs2103 roster.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentsCommand.MESSAGE_USAGE);
+        // file missing
+        assertParseFailure(parser, "", expectedMessage);
+        // preamble present
+        assertParseFailure(parser, " roster " + PREFIX_FILE + "roster.csv", expectedMessage);
+        // empty file path
+        assertParseFailure(parser, " " + PREFIX_FILE + " ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.commands.CommandTestUtil.VALID_STUDENT_ID_AMY;
+import static seedu.superta.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_ID;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_TUTORIAL_GROUP_ID;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_SESSION_NAME;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.superta.logic.commands.MarkAllAttendanceCommand;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.StudentId;
+
+public class MarkAllAttendanceCommandParserTest {
+    private MarkAllAttendanceCommandParser parser = new MarkAllAttendanceCommandParser();
+    private final String tgId = "01a";
+    private final Session session = new Session("Lab 1");
+
+    @Test
+    public void parse_noExcludedStudents_success() {
+        String userInput = " " + PREFIX_GENERAL_TUTORIAL_GROUP_ID + tgId + " "
+                + PREFIX_SESSION_NAME + session.getSessionName();
+        assertParseSuccess(parser, userInput, new MarkAllAttendanceCommand(tgId, session, Collections.emptySet()));
+    }
+
+    @Test
+    public void parse_excludedStudents_success() {
+        String userInput = " " + PREFIX_GENERAL_TUTORIAL_GROUP_ID + tgId + " "
+                + PREFIX_SESSION_NAME + session.getSessionName() + " "
+                + PREFIX_EXCLUDED_STUDENT_ID + VALID_STUDENT_ID_AMY + " "
+                + PREFIX_EXCLUDED_STUDENT_ID + VALID_STUDENT_ID_BOB;
+        MarkAllAttendanceCommand expectedCommand = new MarkAllAttendanceCommand(tgId, session,
+                new HashSet<>(Arrays.asList(new StudentId(VALID_STUDENT_ID_AMY), new StudentId(VALID_STUDENT_ID_BOB))));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingCompulsoryField_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkAllAttendanceCommand.MESSAGE_USAGE);
+        // tutorial group id missing
+        assertParseFailure(parser, " n/" + session.getSessionName(), expectedMessage);
+        // session missing
+        assertParseFailure(parser, " tg/" + tgId + " ex/" + VALID_STUDENT_ID_AMY, expectedMessage);
+        // invalid excluded student id
+        assertParseFailure(parser, " tg/" + tgId + " n/" + session.getSessionName() + " ex/A12",
+                StudentId.MESSAGE_STUDENT_ID_CONSTRAINTS);
+    }
+}
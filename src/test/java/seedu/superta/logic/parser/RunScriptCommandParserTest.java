@@ -0,0 +1,33 @@
+package seedu.superta.logic.parser;
+
+import static seedu.superta.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.superta.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.superta.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_filePresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + " scripts/week 3.txt ",
+                new RunScriptCommand(Paths.get("scripts", "week 3.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE);
+        // file missing
+        assertParseFailure(parser, "", expectedMessage);
+        // preamble present
+        assertParseFailure(parser, " script " + PREFIX_FILE + "week3.txt", expectedMessage);
+        // empty file path
+        assertParseFailure(parser, " " + PREFIX_FILE + " ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
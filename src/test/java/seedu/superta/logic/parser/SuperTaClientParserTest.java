@@ -8,7 +8,9 @@ import static seedu.superta.logic.commands.CommandTestUtil.VALID_STUDENT_ID_AMY;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_MAX_MARKS;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_NEW_MAX_MARKS;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_ASSIGNMENT_TITLE;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_ID;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_FEEDBACK;
+import static seedu.superta.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_ASSIGNMENT_TITLE;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_NEW_ASSIGNMENT_TITLE;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_GENERAL_STUDENT_ID;
@@ -20,6 +22,8 @@ import static seedu.superta.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP_ID;
 import static seedu.superta.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP_NAME;
 import static seedu.superta.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -40,10 +44,14 @@ import seedu.superta.logic.commands.FeedbackCommand;
 import seedu.superta.logic.commands.FindCommand;
 import seedu.superta.logic.commands.HelpCommand;
 import seedu.superta.logic.commands.HistoryCommand;
+import seedu.superta.logic.commands.ImportGradesCommand;
+import seedu.superta.logic.commands.ImportStudentsCommand;
 import seedu.superta.logic.commands.ListCommand;
+import seedu.superta.logic.commands.MarkAllAttendanceCommand;
 import seedu.superta.logic.commands.MarkAttendanceCommand;
 import seedu.superta.logic.commands.RedoCommand;
 import seedu.superta.logic.commands.RemoveStudentFromTutorialGroupCommand;
+import seedu.superta.logic.commands.RunScriptCommand;
 import seedu.superta.logic.commands.SelectCommand;
 import seedu.superta.logic.commands.UndoCommand;
 import seedu.superta.logic.commands.UpdateAssignmentCommand;
@@ -236,6 +244,44 @@ public class SuperTaClientParserTest {
         assertEquals(new MarkAttendanceCommand(tgId, session, stIdSet), command);
     }
 
+    @Test
+    public void parseCommand_markAllAttendance() throws Exception {
+        final String tgId = "01A";
+        final Session session = new Session("Week 4 tutorial");
+        final StudentId studentId = new StudentId(VALID_STUDENT_ID_AMY);
+
+        MarkAllAttendanceCommand command = (MarkAllAttendanceCommand) parser.parseCommand(
+                MarkAllAttendanceCommand.COMMAND_WORD + " " + PREFIX_GENERAL_TUTORIAL_GROUP_ID + tgId + " "
+                        + PREFIX_SESSION_NAME + session.getSessionName() + " "
+                        + PREFIX_EXCLUDED_STUDENT_ID + studentId);
+        assertEquals(new MarkAllAttendanceCommand(tgId, session, Collections.singleton(studentId)), command);
+    }
+
+    @Test
+    public void parseCommand_importGrades() throws Exception {
+        final String tgId = "01A";
+        final Title asId = new Title("Lab 1");
+
+        ImportGradesCommand command = (ImportGradesCommand) parser.parseCommand(
+                ImportGradesCommand.COMMAND_WORD + " " + PREFIX_GENERAL_TUTORIAL_GROUP_ID + tgId + " "
+                        + PREFIX_GENERAL_ASSIGNMENT_TITLE + asId + " " + PREFIX_FILE + "grades/lab1.csv");
+        assertEquals(new ImportGradesCommand(tgId, asId, Paths.get("grades", "lab1.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_importStudents() throws Exception {
+        ImportStudentsCommand command = (ImportStudentsCommand) parser.parseCommand(
+                ImportStudentsCommand.COMMAND_WORD + " " + PREFIX_FILE + "roster.csv");
+        assertEquals(new ImportStudentsCommand(Paths.get("roster.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILE + "week3.txt");
+        assertEquals(new RunScriptCommand(Paths.get("week3.txt")), command);
+    }
+
     @Test
     public void parseCommand_viewFeedback() throws Exception {
         final StudentId studentId = new StudentId(VALID_STUDENT_ID_AMY);
@@ -1,18 +1,23 @@
 package seedu.superta.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.superta.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
 import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.commons.events.model.UndoHistoryChangedEvent;
 import seedu.superta.model.assignment.Assignment;
 import seedu.superta.model.assignment.Grade;
 import seedu.superta.model.assignment.Title;
@@ -23,11 +28,15 @@ import seedu.superta.model.student.exceptions.StudentNotFoundException;
 import seedu.superta.model.tutorialgroup.TutorialGroup;
 import seedu.superta.model.tutorialgroup.exceptions.TutorialGroupNotFoundException;
 import seedu.superta.testutil.SuperTaClientBuilder;
+import seedu.superta.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -76,6 +85,32 @@ public class ModelManagerTest {
         modelManager.addStudentToTutorialGroup(tg.getId(), ALICE.getStudentId());
     }
 
+    @Test
+    public void importStudents_unknownEnrolledStudent_nothingChanged() {
+        TutorialGroup tg = getModelTutorialGroup();
+        modelManager.addTutorialGroup(tg);
+        eventsCollectorRule.eventsCollector.reset();
+
+        assertThrows(StudentNotFoundException.class, () -> modelManager.importStudents(Arrays.asList(ALICE),
+                Collections.singletonMap(tg.getId(), Arrays.asList(ALICE.getStudentId(), BENSON.getStudentId()))));
+        assertFalse(modelManager.hasStudent(ALICE));
+        assertEquals(0, modelManager.getTutorialGroup(tg.getId()).get().getStudents().size());
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void importStudents_enrolledStudentsImportedAndExisting_success() {
+        TutorialGroup tg = getModelTutorialGroup();
+        modelManager.addTutorialGroup(tg);
+        modelManager.addStudent(BENSON);
+
+        modelManager.importStudents(Arrays.asList(ALICE),
+                Collections.singletonMap(tg.getId(), Arrays.asList(ALICE.getStudentId(), BENSON.getStudentId())));
+        assertTrue(modelManager.hasStudent(ALICE));
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                modelManager.getTutorialGroup(tg.getId()).get().getStudents().asUnmodifiableObservableList());
+    }
+
     @Test
     public void deleteTutorialGroup_tutorialGroupNotFound_failure() {
         TutorialGroup tg = getModelTutorialGroup();
@@ -171,6 +206,61 @@ public class ModelManagerTest {
         assertTrue(modelManager.getTutorialGroup(tg.getId()).get().getName().equals(updatedName));
     }
 
+    @Test
+    public void commitTransaction_changesCommittedAndAnnouncedOnce() {
+        modelManager.startTransaction();
+        modelManager.addStudent(ALICE);
+        modelManager.commitSuperTaClient();
+        modelManager.addStudent(BENSON);
+        modelManager.commitSuperTaClient();
+        assertEquals(0, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+        assertEquals(0, eventsCollectorRule.eventsCollector.getCount(UndoHistoryChangedEvent.class));
+
+        modelManager.commitTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getCount(UndoHistoryChangedEvent.class));
+
+        // both changes are undone together
+        modelManager.undoSuperTaClient();
+        assertFalse(modelManager.hasStudent(ALICE));
+        assertFalse(modelManager.hasStudent(BENSON));
+        assertFalse(modelManager.canUndoSuperTaClient());
+    }
+
+    @Test
+    public void rollbackTransaction_changesRevertedAndNotSaved() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitSuperTaClient();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.startTransaction();
+        modelManager.addStudent(BENSON);
+        modelManager.commitSuperTaClient();
+        modelManager.deleteStudent(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.isInTransaction());
+        assertTrue(modelManager.hasStudent(ALICE));
+        assertFalse(modelManager.hasStudent(BENSON));
+        assertEquals(0, eventsCollectorRule.eventsCollector.getCount(SuperTaClientChangedEvent.class));
+        assertEquals(0, eventsCollectorRule.eventsCollector.getCount(UndoHistoryChangedEvent.class));
+        assertEquals(1, modelManager.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void startTransaction_alreadyStarted_throwsIllegalStateException() {
+        modelManager.startTransaction();
+        thrown.expect(IllegalStateException.class);
+        modelManager.startTransaction();
+    }
+
+    @Test
+    public void commitTransaction_notStarted_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.commitTransaction();
+    }
+
     @Test
     public void equals() {
         SuperTaClient superTaClient = new SuperTaClientBuilder().withPerson(ALICE).withPerson(BENSON).build();
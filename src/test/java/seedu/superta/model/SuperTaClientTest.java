@@ -2,7 +2,9 @@ package seedu.superta.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.superta.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
@@ -220,6 +222,50 @@ public class SuperTaClientTest {
             .getGradebook().getGradeFor(student.getStudentId()).equals(marks));
     }
 
+    @Test
+    public void copyWithRevisions_changesAfterCopy_detected() {
+        TutorialGroup tutorialGroup = getModelTutorialGroup();
+        superTaClient.addTutorialGroup(tutorialGroup);
+        SuperTaClient copy = SuperTaClient.copyWithRevisions(superTaClient);
+        assertEquals(superTaClient, copy);
+        assertTrue(copy.hasSameHistoryAs(superTaClient));
+        assertFalse(new SuperTaClient(superTaClient).hasSameHistoryAs(superTaClient));
+
+        superTaClient.addStudent(ALICE);
+        assertTrue(superTaClient.haveStudentsChangedSince(copy.getRevision()));
+        assertFalse(superTaClient.hasTutorialGroupChangedSince(tutorialGroup.getId(), copy.getRevision()));
+
+        superTaClient.addStudentToTutorialGroup(tutorialGroup, ALICE);
+        copy = SuperTaClient.copyWithRevisions(superTaClient);
+        superTaClient.addAssignment(tutorialGroup, getModelAssignment());
+        assertFalse(superTaClient.haveStudentsChangedSince(copy.getRevision()));
+        assertTrue(superTaClient.hasTutorialGroupChangedSince(tutorialGroup.getId(), copy.getRevision()));
+    }
+
+    @Test
+    public void snapshotOf_unchangedParts_sharedWithPreviousSnapshot() {
+        TutorialGroup tutorialGroup = getModelTutorialGroup();
+        TutorialGroup otherTutorialGroup = new TutorialGroup("other_id", "Other Tutorial Group");
+        superTaClient.addTutorialGroup(tutorialGroup);
+        superTaClient.addTutorialGroup(otherTutorialGroup);
+        SuperTaClient snapshot = SuperTaClient.snapshotOf(superTaClient);
+        assertEquals(superTaClient, snapshot);
+        assertTrue(snapshot.hasSameHistoryAs(superTaClient));
+        assertSame(snapshot, SuperTaClient.snapshotOf(snapshot));
+
+        superTaClient.addAssignment(tutorialGroup, getModelAssignment());
+        SuperTaClient nextSnapshot = SuperTaClient.snapshotOf(superTaClient);
+        assertEquals(superTaClient, nextSnapshot);
+        assertNotEquals(superTaClient, snapshot);
+        assertTrue(nextSnapshot.hasTutorialGroupChangedSince(tutorialGroup.getId(), snapshot.getRevision()));
+        assertSame(snapshot.getTutorialGroup(otherTutorialGroup.getId()).get(),
+                nextSnapshot.getTutorialGroup(otherTutorialGroup.getId()).get());
+
+        // a snapshot does not see later changes
+        superTaClient.addStudent(ALICE);
+        assertEquals(0, nextSnapshot.getStudentList().size());
+    }
+
     @Test
     public void hashCode_isNotNull() {
         assertNotNull(superTaClient.hashCode());
@@ -1,9 +1,14 @@
 package seedu.superta.model;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
 import static seedu.superta.testutil.TypicalSuperTaClient.AMY;
 import static seedu.superta.testutil.TypicalSuperTaClient.BOB;
 import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
@@ -11,13 +16,24 @@ import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
+import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.AssignmentBuilder;
+import seedu.superta.testutil.StudentBuilder;
 import seedu.superta.testutil.SuperTaClientBuilder;
 
 public class VersionedSuperTaClientTest {
 
+    private static final int LARGE_ROSTER_SIZE = 10000;
+    private static final long UNDO_REDO_TIMEOUT = 2000;
+
     private final ReadOnlySuperTaClient addressBookWithAmy = new SuperTaClientBuilder().withPerson(AMY).build();
     private final ReadOnlySuperTaClient addressBookWithBob = new SuperTaClientBuilder().withPerson(BOB).build();
     private final ReadOnlySuperTaClient addressBookWithCarl = new SuperTaClientBuilder().withPerson(CARL).build();
@@ -207,6 +223,238 @@ public class VersionedSuperTaClientTest {
         assertThrows(VersionedSuperTaClient.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_changeInOneTutorialGroup_otherTutorialGroupsNotCopied() {
+        VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(createAddressBookWithTutorialGroups());
+        SuperTaClient initialState = new SuperTaClient(versionedAddressBook);
+        TutorialGroup untouchedGroup = versionedAddressBook.getTutorialGroup("02").get();
+        TutorialGroup changedGroup = versionedAddressBook.getTutorialGroup("01").get();
+
+        versionedAddressBook.grade(new Grade("01", new Title(AssignmentBuilder.DEFAULT_TITLE),
+                ALICE.getStudentId(), 10.0));
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        // restored state is equal to the initial state
+        assertEquals(initialState, new SuperTaClient(versionedAddressBook));
+
+        // unchanged tutorial group is left in place, changed tutorial group is copied back
+        assertSame(untouchedGroup, versionedAddressBook.getTutorialGroup("02").get());
+        assertNotSame(changedGroup, versionedAddressBook.getTutorialGroup("01").get());
+    }
+
+    @Test
+    public void undo_uncommittedChange_changeDiscarded() {
+        VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(createAddressBookWithTutorialGroups());
+        SuperTaClient initialState = new SuperTaClient(versionedAddressBook);
+
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removeTutorialGroup(versionedAddressBook.getTutorialGroup("02").get());
+        versionedAddressBook.undo();
+
+        assertEquals(initialState, new SuperTaClient(versionedAddressBook));
+    }
+
+    @Test
+    public void redo_afterUndoOfTutorialGroupChange_changeRestored() {
+        VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(createAddressBookWithTutorialGroups());
+
+        versionedAddressBook.addTutorialGroup(new TutorialGroup("03", "Tutorial 3"));
+        versionedAddressBook.commit();
+        SuperTaClient stateWithNewGroup = new SuperTaClient(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasTutorialGroup("03"));
+
+        versionedAddressBook.redo();
+        assertEquals(stateWithNewGroup, new SuperTaClient(versionedAddressBook));
+    }
+
+    @Test
+    public void undoRedo_journalMode_gradeAttendanceAndFeedbackRestored() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(
+                createAddressBookWithTutorialGroups(), UndoHistoryMode.JOURNAL,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+        SuperTaClient initialState = new SuperTaClient(versionedAddressBook);
+        TutorialGroup untouchedGroup = versionedAddressBook.getTutorialGroup("02").get();
+
+        versionedAddressBook.grade(new Grade("01", new Title(AssignmentBuilder.DEFAULT_TITLE),
+                ALICE.getStudentId(), 10.0));
+        versionedAddressBook.commit();
+        versionedAddressBook.createAttendance(versionedAddressBook.getTutorialGroup("01").get(), new Session("lab1"));
+        versionedAddressBook.markAttendance("01", new Session("lab1"), Set.of(ALICE.getStudentId()));
+        versionedAddressBook.commit();
+        versionedAddressBook.addFeedback(new Feedback("Good work"), ALICE.getStudentId());
+        versionedAddressBook.commit();
+        SuperTaClient finalState = new SuperTaClient(versionedAddressBook);
+
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 3);
+        assertEquals(initialState, new SuperTaClient(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        // untouched tutorial group is never replaced
+        assertSame(untouchedGroup, versionedAddressBook.getTutorialGroup("02").get());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(finalState, new SuperTaClient(versionedAddressBook));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_journalModeStudentEditedAndRemoved_onlyStudentsAndTheirGroupsRecorded() {
+        SuperTaClient addressBook = createAddressBookWithTutorialGroups();
+        addressBook.addStudent(BOB);
+        addressBook.addStudent(CARL);
+        TutorialGroup otherGroup = new TutorialGroup("03", "Tutorial 03");
+        addressBook.addTutorialGroup(otherGroup);
+        addressBook.addStudentToTutorialGroup(otherGroup, CARL);
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(addressBook,
+                UndoHistoryMode.JOURNAL, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH,
+                UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+        SuperTaClient initialState = new SuperTaClient(versionedAddressBook);
+        TutorialGroup untouchedGroup = versionedAddressBook.getTutorialGroup("03").get();
+
+        // ALICE is in tutorial groups 01 and 02, and BOB is in none
+        versionedAddressBook.updateStudent(ALICE, new StudentBuilder(ALICE).withPhone("91234567")
+                .withStudentId("A0999999Z").build());
+        versionedAddressBook.commit();
+        versionedAddressBook.removeStudent(BOB);
+        versionedAddressBook.commit();
+        SuperTaClient finalState = new SuperTaClient(versionedAddressBook);
+        assertEquals(2 * (UndoableEdit.EDIT_OVERHEAD + UndoableEdit.STUDENT_SIZE)
+                + 2 * (UndoableEdit.EDIT_OVERHEAD + UndoableEdit.STUDENT_REFERENCE_SIZE),
+                versionedAddressBook.getHistorySizeInBytes());
+
+        // the students are restored in their places in the list
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 2);
+        assertEquals(initialState, new SuperTaClient(versionedAddressBook));
+        assertSame(untouchedGroup, versionedAddressBook.getTutorialGroup("03").get());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(finalState, new SuperTaClient(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_journalModeUncommittedChange_changeDiscarded() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(
+                createAddressBookWithTutorialGroups(), UndoHistoryMode.JOURNAL,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+        SuperTaClient initialState = new SuperTaClient(versionedAddressBook);
+
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.addTutorialGroup(new TutorialGroup("03", "Tutorial 3"));
+        versionedAddressBook.commit();
+        versionedAddressBook.removeTutorialGroup(versionedAddressBook.getTutorialGroup("02").get());
+        versionedAddressBook.undo();
+
+        assertEquals(initialState, new SuperTaClient(versionedAddressBook));
+    }
+
+    @Test
+    public void discardUncommittedChanges_snapshotMode_lastCommittedStateRestored() {
+        VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(createAddressBookWithTutorialGroups());
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.commit();
+        SuperTaClient committedState = new SuperTaClient(versionedAddressBook);
+
+        versionedAddressBook.addStudent(BOB);
+        versionedAddressBook.removeTutorialGroup(versionedAddressBook.getTutorialGroup("02").get());
+        versionedAddressBook.addTutorialGroup(new TutorialGroup("03", "Tutorial 3"));
+        versionedAddressBook.discardUncommittedChanges();
+
+        assertEquals(committedState, new SuperTaClient(versionedAddressBook));
+        // the history is untouched
+        assertEquals(1, versionedAddressBook.getUndoDepth());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void discardUncommittedChanges_journalMode_lastCommittedStateRestored() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(
+                createAddressBookWithTutorialGroups(), UndoHistoryMode.JOURNAL,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.commit();
+        SuperTaClient committedState = new SuperTaClient(versionedAddressBook);
+
+        versionedAddressBook.addStudent(BOB);
+        versionedAddressBook.removeTutorialGroup(versionedAddressBook.getTutorialGroup("02").get());
+        versionedAddressBook.addTutorialGroup(new TutorialGroup("03", "Tutorial 3"));
+        versionedAddressBook.discardUncommittedChanges();
+
+        assertEquals(committedState, new SuperTaClient(versionedAddressBook));
+        // the history is untouched, and the discarded changes are not part of it
+        assertEquals(1, versionedAddressBook.getUndoDepth());
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasStudent(AMY));
+        versionedAddressBook.redo();
+        assertEquals(committedState, new SuperTaClient(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_journalModeOverBudget_oldestEntriesEvicted() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(
+                createAddressBookWithTutorialGroups(), UndoHistoryMode.JOURNAL,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, 1);
+
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addStudent(BOB);
+        versionedAddressBook.commit();
+
+        // only the newest entry is kept
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasStudent(AMY));
+        assertFalse(versionedAddressBook.hasStudent(BOB));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_overMaxDepth_oldestStatesEvicted() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(emptyAddressBook,
+                UndoHistoryMode.SNAPSHOT, 2, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET_IN_BYTES);
+
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithCarl);
+        versionedAddressBook.commit();
+        assertEquals(2, versionedAddressBook.getUndoDepth());
+
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 2);
+        assertEquals(addressBookWithAmy, new SuperTaClient(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_overBudget_oldestStatesEvictedAndSizeUpdated() {
+        VersionedSuperTaClient versionedAddressBook = new VersionedSuperTaClient(
+                createAddressBookWithTutorialGroups(), UndoHistoryMode.SNAPSHOT,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, 1);
+        long initialSize = versionedAddressBook.getHistorySizeInBytes();
+        assertTrue(initialSize > 0);
+
+        versionedAddressBook.addStudent(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addStudent(BOB);
+        versionedAddressBook.commit();
+
+        // only the newest step is kept
+        assertEquals(1, versionedAddressBook.getUndoDepth());
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasStudent(AMY));
+        assertFalse(versionedAddressBook.hasStudent(BOB));
+        assertFalse(versionedAddressBook.canUndo());
+
+        // the oldest kept state now holds the tutorial groups and 2 students on its own, the newest holds 3 students
+        assertEquals(initialSize + 4 * UndoableEdit.STUDENT_SIZE, versionedAddressBook.getHistorySizeInBytes());
+    }
+
     @Test
     public void equals() {
         VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -236,6 +484,23 @@ public class VersionedSuperTaClientTest {
         assertFalse(versionedAddressBook.equals(differentCurrentStatePointer));
     }
 
+    /**
+     * Verifies that undoing and redoing over a roster of {@code LARGE_ROSTER_SIZE} students requires lesser than
+     * {@code UNDO_REDO_TIMEOUT} milliseconds to execute.
+     */
+    @Test
+    public void performanceTest() {
+        ReadOnlySuperTaClient largeAddressBook = createAddressBookWithStudents(LARGE_ROSTER_SIZE);
+        VersionedSuperTaClient versionedAddressBook = prepareAddressBookList(largeAddressBook, emptyAddressBook,
+                largeAddressBook);
+
+        assertTimeoutPreemptively(ofMillis(UNDO_REDO_TIMEOUT), () -> {
+            shiftCurrentStatePointerLeftwards(versionedAddressBook, 2);
+            versionedAddressBook.redo();
+            versionedAddressBook.redo();
+        }, "Undo and redo of a large roster exceeded time limit");
+    }
+
     /**
      * Asserts that {@code versionedAddressBook} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedAddressBook#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -288,6 +553,36 @@ public class VersionedSuperTaClientTest {
         return versionedAddressBook;
     }
 
+    /**
+     * Returns an address book with {@code ALICE} in two tutorial groups, each with an ungraded assignment.
+     */
+    private SuperTaClient createAddressBookWithTutorialGroups() {
+        SuperTaClient addressBook = new SuperTaClientBuilder().withPerson(ALICE).build();
+        for (String id : new String[] {"01", "02"}) {
+            TutorialGroup tutorialGroup = new TutorialGroup(id, "Tutorial " + id);
+            addressBook.addTutorialGroup(tutorialGroup);
+            addressBook.addStudentToTutorialGroup(tutorialGroup, ALICE);
+            addressBook.addAssignment(tutorialGroup, new AssignmentBuilder().build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book containing {@code studentCount} students with distinct identities.
+     */
+    private ReadOnlySuperTaClient createAddressBookWithStudents(int studentCount) {
+        SuperTaClientBuilder builder = new SuperTaClientBuilder();
+        for (int i = 0; i < studentCount; i++) {
+            builder.withPerson(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("student" + i + "@u.nus.edu")
+                    .withStudentId(String.format("A%07dZ", i))
+                    .build());
+        }
+        return builder.build();
+    }
+
     /**
      * Shifts the {@code versionedAddressBook#currentStatePointer} by {@code count} to the left of its list.
      */
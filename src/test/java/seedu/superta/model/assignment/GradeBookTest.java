@@ -1,16 +1,43 @@
 package seedu.superta.model.assignment;
 
+import static java.time.Duration.ofMillis;
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
 import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
 import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentOrdinals;
 
 public class GradeBookTest {
+    private static final double DELTA = 1e-9;
+    private static final int VIEW_REQUESTS = 10000;
+    private static final int GRADE_WRITES = 10000;
+    private static final int GRADE_WRITES_TIMEOUT = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private GradeBook gradeBook = new GradeBook();
 
     @Test
@@ -47,6 +74,190 @@ public class GradeBookTest {
         assertTrue(gradeBook.getMedian() == 11.0);
     }
 
+    @Test
+    public void getMedian_fractionalMarks_success() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.75);
+        gradeBook.addGrade(ALICE.getStudentId(), 10.25);
+        gradeBook.addGrade(CARL.getStudentId(), 10.5);
+        assertEquals(10.5, gradeBook.getMedian(), DELTA);
+    }
+
+    @Test
+    public void addGrade_replacesGrade_statisticsUpdated() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        gradeBook.addGrade(ALICE.getStudentId(), 20.0);
+        gradeBook.addGrade(BENSON.getStudentId(), 30.0);
+        assertEquals(2, gradeBook.size());
+        assertEquals(25.0, gradeBook.getAverage(), DELTA);
+        assertEquals(20.0, gradeBook.getMin(), DELTA);
+        assertEquals(30.0, gradeBook.getMax(), DELTA);
+        assertEquals(5.0, gradeBook.getStandardDeviation(), DELTA);
+    }
+
+    @Test
+    public void statistics_emptyGradeBook_zero() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        gradeBook.removeStudentReference(BENSON);
+        assertEquals(0.0, gradeBook.getAverage(), DELTA);
+        assertEquals(0.0, gradeBook.getMedian(), DELTA);
+        assertEquals(0.0, gradeBook.getPercentile(90), DELTA);
+        assertEquals(0.0, gradeBook.getStandardDeviation(), DELTA);
+        assertEquals(0.0, gradeBook.getMin(), DELTA);
+        assertEquals(0.0, gradeBook.getMax(), DELTA);
+    }
+
+    @Test
+    public void getPercentile_invalidPercent_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        gradeBook.getPercentile(100.5);
+    }
+
+    @Test
+    public void statistics_manyChanges_sameAsRecomputed() {
+        Random random = new Random(2103);
+        List<StudentId> studentIds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            studentIds.add(StudentId.of(String.format("A%07dX", i)));
+        }
+        for (int i = 0; i < 2000; i++) {
+            StudentId studentId = studentIds.get(random.nextInt(studentIds.size()));
+            if (random.nextInt(4) == 0) {
+                gradeBook.removeGrade(studentId);
+            } else {
+                gradeBook.addGrade(studentId, random.nextInt(400) / 4.0);
+            }
+        }
+
+        List<Double> marks = studentIds.stream()
+                .filter(gradeBook::hasGradeFor)
+                .map(gradeBook::getGradeFor)
+                .sorted()
+                .collect(Collectors.toList());
+        double mean = marks.stream().mapToDouble(Double::doubleValue).average().getAsDouble();
+        double variance = marks.stream().mapToDouble(mark -> (mark - mean) * (mark - mean)).sum() / marks.size();
+        assertEquals(marks.size(), gradeBook.size());
+        assertEquals(mean, gradeBook.getAverage(), DELTA);
+        assertEquals(Math.sqrt(variance), gradeBook.getStandardDeviation(), DELTA);
+        assertEquals(marks.get(marks.size() / 2), gradeBook.getMedian(), DELTA);
+        assertEquals(marks.get(marks.size() * 9 / 10), gradeBook.getPercentile(90), DELTA);
+        assertEquals(Collections.min(marks), gradeBook.getMin(), DELTA);
+        assertEquals(Collections.max(marks), gradeBook.getMax(), DELTA);
+        assertEquals(marks, gradeBook.stream().map(entry -> entry.marks).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getGradeFor_noGrade_returnsNull() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        assertEquals(Double.valueOf(10.0), gradeBook.getGradeFor(BENSON.getStudentId()));
+        assertNull(gradeBook.getGradeFor(ALICE.getStudentId()));
+        assertNull(gradeBook.getGradeFor(new StudentId("A9999999Z")));
+    }
+
+    @Test
+    public void equals_sameGradesInDifferentOrder_equal() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        gradeBook.addGrade(ALICE.getStudentId(), 20.5);
+        GradeBook other = new GradeBook();
+        other.addGrade(ALICE.getStudentId(), 20.5);
+        other.addGrade(CARL.getStudentId(), 30.0);
+        other.addGrade(BENSON.getStudentId(), 10.0);
+        assertNotEquals(gradeBook, other);
+
+        other.removeGrade(CARL.getStudentId());
+        assertEquals(gradeBook, other);
+        assertEquals(gradeBook.hashCode(), other.hashCode());
+
+        other.addGrade(ALICE.getStudentId(), 20.0);
+        assertNotEquals(gradeBook, other);
+    }
+
+    @Test
+    public void copy_modifyCopy_originalUnchanged() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        GradeBook copy = new GradeBook(gradeBook);
+        copy.addGrade(BENSON.getStudentId(), 30.0);
+        copy.addGrade(ALICE.getStudentId(), 20.0);
+
+        assertEquals(1, gradeBook.size());
+        assertEquals(Double.valueOf(10.0), gradeBook.getGradeFor(BENSON.getStudentId()));
+        assertEquals(25.0, copy.getAverage(), DELTA);
+    }
+
+    @Test
+    public void useStudentOrdinals_otherOrdinals_gradesKept() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        gradeBook.addGrade(ALICE.getStudentId(), 20.0);
+        GradeBook copy = new GradeBook(gradeBook);
+
+        StudentOrdinals groupOrdinals = new StudentOrdinals();
+        groupOrdinals.of(CARL.getStudentId());
+        gradeBook.useStudentOrdinals(groupOrdinals);
+        assertEquals(Double.valueOf(20.0), gradeBook.getGradeFor(ALICE.getStudentId()));
+        assertEquals(15.0, gradeBook.getAverage(), DELTA);
+        assertNotEquals(StudentOrdinals.NONE, groupOrdinals.find(BENSON.getStudentId()));
+
+        // grade books kept under different ordinals are compared by student
+        assertEquals(copy, gradeBook);
+        assertEquals(copy.hashCode(), gradeBook.hashCode());
+    }
+
+    @Test
+    public void asUnmodifiableList_gradeReplaced_entryReplaced() {
+        gradeBook.addGrade(BENSON.getStudentId(), 10.0);
+        List<GradeEntry> entries = gradeBook.asUnmodifiableObservableList();
+        gradeBook.addGrade(ALICE.getStudentId(), 30.0);
+        gradeBook.addGrade(BENSON.getStudentId(), 20.0);
+        assertEquals(Arrays.asList(new GradeEntry(BENSON.getStudentId(), 20.0),
+                new GradeEntry(ALICE.getStudentId(), 30.0)), entries);
+    }
+
+    @Test
+    public void asUnmodifiableList_requestedRepeatedly_listenersAndWriteCostConstant() {
+        List<StudentId> studentIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            studentIds.add(StudentId.of(String.format("A%07dY", i)));
+            gradeBook.addGrade(studentIds.get(i), 0.0);
+        }
+        ObservableList<GradeEntry> view = gradeBook.asUnmodifiableObservableList();
+        int[] notifications = new int[1];
+        view.addListener((ListChangeListener<GradeEntry>) change -> notifications[0]++);
+        for (int i = 0; i < VIEW_REQUESTS; i++) {
+            assertSame(view, gradeBook.asUnmodifiableObservableList());
+        }
+
+        // a write notifies the one view once, however often the view was requested
+        gradeBook.addGrade(studentIds.get(0), 1.0);
+        assertEquals(1, notifications[0]);
+        assertTimeoutPreemptively(ofMillis(GRADE_WRITES_TIMEOUT), () -> {
+            for (int i = 0; i < GRADE_WRITES; i++) {
+                gradeBook.addGrade(studentIds.get(i % studentIds.size()), (double) i);
+            }
+        }, "Grade writes should not slow down as the grade book is viewed repeatedly");
+        assertEquals(1 + GRADE_WRITES, notifications[0]);
+        assertEquals(gradeBook.stream().collect(Collectors.toSet()), new HashSet<>(view));
+    }
+
+    @Test
+    public void asUnmodifiableList_manyChanges_inOrderOfMarks() {
+        ObservableList<GradeEntry> view = gradeBook.asUnmodifiableObservableList();
+        int[] notifications = new int[1];
+        view.addListener((ListChangeListener<GradeEntry>) change -> notifications[0]++);
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            StudentId studentId = StudentId.of(String.format("A%07dY", random.nextInt(50)));
+            if (random.nextInt(4) == 0) {
+                boolean isGraded = gradeBook.hasGradeFor(studentId);
+                gradeBook.removeGrade(studentId);
+                notifications[0] -= isGraded ? 1 : 0;
+            } else {
+                gradeBook.addGrade(studentId, (double) random.nextInt(20));
+                notifications[0]--;
+            }
+            assertEquals(0, notifications[0]);
+            assertEquals(gradeBook.stream().collect(Collectors.toList()), view);
+        }
+    }
+
     @Test
     public void asUnmodifiableList_success() {
         List<GradeEntry> entries = gradeBook.asUnmodifiableObservableList();
@@ -1,6 +1,8 @@
 package seedu.superta.model.assignment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -19,6 +21,13 @@ public class TitleTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Title(invalidTitle));
     }
 
+    @Test
+    public void of_sameTitle_returnsSameTitle() {
+        Title title = Title.of("Lab 1");
+        assertSame(title, Title.of("Lab 1"));
+        assertEquals(new Title("Lab 1"), title);
+    }
+
     @Test
     public void isValidTitle() {
         // null title
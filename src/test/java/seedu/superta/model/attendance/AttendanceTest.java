@@ -40,6 +40,7 @@ public class AttendanceTest {
         // same values -> returns true
         Attendance attendanceCopy = new Attendance(amyAtt.getStudentId(), amyAtt.getPresence());
         assertTrue(amyAtt.equals(attendanceCopy));
+        assertTrue(amyAtt.hashCode() == attendanceCopy.hashCode());
 
         // same object -> returns true
         assertTrue(amyAtt.equals(amyAtt));
@@ -1,18 +1,26 @@
 package seedu.superta.model.attendance;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.superta.logic.commands.CommandTestUtil.VALID_STUDENT_ID_AMY;
 import static seedu.superta.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import seedu.superta.model.attendance.exceptions.DuplicateAttendanceException;
 import seedu.superta.model.student.StudentId;
+import seedu.superta.model.student.StudentOrdinals;
 import seedu.superta.testutil.Assert;
+import seedu.superta.testutil.StudentBuilder;
 
 // @@author triger15
 public class SessionTest {
@@ -81,5 +89,88 @@ public class SessionTest {
     @Test
     public void contains() {
         assertTrue(lab1Attended.contains(attendance));
+        assertTrue(lab1Attended.contains(new Attendance(attendance.getStudentId(), Presence.ABSENT)));
+        assertFalse(lab1Attended.contains(new Attendance(new StudentId(VALID_STUDENT_ID_BOB), Presence.PRESENT)));
+    }
+
+    @Test
+    public void addToSession_sameStudent_throwsDuplicateAttendanceException() {
+        Assert.assertThrows(DuplicateAttendanceException.class, () ->
+                lab1Attended.addToSession(new Attendance(attendance.getStudentId(), Presence.EXCUSED)));
+    }
+
+    @Test
+    public void removeStudent() {
+        assertFalse(lab1Attended.removeStudent(new StudentBuilder().withStudentId(VALID_STUDENT_ID_BOB).build()));
+        assertTrue(lab1Attended.removeStudent(new StudentBuilder().withStudentId(VALID_STUDENT_ID_AMY).build()));
+        assertFalse(lab1Attended.contains(attendance));
+        assertEquals(lab1, lab1Attended);
+    }
+
+    @Test
+    public void equals_samePresence() {
+        Session absent = new Session("Lab 1");
+        absent.addToSession(new Attendance(attendance.getStudentId(), Presence.ABSENT));
+        assertNotEquals(lab1Attended, absent);
+
+        Session copy = new Session(lab1Attended);
+        assertEquals(lab1Attended, copy);
+        assertEquals(lab1Attended.hashCode(), copy.hashCode());
+
+        // copies do not share attendance
+        copy.addToSession(new Attendance(new StudentId(VALID_STUDENT_ID_BOB), Presence.PRESENT));
+        assertNotEquals(lab1Attended, copy);
+    }
+
+    @Test
+    public void useStudentOrdinals_otherOrdinals_attendanceKept() {
+        Session copy = new Session(lab1Attended);
+        StudentOrdinals groupOrdinals = new StudentOrdinals();
+        groupOrdinals.of(new StudentId(VALID_STUDENT_ID_BOB));
+
+        lab1Attended.useStudentOrdinals(groupOrdinals);
+        assertTrue(lab1Attended.contains(attendance));
+        assertEquals(1, lab1Attended.count(Presence.PRESENT));
+        assertNotEquals(StudentOrdinals.NONE, groupOrdinals.find(attendance.getStudentId()));
+
+        // sessions kept under different ordinals are compared by student
+        assertEquals(copy, lab1Attended);
+        assertEquals(copy.hashCode(), lab1Attended.hashCode());
+    }
+
+    @Test
+    public void count() {
+        tut1.addToSession(new Attendance(new StudentId(VALID_STUDENT_ID_AMY), Presence.PRESENT));
+        tut1.addToSession(new Attendance(new StudentId(VALID_STUDENT_ID_BOB), Presence.EXCUSED));
+        assertEquals(2, tut1.size());
+        assertEquals(1, tut1.count(Presence.PRESENT));
+        assertEquals(1, tut1.count(Presence.EXCUSED));
+        assertEquals(0, tut1.count(Presence.ABSENT));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_requestedRepeatedly_sameView() {
+        List<Attendance> viewed = lab1Attended.asUnmodifiableObservableList();
+        for (int i = 0; i < 1000; i++) {
+            assertSame(viewed, lab1Attended.asUnmodifiableObservableList());
+            assertSame(lab1Attended.asUnmodifiableObservableSet(), lab1Attended.asUnmodifiableObservableSet());
+        }
+
+        Attendance bobAtt = new Attendance(new StudentId(VALID_STUDENT_ID_BOB), Presence.PRESENT);
+        lab1Attended.addToSession(bobAtt);
+        lab1Attended.removeStudent(new StudentBuilder().withStudentId(VALID_STUDENT_ID_AMY).build());
+        assertEquals(Collections.singletonList(bobAtt), viewed);
+    }
+
+    @Test
+    public void asUnmodifiableObservableSet_keptInStep() {
+        Set<Attendance> viewed = lab1Attended.asUnmodifiableObservableSet();
+        assertEquals(attSet, viewed);
+
+        Attendance bobAtt = new Attendance(new StudentId(VALID_STUDENT_ID_BOB), Presence.PRESENT);
+        lab1Attended.addToSession(bobAtt);
+        lab1Attended.removeStudent(new StudentBuilder().withStudentId(VALID_STUDENT_ID_AMY).build());
+        assertEquals(Collections.singleton(bobAtt), viewed);
+        assertEquals(lab1Attended.getAttendance(), viewed);
     }
 }
@@ -0,0 +1,96 @@
+package seedu.superta.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalStudents;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.superta.testutil.StudentBuilder;
+
+public class StudentContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        StudentContainsKeywordsPredicate firstPredicate = nameKeywords("first");
+        StudentContainsKeywordsPredicate secondPredicate = nameKeywords("first", "second");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(nameKeywords("first")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same keywords for a different field -> returns false
+        assertFalse(firstPredicate.equals(new StudentContainsKeywordsPredicate(Collections.emptyList(),
+                Collections.singletonList("first"), Collections.emptyList(), Collections.emptyList())));
+    }
+
+    @Test
+    public void test_fieldContainsKeywords_returnsTrue() {
+        assertTrue(nameKeywords("Alice").test(new StudentBuilder().withName("Alice Bob").build()));
+        assertTrue(nameKeywords("Carol", "bOB").test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // prefix and similar keywords
+        assertTrue(nameKeywords("Ali*").test(new StudentBuilder().withName("Alice Bob").build()));
+        assertTrue(nameKeywords("Alcie~").test(new StudentBuilder().withName("Alice Bob").build()));
+        assertTrue(new StudentContainsKeywordsPredicate(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.singletonList("a0123456y")).test(
+                new StudentBuilder().withStudentId("A0123456Y").build()));
+    }
+
+    @Test
+    public void test_fieldDoesNotContainKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(nameKeywords().test(new StudentBuilder().withName("Alice").build()));
+
+        // prefix and similar keywords that do not match
+        assertFalse(nameKeywords("Alic~e", "Bobb*").test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // keyword of another field
+        assertFalse(nameKeywords("12345", "alice@email.com").test(new StudentBuilder().withName("Alice")
+                .withPhone("12345").withEmail("alice@email.com").build()));
+    }
+
+    @Test
+    public void using_typicalStudents_sameResultAsTest() {
+        UniqueStudentList students = new UniqueStudentList();
+        students.setStudents(getTypicalStudents());
+        List<String> keywords = Arrays.asList("Meyer", "87652533", "heinz@example.com", "A1820123Y", "");
+        StudentContainsKeywordsPredicate predicate =
+                new StudentContainsKeywordsPredicate(keywords, keywords, keywords, keywords);
+        Predicate<Student> indexedPredicate = predicate.using(students.getTokenIndex());
+
+        List<Student> expected = getTypicalStudents().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, getTypicalStudents().stream().filter(indexedPredicate).collect(Collectors.toList()));
+        assertEquals(4, expected.size());
+
+        // students added afterwards are found
+        Student newStudent = new StudentBuilder(ALICE).withName("Alice Meyer").withPhone("11111111")
+                .withEmail("alice.meyer@example.com").withStudentId("A0000001Y").build();
+        students.add(newStudent);
+        assertTrue(indexedPredicate.test(newStudent));
+    }
+
+    private static StudentContainsKeywordsPredicate nameKeywords(String... keywords) {
+        return new StudentContainsKeywordsPredicate(Arrays.asList(keywords), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.superta.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.superta.testutil.Assert;
+
+public class StudentIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new StudentId(null));
+    }
+
+    @Test
+    public void constructor_invalidStudentId_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new StudentId("A012345Y"));
+    }
+
+    @Test
+    public void of_sameStudentId_returnsSameStudentId() {
+        StudentId studentId = StudentId.of("A0123456Y");
+        assertSame(studentId, StudentId.of("A0123456Y"));
+        assertSame(studentId, StudentId.of("a0123456y"));
+        assertNotSame(studentId, StudentId.of("A0123457Y"));
+        assertEquals(new StudentId("A0123456Y"), studentId);
+    }
+
+    @Test
+    public void isValidStudentId() {
+        // null student ID
+        Assert.assertThrows(NullPointerException.class, () -> StudentId.isValidStudentId(null));
+
+        // invalid student IDs
+        assertFalse(StudentId.isValidStudentId("")); // empty string
+        assertFalse(StudentId.isValidStudentId("A0123456")); // missing last letter
+        assertFalse(StudentId.isValidStudentId("0123456Y")); // missing first letter
+        assertFalse(StudentId.isValidStudentId("A01234567Y")); // too many digits
+
+        // valid student IDs
+        assertTrue(StudentId.isValidStudentId("A0123456Y"));
+    }
+}
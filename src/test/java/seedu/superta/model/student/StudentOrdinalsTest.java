@@ -0,0 +1,42 @@
+package seedu.superta.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+public class StudentOrdinalsTest {
+
+    private final StudentOrdinals studentOrdinals = new StudentOrdinals();
+
+    @Test
+    public void of_equalStudentIds_sameOrdinal() {
+        int ordinal = studentOrdinals.of(new StudentId("A0123456Q"));
+        assertEquals(ordinal, studentOrdinals.of(new StudentId("a0123456q")));
+        assertEquals(ordinal, studentOrdinals.find(StudentId.of("A0123456Q")));
+        assertEquals(new StudentId("A0123456Q"), studentOrdinals.getStudentId(ordinal));
+    }
+
+    @Test
+    public void of_differentStudentIds_denseOrdinals() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, studentOrdinals.of(new StudentId(String.format("A%07dQ", i))));
+        }
+        assertEquals(100, studentOrdinals.size());
+        assertEquals(new StudentId("A0000042Q"), studentOrdinals.getStudentId(42));
+    }
+
+    @Test
+    public void of_otherOrdinals_independent() {
+        StudentOrdinals otherOrdinals = new StudentOrdinals();
+        otherOrdinals.of(new StudentId("A0123457Q"));
+        assertEquals(0, studentOrdinals.of(new StudentId("A0123458Q")));
+        assertNotEquals(StudentOrdinals.NONE, otherOrdinals.find(new StudentId("A0123457Q")));
+        assertEquals(StudentOrdinals.NONE, studentOrdinals.find(new StudentId("A0123457Q")));
+    }
+
+    @Test
+    public void find_unseenStudentId_none() {
+        assertEquals(StudentOrdinals.NONE, studentOrdinals.find(new StudentId("Z0000000Z")));
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.superta.model.student;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
+import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalStudents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.superta.model.student.StudentTokenIndex.Field;
+import seedu.superta.testutil.StudentBuilder;
+
+public class StudentTokenIndexTest {
+    private static final int LARGE_ROSTER_SIZE = 10000;
+    private static final int LOOKUP_COUNT = 100;
+    private static final long LOOKUP_TIMEOUT = 3;
+
+    private final UniqueStudentList uniqueStudentList = new UniqueStudentList();
+    private final StudentTokenIndex index = uniqueStudentList.getTokenIndex();
+
+    @Test
+    public void getStudentsWith_addedStudents_foundByEveryField() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+
+        assertEquals(setOf(ALICE), index.getStudentsWith(Field.NAME, "alice"));
+        assertEquals(setOf(ALICE), index.getStudentsWith(Field.NAME, "PAULINE"));
+        assertEquals(setOf(BENSON), index.getStudentsWith(Field.PHONE, BENSON.getPhone().value));
+        assertEquals(setOf(BENSON), index.getStudentsWith(Field.EMAIL, BENSON.getEmail().value.toUpperCase()));
+        assertEquals(setOf(ALICE), index.getStudentsWith(Field.STUDENT_ID, ALICE.getStudentId().studentId));
+
+        // not a whole word
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, "Ali"));
+        // word of another field
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, BENSON.getPhone().value));
+    }
+
+    @Test
+    public void getStudentsWith_editedStudent_foundByNewWordsOnly() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, "alice"));
+        assertEquals(setOf(editedAlice), index.getStudentsWith(Field.NAME, "alicia"));
+        assertEquals(setOf(editedAlice), index.getStudentsWith(Field.NAME, "pauline"));
+    }
+
+    @Test
+    public void getStudentsWith_removedStudents_notFound() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.remove(new StudentBuilder(ALICE).build());
+        uniqueStudentList.removeById(BENSON);
+
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, "alice"));
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, "benson"));
+    }
+
+    @Test
+    public void getStudentsWith_replacedStudents_onlyNewStudentsFound() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Arrays.asList(BENSON, CARL));
+        assertEquals(Collections.emptySet(), index.getStudentsWith(Field.NAME, "alice"));
+        assertEquals(setOf(CARL), index.getStudentsWith(Field.NAME, "carl"));
+
+        UniqueStudentList clone = uniqueStudentList.clone();
+        uniqueStudentList.remove(CARL);
+        assertEquals(setOf(CARL), clone.getTokenIndex().getStudentsWith(Field.NAME, "carl"));
+    }
+
+    @Test
+    public void getModificationCount_changesWithList() {
+        long modificationCount = index.getModificationCount();
+        uniqueStudentList.add(ALICE);
+        assertNotEquals(modificationCount, index.getModificationCount());
+    }
+
+    @Test
+    public void getStudentsWithPrefix() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(setOf(ALICE), index.getStudentsWithPrefix(Field.NAME, "al"));
+        assertEquals(setOf(ALICE), index.getStudentsWithPrefix(Field.NAME, "Alice"));
+        assertEquals(setOf(ALICE, BENSON, CARL), index.getStudentsWithPrefix(Field.NAME, ""));
+        assertEquals(setOf(BENSON), index.getStudentsWithPrefix(Field.PHONE, "9876"));
+        assertEquals(Collections.emptySet(), index.getStudentsWithPrefix(Field.NAME, "alicee"));
+
+        uniqueStudentList.remove(ALICE);
+        assertEquals(Collections.emptySet(), index.getStudentsWithPrefix(Field.NAME, "al"));
+    }
+
+    @Test
+    public void getStudentsSimilarTo() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+
+        // one typing error
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.STUDENT_ID, "A0167633Y"));
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.NAME, "Alcie"));
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.NAME, "alic"));
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.NAME, "alicee"));
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.NAME, "aluce"));
+        assertEquals(setOf(CARL), index.getStudentsSimilarTo(Field.NAME, "kurz"));
+
+        // two typing errors in a long keyword
+        assertEquals(setOf(ALICE), index.getStudentsSimilarTo(Field.NAME, "Pualnie"));
+
+        // too many typing errors
+        assertEquals(Collections.emptySet(), index.getStudentsSimilarTo(Field.STUDENT_ID, "A0167633X"));
+        assertEquals(Collections.emptySet(), index.getStudentsSimilarTo(Field.NAME, "Alxcie"));
+        assertEquals(Collections.emptySet(), index.getStudentsSimilarTo(Field.NAME, "al"));
+
+        // fields without trigrams only match whole words
+        assertEquals(Collections.emptySet(), index.getStudentsSimilarTo(Field.PHONE, "94351235"));
+
+        uniqueStudentList.setStudent(CARL, new StudentBuilder(CARL).withName("Carl Kunz").build());
+        assertEquals(Collections.emptySet(), index.getStudentsSimilarTo(Field.NAME, "kurtz"));
+    }
+
+    @Test
+    public void matches_sameAsIndex() {
+        List<Student> students = getTypicalStudents();
+        uniqueStudentList.setStudents(students);
+        for (String keyword : Arrays.asList("Alice", "aLIce", "Ali", "", "Ali*", "*", "Mei*", "Meire~", "Mayer~",
+                "Kunz~", "A1820123Y", "A1820132Y~", "A182*", "Kurz~*", "Ku*~")) {
+            for (Field field : Field.values()) {
+                Set<Student> expected = index.getStudentsMatching(field, keyword);
+                Set<Student> actual = students.stream()
+                        .filter(student -> StudentTokenIndex.matches(student, field, keyword))
+                        .collect(Collectors.toSet());
+                assertEquals(keyword + " in " + field, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void getMaxTypingErrors() {
+        assertEquals(0, StudentTokenIndex.getMaxTypingErrors(Field.NAME, "ab"));
+        assertEquals(1, StudentTokenIndex.getMaxTypingErrors(Field.NAME, "abc"));
+        assertEquals(1, StudentTokenIndex.getMaxTypingErrors(Field.NAME, "abcdef"));
+        assertEquals(2, StudentTokenIndex.getMaxTypingErrors(Field.NAME, "abcdefg"));
+        assertEquals(1, StudentTokenIndex.getMaxTypingErrors(Field.STUDENT_ID, "a0123456y"));
+    }
+
+    /**
+     * Verifies that prefix and typo-tolerant lookups in a roster of {@code LARGE_ROSTER_SIZE} students take less than
+     * {@code LOOKUP_TIMEOUT} milliseconds each on average.
+     */
+    @Test
+    public void getStudentsMatching_largeRoster_performanceTest() {
+        Random random = new Random(2103);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < LARGE_ROSTER_SIZE; i++) {
+            students.add(new StudentBuilder().withName(randomWord(random) + " " + randomWord(random))
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("student" + i + "@example.com")
+                    .withStudentId(String.format("A%07dY", i)).build());
+        }
+        uniqueStudentList.setStudents(students);
+
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            String word = randomWord(random);
+            keywords.add(word.substring(0, 3) + StudentTokenIndex.PREFIX_WILDCARD);
+            keywords.add(word.substring(1) + StudentTokenIndex.SIMILAR_WILDCARD);
+            keywords.add(String.format("A%07dX", random.nextInt(LARGE_ROSTER_SIZE))
+                    + StudentTokenIndex.SIMILAR_WILDCARD);
+        }
+        // warm up
+        keywords.forEach(keyword -> index.getStudentsMatching(Field.NAME, keyword));
+
+        assertTimeoutPreemptively(ofMillis(LOOKUP_TIMEOUT * 2 * keywords.size()), () -> {
+            for (String keyword : keywords) {
+                index.getStudentsMatching(Field.NAME, keyword);
+                index.getStudentsMatching(Field.STUDENT_ID, keyword);
+            }
+        }, "Looking up students in a large roster exceeded time limit");
+    }
+
+    /**
+     * Returns a random capitalised word of two to four syllables, which may end with a consonant.
+     */
+    private static String randomWord(Random random) {
+        String consonants = "bcdfghjklmnprstvwyz";
+        String vowels = "aeiou";
+        StringBuilder word = new StringBuilder();
+        int syllableCount = 2 + random.nextInt(3);
+        for (int i = 0; i < syllableCount; i++) {
+            word.append(consonants.charAt(random.nextInt(consonants.length())));
+            word.append(vowels.charAt(random.nextInt(vowels.length())));
+        }
+        if (random.nextBoolean()) {
+            word.append(consonants.charAt(random.nextInt(consonants.length())));
+        }
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static Set<Student> setOf(Student... students) {
+        return new HashSet<>(Arrays.asList(students));
+    }
+}
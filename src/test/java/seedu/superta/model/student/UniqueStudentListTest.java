@@ -3,6 +3,7 @@ package seedu.superta.model.student;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.superta.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.superta.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
 import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
@@ -119,6 +120,18 @@ public class UniqueStudentListTest {
         uniqueStudentList.setStudent(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonAlsoHasIdentityOfAnother_throwsDuplicatePersonException() {
+        Student otherAlice = new StudentBuilder(BOB).withName(ALICE.getName().toString()).build();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(otherAlice);
+
+        // same name and phone as ALICE, same name and email as otherAlice
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(otherAlice.getEmail().toString()).build();
+        thrown.expect(DuplicateStudentException.class);
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -192,4 +205,141 @@ public class UniqueStudentListTest {
         // with student -> true
         assertTrue(uniqueStudentList.removeById(BENSON));
     }
+
+    @Test
+    public void containsId_studentIdInList_returnsTrue() {
+        assertFalse(uniqueStudentList.containsId(ALICE.getStudentId()));
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.containsId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getStudentWithId_afterSetStudent_returnsEditedStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+
+        // old id no longer indexed
+        assertFalse(uniqueStudentList.getStudentWithId(ALICE.getStudentId()).isPresent());
+        assertFalse(uniqueStudentList.containsId(ALICE.getStudentId()));
+
+        // new id resolves to the edited student
+        assertEquals(BOB, uniqueStudentList.getStudentWithId(BOB.getStudentId()).get());
+    }
+
+    @Test
+    public void removeStudentWithId_success() {
+        // no students -> false
+        assertFalse(uniqueStudentList.removeStudentWithId(ALICE.getStudentId()));
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+
+        // with student -> true, and the student is no longer found by id
+        assertTrue(uniqueStudentList.removeStudentWithId(ALICE.getStudentId()));
+        assertFalse(uniqueStudentList.containsId(ALICE.getStudentId()));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BENSON);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void studentsSharingId_removeFirst_laterStudentStillFound() {
+        Student bensonWithAliceId = new StudentBuilder(BENSON).withStudentId(ALICE.getStudentId().toString()).build();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(bensonWithAliceId);
+        assertEquals(ALICE, uniqueStudentList.getStudentWithId(ALICE.getStudentId()).get());
+
+        // removes only the first student with the id
+        assertTrue(uniqueStudentList.removeById(ALICE));
+        assertTrue(uniqueStudentList.containsId(ALICE.getStudentId()));
+        assertEquals(bensonWithAliceId, uniqueStudentList.getStudentWithId(ALICE.getStudentId()).get());
+    }
+
+    @Test
+    public void removeStudentWithId_studentsSharingId_removesAll() {
+        Student bensonWithAliceId = new StudentBuilder(BENSON).withStudentId(ALICE.getStudentId().toString()).build();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(bensonWithAliceId);
+
+        assertTrue(uniqueStudentList.removeStudentWithId(ALICE.getStudentId()));
+        assertFalse(uniqueStudentList.containsId(ALICE.getStudentId()));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void setStudents_list_reindexesStudents() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertFalse(uniqueStudentList.containsId(ALICE.getStudentId()));
+        assertTrue(uniqueStudentList.containsId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void clone_modifyClone_originalIndexUnchanged() {
+        uniqueStudentList.add(ALICE);
+        UniqueStudentList clone = uniqueStudentList.clone();
+        clone.removeStudentWithId(ALICE.getStudentId());
+        assertTrue(uniqueStudentList.containsId(ALICE.getStudentId()));
+        assertFalse(clone.containsId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void contains_personWithSameNameAndEmail_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student aliceWithOtherPhone = new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniqueStudentList.contains(aliceWithOtherPhone));
+
+        // identity index follows removals
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(aliceWithOtherPhone));
+    }
+
+    @Test
+    public void addAll_uniquePersons_addsInOrder() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(Arrays.asList(BENSON, BOB));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, BOB));
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertTrue(uniqueStudentList.containsId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniqueStudentList.add(ALICE);
+        thrown.expect(DuplicateStudentException.class);
+        uniqueStudentList.addAll(Arrays.asList(BENSON, ALICE));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndAddsNothing() {
+        try {
+            uniqueStudentList.addAll(Arrays.asList(BENSON, BOB, BENSON));
+        } catch (DuplicateStudentException e) {
+            assertEquals(0, uniqueStudentList.size());
+            assertFalse(uniqueStudentList.contains(BENSON));
+            return;
+        }
+        throw new AssertionError("DuplicateStudentException was not thrown");
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, BOB));
+        uniqueStudentList.removeAll(Arrays.asList(BOB, ALICE));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BENSON);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.containsId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        thrown.expect(StudentNotFoundException.class);
+        uniqueStudentList.removeAll(Arrays.asList(ALICE, BOB));
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.superta.model.tutorialgroup;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,7 +65,21 @@ public class TutorialGroupMasterTest {
         assertFalse(master.generateUid(tg.getId()).equals(tg.getId()));
     }
 
-
+    @Test
+    public void asUnmodifiableObservableList_requestedRepeatedly_sameViewKeptInStep() {
+        List<TutorialGroup> viewed = master.asUnmodifiableObservableList();
+        for (int i = 0; i < 1000; i++) {
+            assertSame(viewed, master.asUnmodifiableObservableList());
+        }
+
+        TutorialGroup tg = master.addTutorialGroup(getModelTutorialGroup());
+        assertEquals(Collections.singletonList(tg), viewed);
+        TutorialGroup renamed = new TutorialGroup(tg.getId(), "renamed");
+        master.setTutorialGroup(renamed);
+        assertEquals(Collections.singletonList(renamed), viewed);
+        master.removeTutorialGroup(renamed);
+        assertTrue(viewed.isEmpty());
+    }
 
     private TutorialGroup getModelTutorialGroup() {
         return new TutorialGroup("test_id", "test_name");
@@ -0,0 +1,244 @@
+package seedu.superta.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
+import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
+import static seedu.superta.testutil.TypicalSuperTaClient.HOON;
+import static seedu.superta.testutil.TypicalSuperTaClient.IDA;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Attendance;
+import seedu.superta.model.attendance.Presence;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.student.StudentId;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.StudentBuilder;
+
+public class BinarySuperTaClientStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSuperTaClientStorageTest");
+
+    private static final int LARGE_ROSTER_SIZE = 5000;
+    private static final int LARGE_TUTORIAL_GROUP_SIZE = 50;
+    private static final long LOAD_TIMEOUT = 1000;
+    private static final long SAVE_TIMEOUT = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySuperTaClientStorage(Paths.get("dummy")).readSuperTaClient(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySuperTaClientStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.bin"))
+                .readSuperTaClient().isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinarySuperTaClientStorage(TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")).readSuperTaClient();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Truncated.bin");
+        BinarySuperTaClientStorage storage = new BinarySuperTaClientStorage(filePath);
+        storage.saveSuperTaClient(getSuperTaClientWithTutorialGroup());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSuperTaClient();
+    }
+
+    @Test
+    public void read_countLargerThanFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("CorruptCount.bin");
+        BinarySuperTaClientStorage storage = new BinarySuperTaClientStorage(filePath);
+        storage.saveSuperTaClient(getTypicalSuperTaClient());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // the size of the student ID dictionary, which would be allocated up front
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES * 2, Integer.MAX_VALUE);
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readSuperTaClient();
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("FutureVersion.bin");
+        BinarySuperTaClientStorage storage = new BinarySuperTaClientStorage(filePath);
+        storage.saveSuperTaClient(getTypicalSuperTaClient());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[Integer.BYTES * 2 - 1] = BinarySuperTaClientStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readSuperTaClient();
+    }
+
+    @Test
+    public void isBinaryDataFile() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.bin");
+        new BinarySuperTaClientStorage(filePath).saveSuperTaClient(getTypicalSuperTaClient());
+        assertTrue(BinarySuperTaClientStorage.isBinaryDataFile(filePath));
+
+        new StaxSuperTaClientStorage(filePath).saveSuperTaClient(getTypicalSuperTaClient());
+        assertFalse(BinarySuperTaClientStorage.isBinaryDataFile(filePath));
+
+        Files.write(filePath, new byte[0]);
+        assertFalse(BinarySuperTaClientStorage.isBinaryDataFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveSuperTaClient_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.bin");
+        SuperTaClient original = getTypicalSuperTaClient();
+        BinarySuperTaClientStorage binaryStorage = new BinarySuperTaClientStorage(filePath);
+
+        // save in new file and read back
+        binaryStorage.saveSuperTaClient(original, filePath);
+        ReadOnlySuperTaClient readBack = binaryStorage.readSuperTaClient(filePath).get();
+        assertEquals(original, new SuperTaClient(readBack));
+
+        // modify data, overwrite existing file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        binaryStorage.saveSuperTaClient(original, filePath);
+        readBack = binaryStorage.readSuperTaClient(filePath).get();
+        assertEquals(original, new SuperTaClient(readBack));
+
+        // save and read without specifying file path
+        original.addStudent(IDA);
+        binaryStorage.saveSuperTaClient(original);
+        readBack = binaryStorage.readSuperTaClient().get();
+        assertEquals(original, new SuperTaClient(readBack));
+    }
+
+    @Test
+    public void readAndSaveSuperTaClient_withTutorialGroups_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.bin");
+        SuperTaClient original = getSuperTaClientWithTutorialGroup();
+        BinarySuperTaClientStorage binaryStorage = new BinarySuperTaClientStorage(filePath);
+
+        binaryStorage.saveSuperTaClient(original);
+        assertEquals(original, new SuperTaClient(binaryStorage.readSuperTaClient().get()));
+    }
+
+    @Test
+    public void saveSuperTaClient_nullSuperTaClient_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(null);
+    }
+
+    @Test
+    public void saveSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(new SuperTaClient(), null);
+    }
+
+    /**
+     * Verifies that a large roster is smaller in the binary format than in the xml format, and that it is saved and
+     * loaded within {@code SAVE_TIMEOUT} and {@code LOAD_TIMEOUT} milliseconds.
+     */
+    @Test
+    public void readAndSaveSuperTaClient_largeRoster_performanceTest() throws Exception {
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("LargeSuperTaClient.bin");
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("LargeSuperTaClient.xml");
+        SuperTaClient original = getLargeSuperTaClient();
+        BinarySuperTaClientStorage binaryStorage = new BinarySuperTaClientStorage(binaryFilePath);
+        new StaxSuperTaClientStorage(xmlFilePath).saveSuperTaClient(original);
+
+        assertTimeoutPreemptively(ofMillis(SAVE_TIMEOUT), () -> binaryStorage.saveSuperTaClient(original),
+                "Saving a large roster exceeded time limit");
+        assertTrue(Files.size(binaryFilePath) < Files.size(xmlFilePath) / 2);
+
+        assertTimeoutPreemptively(ofMillis(LOAD_TIMEOUT), () -> binaryStorage.readSuperTaClient(),
+                "Loading a large roster exceeded time limit");
+        assertEquals(original, new SuperTaClient(binaryStorage.readSuperTaClient().get()));
+    }
+
+    /**
+     * Returns a typical SuperTaClient with a tutorial group that has a graded assignment and an attendance session.
+     */
+    static SuperTaClient getSuperTaClientWithTutorialGroup() {
+        SuperTaClient superTaClient = getTypicalSuperTaClient();
+        superTaClient.addFeedback(new Feedback("Needs more practice"), CARL.getStudentId());
+        TutorialGroup tutorialGroup = new TutorialGroup("04a", "CS1101S Studio 04A");
+        superTaClient.addTutorialGroup(tutorialGroup);
+        superTaClient.addStudentToTutorialGroup(tutorialGroup, ALICE);
+        superTaClient.addStudentToTutorialGroup(tutorialGroup, BENSON);
+        superTaClient.addAssignment(tutorialGroup, new Assignment(new Title("Lab 1"), 10.0));
+        superTaClient.grade(new Grade("04a", new Title("Lab 1"), ALICE.getStudentId(), 7.5));
+        superTaClient.grade(new Grade("04a", new Title("Lab 1"), BENSON.getStudentId(), 9.0));
+        Set<Attendance> attendances = new HashSet<>();
+        attendances.add(new Attendance(ALICE.getStudentId(), Presence.PRESENT));
+        attendances.add(new Attendance(BENSON.getStudentId(), Presence.EXCUSED));
+        superTaClient.createAttendance(tutorialGroup, new Session("lab1", attendances));
+        return superTaClient;
+    }
+
+    /**
+     * Returns a SuperTaClient of {@code LARGE_ROSTER_SIZE} students, in tutorial groups of
+     * {@code LARGE_TUTORIAL_GROUP_SIZE} students who have each been graded and marked present.
+     */
+    static SuperTaClient getLargeSuperTaClient() {
+        SuperTaClient superTaClient = new SuperTaClient();
+        TutorialGroup tutorialGroup = null;
+        for (int i = 0; i < LARGE_ROSTER_SIZE; i++) {
+            Student student = new StudentBuilder()
+                    .withName("Student " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("student" + i + "@u.nus.edu")
+                    .withStudentId(String.format("A%07dZ", i))
+                    .build();
+            superTaClient.addStudent(student);
+
+            if (i % LARGE_TUTORIAL_GROUP_SIZE == 0) {
+                tutorialGroup = new TutorialGroup(String.valueOf(i / LARGE_TUTORIAL_GROUP_SIZE), "Tutorial " + i);
+                tutorialGroup.addAssignment(new Assignment(new Title("Lab 1"), 100.0));
+                tutorialGroup.createAttendanceSession(new Session("Week 1"));
+                superTaClient.addTutorialGroup(tutorialGroup);
+            }
+            StudentId studentId = student.getStudentId();
+            tutorialGroup.addStudent(student);
+            tutorialGroup.getAssignment(new Title("Lab 1")).get().grade(studentId, (double) (i % 100));
+            tutorialGroup.getSessionByName("Week 1").get().addToSession(new Attendance(studentId, Presence.PRESENT));
+        }
+        return superTaClient;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.superta.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.model.DataFileFormat;
+import seedu.superta.model.SuperTaClient;
+
+public class DataFileConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_nullSource_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        DataFileConverter.convert(null, testFolder.getRoot().toPath().resolve("target.bin"));
+    }
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        DataFileConverter.convert(testFolder.getRoot().toPath().resolve("missing.xml"),
+                testFolder.getRoot().toPath().resolve("target.bin"));
+    }
+
+    @Test
+    public void createStorage() {
+        Path filePath = testFolder.getRoot().toPath().resolve("data");
+        assertTrue(DataFileConverter.createStorage(filePath, DataFileFormat.XML)
+                instanceof StaxSuperTaClientStorage);
+        assertTrue(DataFileConverter.createStorage(filePath, DataFileFormat.BINARY)
+                instanceof BinarySuperTaClientStorage);
+        assertTrue(DataFileConverter.createStorage(filePath, DataFileFormat.SHARDED_XML)
+                instanceof ShardedSuperTaClientStorage);
+    }
+
+    @Test
+    public void convert_shardedToXml_lossless() throws Exception {
+        Path shardedFilePath = testFolder.getRoot().toPath().resolve("sharded.xml");
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("superta.xml");
+        SuperTaClient original = BinarySuperTaClientStorageTest.getSuperTaClientWithTutorialGroup();
+        new ShardedSuperTaClientStorage(shardedFilePath).saveSuperTaClient(original);
+        assertEquals(DataFileFormat.SHARDED_XML, DataFileConverter.detectFormat(shardedFilePath));
+
+        assertEquals(DataFileFormat.XML, DataFileConverter.convert(shardedFilePath, xmlFilePath));
+        assertEquals(original, new SuperTaClient(
+                new StaxSuperTaClientStorage(xmlFilePath).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_lossless() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("superta.xml");
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("superta.bin");
+        Path convertedXmlFilePath = testFolder.getRoot().toPath().resolve("converted.xml");
+        SuperTaClient original = BinarySuperTaClientStorageTest.getSuperTaClientWithTutorialGroup();
+        new StaxSuperTaClientStorage(xmlFilePath).saveSuperTaClient(original);
+
+        assertEquals(DataFileFormat.BINARY, DataFileConverter.convert(xmlFilePath, binaryFilePath));
+        assertEquals(DataFileFormat.BINARY, DataFileConverter.detectFormat(binaryFilePath));
+        assertEquals(original, new SuperTaClient(
+                new BinarySuperTaClientStorage(binaryFilePath).readSuperTaClient().get()));
+
+        assertEquals(DataFileFormat.XML, DataFileConverter.convert(binaryFilePath, convertedXmlFilePath));
+        assertEquals(DataFileFormat.XML, DataFileConverter.detectFormat(convertedXmlFilePath));
+        assertEquals(original, new SuperTaClient(
+                new StaxSuperTaClientStorage(convertedXmlFilePath).readSuperTaClient().get()));
+    }
+}
@@ -0,0 +1,447 @@
+package seedu.superta.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
+import static seedu.superta.testutil.TypicalSuperTaClient.HOON;
+import static seedu.superta.testutil.TypicalSuperTaClient.IDA;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.assignment.Assignment;
+import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.student.Student;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.StudentBuilder;
+
+public class JournaledSuperTaClientStorageTest {
+
+    private static final int COMPACTION_THRESHOLD = 5;
+    private static final long CRASH_TIMEOUT_IN_MILLIS = 30000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private JournaledSuperTaClientStorage createStorage(Path dataFilePath) {
+        return new JournaledSuperTaClientStorage(new StaxSuperTaClientStorage(dataFilePath),
+                JournaledSuperTaClientStorage.getJournalFilePath(dataFilePath), true, COMPACTION_THRESHOLD);
+    }
+
+    private SuperTaClient readBack(Path dataFilePath) throws Exception {
+        return new SuperTaClient(createStorage(dataFilePath).readSuperTaClient().get());
+    }
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new JournaledSuperTaClientStorage(null, getTempFilePath("data.journal"), true, COMPACTION_THRESHOLD);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(getTempFilePath("data.xml")).readSuperTaClient().isPresent());
+    }
+
+    @Test
+    public void getJournalFilePath() {
+        assertEquals(Paths.get("data", "superta.xml.journal"),
+                JournaledSuperTaClientStorage.getJournalFilePath(Paths.get("data", "superta.xml")));
+    }
+
+    @Test
+    public void saveSuperTaClient_afterFirstSave_onlyJournalWritten() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+
+        // the first save writes the whole data file
+        storage.saveSuperTaClient(data);
+        byte[] snapshot = Files.readAllBytes(dataFilePath);
+        assertEquals(0, storage.getRecordCount());
+
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+        data.addFeedback(new Feedback("Asks good questions"), ALICE.getStudentId());
+        storage.saveSuperTaClient(data);
+        data.removeStudent(BENSON);
+        storage.saveSuperTaClient(data);
+
+        assertEquals(3, storage.getRecordCount());
+        assertArrayEquals(snapshot, Files.readAllBytes(dataFilePath));
+        assertEquals(data, readBack(dataFilePath));
+    }
+
+    @Test
+    public void saveSuperTaClient_tutorialGroupChanges_replayed() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+
+        TutorialGroup tutorialGroup = new TutorialGroup("04a", "CS1101S Studio 04A");
+        data.addTutorialGroup(tutorialGroup);
+        storage.saveSuperTaClient(data);
+        data.addStudentToTutorialGroup(tutorialGroup, ALICE);
+        data.addAssignment(tutorialGroup, new Assignment(new Title("Lab 1"), 10.0));
+        data.grade(new Grade("04a", new Title("Lab 1"), ALICE.getStudentId(), 7.0));
+        storage.saveSuperTaClient(data);
+        data.createAttendance(tutorialGroup, new Session("lab1"));
+        data.markAttendance("04a", new Session("lab1"), Collections.singleton(ALICE.getStudentId()));
+        storage.saveSuperTaClient(data);
+
+        assertEquals(3, storage.getRecordCount());
+        assertEquals(data, readBack(dataFilePath));
+
+        // editing a student changes the tutorial groups the student is in as well
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("91234567").build();
+        data.updateStudent(ALICE, editedAlice);
+        storage.saveSuperTaClient(data);
+        data.removeTutorialGroup(data.getTutorialGroup("04a").get());
+        storage.saveSuperTaClient(data);
+        assertEquals(data, readBack(dataFilePath));
+    }
+
+    @Test
+    public void saveSuperTaClient_thresholdReached_compacted() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = new SuperTaClient();
+        storage.saveSuperTaClient(data);
+
+        for (int i = 0; i < COMPACTION_THRESHOLD; i++) {
+            data.addStudent(createStudent(i));
+            storage.saveSuperTaClient(data);
+        }
+        assertEquals(COMPACTION_THRESHOLD, storage.getRecordCount());
+
+        data.addStudent(createStudent(COMPACTION_THRESHOLD));
+        storage.saveSuperTaClient(data);
+        assertEquals(0, storage.getRecordCount());
+        assertEquals(data, new SuperTaClient(new StaxSuperTaClientStorage(dataFilePath).readSuperTaClient().get()));
+        assertEquals(data, readBack(dataFilePath));
+    }
+
+    @Test
+    public void saveSuperTaClient_studentsReordered_compacted() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+
+        List<Student> reversed = new ArrayList<>(data.getStudentList());
+        Collections.reverse(reversed);
+        data.setStudents(reversed);
+        storage.saveSuperTaClient(data);
+
+        assertEquals(0, storage.getRecordCount());
+        assertEquals(data, readBack(dataFilePath));
+    }
+
+    @Test
+    public void saveSuperTaClient_studentsSwapIdentities_compacted() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        StudentBuilder sam = new StudentBuilder().withName("Sam Lee").withTags();
+        Student first = sam.withPhone("81111111").withEmail("first@example.com").withStudentId("A0000001Y").build();
+        Student second = sam.withPhone("82222222").withEmail("second@example.com").withStudentId("A0000002Y").build();
+        data.addStudent(first);
+        data.addStudent(second);
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+
+        // each takes the phone and email of the other, which cannot be replayed one edit at a time
+        Student editedFirst = new StudentBuilder(first).withPhone("82222222").withEmail("second@example.com").build();
+        Student editedSecond = new StudentBuilder(second).withPhone("81111111").withEmail("first@example.com")
+                .build();
+        List<Student> students = new ArrayList<>(data.getStudentList());
+        students.set(students.indexOf(first), editedFirst);
+        students.set(students.indexOf(second), editedSecond);
+        data.setStudents(students);
+        storage.saveSuperTaClient(data);
+
+        assertEquals(0, storage.getRecordCount());
+        assertEquals(data, readBack(dataFilePath));
+    }
+
+    @Test
+    public void close_shardedTutorialGroupRemoved_shardsReplaced() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = new JournaledSuperTaClientStorage(
+                new ShardedSuperTaClientStorage(dataFilePath), true);
+        SuperTaClient data = getTypicalSuperTaClient();
+        TutorialGroup tutorialGroup = new TutorialGroup("04a", "CS1101S Studio 04A");
+        data.addTutorialGroup(tutorialGroup);
+        data.addStudentToTutorialGroup(tutorialGroup, BENSON);
+        storage.saveSuperTaClient(data);
+
+        data.removeTutorialGroup(data.getTutorialGroup("04a").get());
+        data.removeStudent(BENSON);
+        storage.saveSuperTaClient(data);
+        assertEquals(1, storage.getRecordCount());
+        storage.close();
+
+        assertFalse(Files.exists(ShardedSuperTaClientStorage.getShardFilePath(dataFilePath, "04a")));
+        assertEquals(data, new SuperTaClient(new ShardedSuperTaClientStorage(dataFilePath).readSuperTaClient()
+                .get()));
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertEquals(Arrays.asList(dataFilePath, ShardedSuperTaClientStorage.getShardDirectory(dataFilePath),
+                    JournaledSuperTaClientStorage.getJournalFilePath(dataFilePath)),
+                    files.sorted().collect(Collectors.toList()));
+        }
+
+        // the journal belongs to the new shards, so changes journaled after the compaction are replayed
+        JournaledSuperTaClientStorage reopened = new JournaledSuperTaClientStorage(
+                new ShardedSuperTaClientStorage(dataFilePath), true);
+        data = new SuperTaClient(reopened.readSuperTaClient().get());
+        data.addStudent(HOON);
+        reopened.saveSuperTaClient(data);
+        assertEquals(1, reopened.getRecordCount());
+        assertEquals(data, new SuperTaClient(new JournaledSuperTaClientStorage(
+                new ShardedSuperTaClientStorage(dataFilePath), true).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void close_journalNotEmpty_compacted() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+
+        storage.close();
+        assertEquals(0, storage.getRecordCount());
+        assertEquals(data, new SuperTaClient(new StaxSuperTaClientStorage(dataFilePath).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void saveSuperTaClient_otherFilePath_snapshotWritten() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        Path otherFilePath = getTempFilePath("export.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+
+        storage.saveSuperTaClient(getTypicalSuperTaClient(), otherFilePath);
+        assertFalse(Files.exists(dataFilePath));
+        assertEquals(getTypicalSuperTaClient(), new SuperTaClient(storage.readSuperTaClient(otherFilePath).get()));
+    }
+
+    /**
+     * Simulates the app stopping at every point while the last record was being appended.
+     */
+    @Test
+    public void readSuperTaClient_lastRecordIncomplete_previousStateRecovered() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+        SuperTaClient beforeLastRecord = new SuperTaClient(data);
+        byte[] journalBeforeLastRecord = Files.readAllBytes(storage.getJournalFilePath());
+        data.addStudent(IDA);
+        storage.saveSuperTaClient(data);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        for (int length = journalBeforeLastRecord.length; length < journal.length; length++) {
+            Files.write(storage.getJournalFilePath(), Arrays.copyOf(journal, length));
+            assertEquals(beforeLastRecord, readBack(dataFilePath));
+            // the incomplete record is discarded
+            assertEquals(journalBeforeLastRecord.length, Files.size(storage.getJournalFilePath()));
+        }
+
+        // a corrupted record is discarded as well
+        byte[] corrupted = journal.clone();
+        corrupted[corrupted.length - 1] ^= 1;
+        Files.write(storage.getJournalFilePath(), corrupted);
+        assertEquals(beforeLastRecord, readBack(dataFilePath));
+
+        // saving after recovery appends to the truncated journal
+        JournaledSuperTaClientStorage recovered = createStorage(dataFilePath);
+        SuperTaClient recoveredData = new SuperTaClient(recovered.readSuperTaClient().get());
+        recoveredData.addStudent(IDA);
+        recovered.saveSuperTaClient(recoveredData);
+        assertEquals(2, recovered.getRecordCount());
+        assertEquals(recoveredData, readBack(dataFilePath));
+    }
+
+    /**
+     * Simulates the app stopping after the file system extended the journal for the last record, but before it
+     * wrote the record, which leaves a tail of zeros.
+     */
+    @Test
+    public void readSuperTaClient_zeroFilledTail_previousStateRecovered() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        for (int padding : new int[] {1, 12, 4096}) {
+            Files.write(storage.getJournalFilePath(), Arrays.copyOf(journal, journal.length + padding));
+            assertEquals(data, readBack(dataFilePath));
+            assertEquals(journal.length, Files.size(storage.getJournalFilePath()));
+        }
+    }
+
+    /**
+     * Verifies that a record that is complete but cannot be replayed ends the journal, even if it was applied in
+     * part before it failed.
+     */
+    @Test
+    public void readSuperTaClient_recordCannotBeReplayed_previousStateRecovered() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // removes ALICE, then fails as the changed student is not in the record
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(record)) {
+            out.writeInt(1);
+            out.writeUTF(ALICE.getStudentId().studentId);
+            out.writeInt(1);
+            out.writeUTF(IDA.getStudentId().studentId);
+            out.writeInt(0);
+            BinarySuperTaClientStorage.writeClient(out, new SuperTaClient());
+        }
+        Files.write(storage.getJournalFilePath(), withRecord(journal, record.toByteArray()));
+
+        assertEquals(data, readBack(dataFilePath));
+        assertEquals(journal.length, Files.size(storage.getJournalFilePath()));
+    }
+
+    private static byte[] withRecord(byte[] journal, byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return ByteBuffer.allocate(journal.length + Integer.BYTES + Long.BYTES + record.length)
+                .put(journal).putInt(record.length).putLong(crc.getValue()).put(record).array();
+    }
+
+    /**
+     * Simulates the app stopping during a compaction, after the new data file replaced the old one but before the
+     * new journal replaced the old one.
+     */
+    @Test
+    public void readSuperTaClient_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        JournaledSuperTaClientStorage storage = createStorage(dataFilePath);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.saveSuperTaClient(data);
+        data.addStudent(HOON);
+        storage.saveSuperTaClient(data);
+
+        data.removeStudent(ALICE);
+        new StaxSuperTaClientStorage(dataFilePath).saveSuperTaClient(data);
+        assertEquals(data, readBack(dataFilePath));
+
+        // the next save starts a new journal for the data file
+        JournaledSuperTaClientStorage recovered = createStorage(dataFilePath);
+        SuperTaClient recoveredData = new SuperTaClient(recovered.readSuperTaClient().get());
+        recoveredData.addStudent(IDA);
+        recovered.saveSuperTaClient(recoveredData);
+        recoveredData.addStudent(ALICE);
+        recovered.saveSuperTaClient(recoveredData);
+        assertEquals(1, recovered.getRecordCount());
+        assertEquals(recoveredData, readBack(dataFilePath));
+    }
+
+    /**
+     * Kills a process while it is appending to the journal, and verifies that the data saved before the last
+     * complete record is recovered.
+     */
+    @Test
+    public void readSuperTaClient_writerProcessKilled_savedDataRecovered() throws Exception {
+        Path dataFilePath = getTempFilePath("data.xml");
+        Path journalFilePath = JournaledSuperTaClientStorage.getJournalFilePath(dataFilePath);
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process writer = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                JournalWriter.class.getName(), dataFilePath.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(new File(testFolder.getRoot(), "writer.log"))
+                .start();
+        try {
+            long deadline = System.currentTimeMillis() + CRASH_TIMEOUT_IN_MILLIS;
+            while (!(Files.exists(journalFilePath) && Files.size(journalFilePath) > 4096)) {
+                assertTrue("Writer process stopped early", writer.isAlive());
+                assertTrue("Writer process made no progress", System.currentTimeMillis() < deadline);
+                Thread.sleep(10);
+            }
+        } finally {
+            writer.destroyForcibly().waitFor(CRASH_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        ReadOnlySuperTaClient recovered = createStorage(dataFilePath).readSuperTaClient().get();
+        int studentCount = recovered.getStudentList().size();
+        assertTrue(studentCount > 0);
+        for (int i = 0; i < studentCount; i++) {
+            assertEquals(createStudent(i), recovered.getStudentList().get(i));
+        }
+    }
+
+    private static Student createStudent(int i) {
+        return new StudentBuilder()
+                .withName("Student " + i)
+                .withPhone(String.format("9%07d", i))
+                .withEmail("student" + i + "@u.nus.edu")
+                .withStudentId(String.format("A%07dZ", i))
+                .build();
+    }
+
+    /**
+     * Adds students to the data file given as the first argument one at a time, saving after each, until killed.
+     */
+    public static class JournalWriter {
+        public static void main(String[] args) throws Exception {
+            Path dataFilePath = Paths.get(args[0]);
+            JournaledSuperTaClientStorage storage = new JournaledSuperTaClientStorage(
+                    new StaxSuperTaClientStorage(dataFilePath), false);
+            SuperTaClient data = new SuperTaClient();
+            for (int i = 0; ; i++) {
+                data.addStudent(createStudent(i));
+                storage.saveSuperTaClient(data);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.superta.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.storage.BinarySuperTaClientStorageTest.getSuperTaClientWithTutorialGroup;
+import static seedu.superta.testutil.TypicalSuperTaClient.CARL;
+import static seedu.superta.testutil.TypicalSuperTaClient.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+
+public class ShardedSuperTaClientStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private ShardedSuperTaClientStorage shardedStorage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.xml");
+        shardedStorage = new ShardedSuperTaClientStorage(filePath);
+    }
+
+    @Test
+    public void readSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        shardedStorage.readSuperTaClient(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(shardedStorage.readSuperTaClient().isPresent());
+    }
+
+    @Test
+    public void read_shardWithUnknownStudent_exceptionThrown() throws Exception {
+        SuperTaClient original = getSuperTaClientWithTutorialGroup();
+        shardedStorage.saveSuperTaClient(original);
+        SuperTaClient withoutGroups = new SuperTaClient();
+        withoutGroups.setStudents(original.getStudentList().subList(2, original.getStudentList().size()));
+        StaxSuperTaClientStorage.saveStudents(withoutGroups, filePath);
+
+        thrown.expect(DataConversionException.class);
+        new ShardedSuperTaClientStorage(filePath).readSuperTaClient();
+    }
+
+    @Test
+    public void readAndSaveSuperTaClient_withTutorialGroups_success() throws Exception {
+        SuperTaClient original = getSuperTaClientWithTutorialGroup();
+        original.addTutorialGroup(new TutorialGroup("04/b", "CS1101S Studio 04B"));
+
+        shardedStorage.saveSuperTaClient(original);
+        assertTrue(Files.exists(ShardedSuperTaClientStorage.getShardFilePath(filePath, "04a")));
+        assertTrue(Files.exists(ShardedSuperTaClientStorage.getShardFilePath(filePath, "04/b")));
+        assertEquals(original, new SuperTaClient(new ShardedSuperTaClientStorage(filePath).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void saveSuperTaClient_sameHistory_onlyChangedShardsWritten() throws Exception {
+        SuperTaClient data = getSuperTaClientWithTutorialGroup();
+        data.addTutorialGroup(new TutorialGroup("04b", "CS1101S Studio 04B"));
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+
+        // files that are not written again stay deleted
+        Path unchangedShard = ShardedSuperTaClientStorage.getShardFilePath(filePath, "04a");
+        Path changedShard = ShardedSuperTaClientStorage.getShardFilePath(filePath, "04b");
+        Files.delete(unchangedShard);
+        Files.delete(changedShard);
+        Files.delete(filePath);
+
+        data.addStudentToTutorialGroup(data.getTutorialGroup("04b").get(), CARL);
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+        assertFalse(Files.exists(unchangedShard));
+        assertTrue(Files.exists(changedShard));
+        assertFalse(Files.exists(filePath));
+
+        data.addStudent(IDA);
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+        assertFalse(Files.exists(unchangedShard));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveSuperTaClient_differentHistory_onlyChangedShardsWritten() throws Exception {
+        SuperTaClient original = getSuperTaClientWithTutorialGroup();
+        original.addTutorialGroup(new TutorialGroup("04b", "CS1101S Studio 04B"));
+        shardedStorage.saveSuperTaClient(original);
+
+        // data read back has a history of its own, so changes are found by comparing it with the saved data
+        ShardedSuperTaClientStorage reopenedStorage = new ShardedSuperTaClientStorage(filePath);
+        SuperTaClient readBack = new SuperTaClient(reopenedStorage.readSuperTaClient().get());
+        Path unchangedShard = ShardedSuperTaClientStorage.getShardFilePath(filePath, "04a");
+        Path changedShard = ShardedSuperTaClientStorage.getShardFilePath(filePath, "04b");
+        Files.delete(unchangedShard);
+        Files.delete(changedShard);
+
+        readBack.addStudentToTutorialGroup(readBack.getTutorialGroup("04b").get(), CARL);
+        reopenedStorage.saveSuperTaClient(readBack);
+        assertFalse(Files.exists(unchangedShard));
+        assertTrue(Files.exists(changedShard));
+    }
+
+    @Test
+    public void saveSuperTaClient_tutorialGroupRemoved_shardDeleted() throws Exception {
+        SuperTaClient data = getSuperTaClientWithTutorialGroup();
+        data.addTutorialGroup(new TutorialGroup("04b", "CS1101S Studio 04B"));
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+
+        data.removeTutorialGroup(data.getTutorialGroup("04b").get());
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+        assertFalse(Files.exists(ShardedSuperTaClientStorage.getShardFilePath(filePath, "04b")));
+        assertEquals(data, new SuperTaClient(new ShardedSuperTaClientStorage(filePath).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void saveSuperTaClient_otherFilePath_allShardsWritten() throws Exception {
+        SuperTaClient data = getSuperTaClientWithTutorialGroup();
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("OtherSuperTaClient.xml");
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data), otherFilePath);
+        assertEquals(data, new SuperTaClient(new ShardedSuperTaClientStorage(otherFilePath).readSuperTaClient().get()));
+    }
+
+    /**
+     * Simulates the app stopping after a save that adds a student to the roster and a tutorial group was committed,
+     * but before its files were moved into place.
+     */
+    @Test
+    public void readSuperTaClient_committedSaveInterrupted_saveCompleted() throws Exception {
+        SuperTaClient data = getSuperTaClientWithTutorialGroup();
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+        data.addStudent(IDA);
+        data.addStudentToTutorialGroup(data.getTutorialGroup("04a").get(), IDA);
+
+        shardedStorage.prepareSave(SuperTaClient.copyWithRevisions(data), filePath);
+        assertEquals(data, new SuperTaClient(new ShardedSuperTaClientStorage(filePath).readSuperTaClient().get()));
+        assertFalse(Files.exists(ShardedSuperTaClientStorage.getPendingDirectory(filePath)));
+    }
+
+    /**
+     * Simulates the app stopping while the files of a save were being written, before the save was committed.
+     */
+    @Test
+    public void readSuperTaClient_uncommittedSaveInterrupted_saveDiscarded() throws Exception {
+        SuperTaClient data = getSuperTaClientWithTutorialGroup();
+        shardedStorage.saveSuperTaClient(SuperTaClient.copyWithRevisions(data));
+        SuperTaClient saved = new SuperTaClient(data);
+        data.addStudent(IDA);
+        data.addStudentToTutorialGroup(data.getTutorialGroup("04a").get(), IDA);
+
+        shardedStorage.prepareSave(SuperTaClient.copyWithRevisions(data), filePath);
+        Files.delete(ShardedSuperTaClientStorage.getCommitFilePath(filePath));
+        assertEquals(saved, new SuperTaClient(new ShardedSuperTaClientStorage(filePath).readSuperTaClient().get()));
+        assertFalse(Files.exists(ShardedSuperTaClientStorage.getPendingDirectory(filePath)));
+    }
+
+    @Test
+    public void saveSuperTaClient_nullSuperTaClient_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new ShardedSuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(null);
+    }
+
+    @Test
+    public void saveSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new ShardedSuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(new SuperTaClient(), null);
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.superta.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.superta.storage.BinarySuperTaClientStorageTest.getLargeSuperTaClient;
+import static seedu.superta.testutil.TypicalSuperTaClient.ALICE;
+import static seedu.superta.testutil.TypicalSuperTaClient.BENSON;
+import static seedu.superta.testutil.TypicalSuperTaClient.HOON;
+import static seedu.superta.testutil.TypicalSuperTaClient.IDA;
+import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.superta.commons.exceptions.DataConversionException;
+import seedu.superta.model.ReadOnlySuperTaClient;
+import seedu.superta.model.SuperTaClient;
+import seedu.superta.model.assignment.Grade;
+import seedu.superta.model.assignment.Title;
+import seedu.superta.model.attendance.Session;
+import seedu.superta.model.student.Feedback;
+import seedu.superta.model.tutorialgroup.TutorialGroup;
+import seedu.superta.testutil.AssignmentBuilder;
+import seedu.superta.testutil.StudentBuilder;
+
+public class StaxSuperTaClientStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSuperTaClientStorageTest");
+    private static final Path TYPICAL_STUDENTS_FILE =
+            Paths.get("src", "test", "data", "XmlSerializableSuperTaClientTest", "typicalPersonsAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        readSuperTaClient(null);
+    }
+
+    private Optional<ReadOnlySuperTaClient> readSuperTaClient(String filePath) throws Exception {
+        return new StaxSuperTaClientStorage(Paths.get("dummy")).readSuperTaClient(
+                filePath != null ? TEST_DATA_FOLDER.resolve(filePath) : null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readSuperTaClient("NonExistentFile.xml").isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readSuperTaClient("NotXmlFormatAddressBook.xml");
+    }
+
+    @Test
+    public void readSuperTaClient_invalidStudent_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readSuperTaClient("invalidPersonAddressBook.xml");
+    }
+
+    @Test
+    public void readSuperTaClient_invalidAndValidStudent_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readSuperTaClient("invalidAndValidPersonAddressBook.xml");
+    }
+
+    @Test
+    public void readSuperTaClient_duplicateStudentIds_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new StaxSuperTaClientStorage(Paths.get("dummy")).readSuperTaClient(Paths.get("src", "test", "data",
+                "XmlSerializableSuperTaClientTest", "duplicateStudentIdAddressBook.xml"));
+    }
+
+    @Test
+    public void readSuperTaClient_unknownStudentInTutorialGroup_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(StaxSuperTaClientStorage.MESSAGE_UNKNOWN_STUDENT, "04a", "A0166733Y"));
+        new StaxSuperTaClientStorage(Paths.get("dummy")).readSuperTaClient(Paths.get("src", "test", "data",
+                "XmlSerializableSuperTaClientTest", "unknownStudentInTutorialGroupAddressBook.xml"));
+    }
+
+    @Test
+    public void readSuperTaClient_fileWrittenByJaxb_sameAsJaxbResult() throws Exception {
+        ReadOnlySuperTaClient expected = new XmlSuperTaClientStorage(TYPICAL_STUDENTS_FILE).readSuperTaClient().get();
+        ReadOnlySuperTaClient actual = new StaxSuperTaClientStorage(TYPICAL_STUDENTS_FILE).readSuperTaClient().get();
+        assertEquals(new SuperTaClient(expected), new SuperTaClient(actual));
+    }
+
+    @Test
+    public void saveSuperTaClient_withTutorialGroups_readableByBothStorages() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.xml");
+        SuperTaClient original = getSuperTaClientWithTutorialGroup();
+
+        // written by StAX, read by JAXB
+        new StaxSuperTaClientStorage(filePath).saveSuperTaClient(original);
+        assertEquals(original, new SuperTaClient(new XmlSuperTaClientStorage(filePath).readSuperTaClient().get()));
+
+        // written by JAXB, read by StAX
+        new XmlSuperTaClientStorage(filePath).saveSuperTaClient(original);
+        assertEquals(original, new SuperTaClient(new StaxSuperTaClientStorage(filePath).readSuperTaClient().get()));
+    }
+
+    @Test
+    public void readAndSaveSuperTaClient_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSuperTaClient.xml");
+        SuperTaClient original = getTypicalSuperTaClient();
+        StaxSuperTaClientStorage staxStorage = new StaxSuperTaClientStorage(filePath);
+
+        // save in new file and read back
+        staxStorage.saveSuperTaClient(original, filePath);
+        ReadOnlySuperTaClient readBack = staxStorage.readSuperTaClient(filePath).get();
+        assertEquals(original, new SuperTaClient(readBack));
+
+        // modify data, overwrite existing file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        staxStorage.saveSuperTaClient(original, filePath);
+        readBack = staxStorage.readSuperTaClient(filePath).get();
+        assertEquals(original, new SuperTaClient(readBack));
+
+        // save and read without specifying file path
+        original.addStudent(IDA);
+        staxStorage.saveSuperTaClient(original);
+        readBack = staxStorage.readSuperTaClient().get();
+        assertEquals(original, new SuperTaClient(readBack));
+    }
+
+    @Test
+    public void readSuperTaClient_moreStudentsThanOneBatch_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("LargeSuperTaClient.xml");
+        SuperTaClient original = getLargeSuperTaClient();
+        assertTrue(original.getStudentList().size() > StaxSuperTaClientStorage.STUDENT_BATCH_SIZE);
+        StaxSuperTaClientStorage staxStorage = new StaxSuperTaClientStorage(filePath);
+
+        staxStorage.saveSuperTaClient(original);
+        assertEquals(original, new SuperTaClient(staxStorage.readSuperTaClient().get()));
+
+        // a student whose ID is taken by a student of an earlier batch
+        original.addStudent(new StudentBuilder().withName("Late Student").withPhone("81234567")
+                .withEmail("late@u.nus.edu").withStudentId(original.getStudentList().get(0).getStudentId().studentId)
+                .build());
+        staxStorage.saveSuperTaClient(original);
+        thrown.expect(DataConversionException.class);
+        staxStorage.readSuperTaClient();
+    }
+
+    @Test
+    public void saveSuperTaClient_nullSuperTaClient_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StaxSuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(null);
+    }
+
+    @Test
+    public void saveSuperTaClient_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StaxSuperTaClientStorage(Paths.get("dummy")).saveSuperTaClient(new SuperTaClient(), null);
+    }
+
+    /**
+     * Returns a typical SuperTaClient with a tutorial group that has a graded assignment and an attendance session.
+     */
+    private SuperTaClient getSuperTaClientWithTutorialGroup() {
+        SuperTaClient superTaClient = getTypicalSuperTaClient();
+        superTaClient.addFeedback(new Feedback("Needs <more> practice & rest"), ALICE.getStudentId());
+        TutorialGroup tutorialGroup = new TutorialGroup("04a", "CS1101S Studio 04A");
+        superTaClient.addTutorialGroup(tutorialGroup);
+        superTaClient.addStudentToTutorialGroup(tutorialGroup,
+                superTaClient.getStudentWithId(ALICE.getStudentId()).get());
+        superTaClient.addStudentToTutorialGroup(tutorialGroup, BENSON);
+        superTaClient.addAssignment(tutorialGroup, new AssignmentBuilder().build());
+        superTaClient.grade(new Grade("04a", new Title(AssignmentBuilder.DEFAULT_TITLE), ALICE.getStudentId(), 7.5));
+        superTaClient.createAttendance(tutorialGroup, new Session("lab1"));
+        superTaClient.markAttendance("04a", new Session("lab1"), Set.of(BENSON.getStudentId()));
+        return superTaClient;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.superta.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.superta.testutil.TypicalSuperTaClient.AMY;
 import static seedu.superta.testutil.TypicalSuperTaClient.getTypicalSuperTaClient;
 
 import java.io.IOException;
@@ -28,6 +29,8 @@ public class StorageManagerTest {
     @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
+    private static final long LONG_SAVE_DELAY = 60000;
+
     private StorageManager storageManager;
 
     @Before
@@ -80,9 +83,44 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlSuperTaClientStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleSuperTaClientChangedEvent(new SuperTaClientChangedEvent(new SuperTaClient()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleSuperTaClientChangedEvent_burstOfChanges_latestDataSavedOnce() {
+        XmlSuperTaClientStorageCountingStub superTaClientStorage =
+                new XmlSuperTaClientStorageCountingStub(getTempFilePath("ab"));
+        Storage storage = new StorageManager(superTaClientStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                LONG_SAVE_DELAY);
+        SuperTaClient data = getTypicalSuperTaClient();
+        storage.handleSuperTaClientChangedEvent(new SuperTaClientChangedEvent(new SuperTaClient()));
+        storage.handleSuperTaClientChangedEvent(new SuperTaClientChangedEvent(data));
+
+        // data changed after the event is not saved
+        data.addStudent(AMY);
+
+        storage.flush();
+        assertEquals(1, superTaClientStorage.saveCount);
+        assertEquals(getTypicalSuperTaClient(), new SuperTaClient(superTaClientStorage.lastSaved));
+
+        // nothing left to save
+        storage.flush();
+        assertEquals(1, superTaClientStorage.saveCount);
+    }
+
+    @Test
+    public void close_journaledStorage_pendingDataSavedAndCompacted() throws Exception {
+        XmlSuperTaClientStorage snapshotStorage = new XmlSuperTaClientStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(new JournaledSuperTaClientStorage(snapshotStorage, false),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), LONG_SAVE_DELAY);
+        storage.handleSuperTaClientChangedEvent(new SuperTaClientChangedEvent(new SuperTaClient()));
+        storage.flush();
+        storage.handleSuperTaClientChangedEvent(new SuperTaClientChangedEvent(getTypicalSuperTaClient()));
+
+        storage.close();
+        assertEquals(getTypicalSuperTaClient(), new SuperTaClient(snapshotStorage.readSuperTaClient().get()));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -99,5 +137,22 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class to count the number of times the save method is called
+     */
+    class XmlSuperTaClientStorageCountingStub extends XmlSuperTaClientStorage {
+        private int saveCount = 0;
+        private ReadOnlySuperTaClient lastSaved;
+
+        public XmlSuperTaClientStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSuperTaClient(ReadOnlySuperTaClient superTaClient, Path filePath) {
+            saveCount++;
+            lastSaved = superTaClient;
+        }
+    }
 
 }
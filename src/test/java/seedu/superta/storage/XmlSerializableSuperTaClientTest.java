@@ -21,6 +21,9 @@ public class XmlSerializableSuperTaClientTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path DUPLICATE_STUDENT_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentIdAddressBook.xml");
+    private static final Path UNKNOWN_STUDENT_IN_TUTORIAL_GROUP_FILE =
+            TEST_DATA_FOLDER.resolve("unknownStudentInTutorialGroupAddressBook.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -51,4 +54,28 @@ public class XmlSerializableSuperTaClientTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_duplicateStudentIds_throwsIllegalValueException() throws Exception {
+        XmlSerializableSuperTaClient dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_STUDENT_ID_FILE,
+                XmlSerializableSuperTaClient.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableSuperTaClient.MESSAGE_DUPLICATE_PERSON);
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_unknownStudentInTutorialGroup_throwsIllegalValueException() throws Exception {
+        XmlSerializableSuperTaClient dataFromFile = XmlUtil.getDataFromFile(UNKNOWN_STUDENT_IN_TUTORIAL_GROUP_FILE,
+                XmlSerializableSuperTaClient.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedTutorialGroup.MESSAGE_UNKNOWN_STUDENT, "04a", "A0166733Y"));
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_withTutorialGroups_success() throws Exception {
+        SuperTaClient original = BinarySuperTaClientStorageTest.getSuperTaClientWithTutorialGroup();
+        assertEquals(original, new XmlSerializableSuperTaClient(original).toModelType());
+    }
+
 }
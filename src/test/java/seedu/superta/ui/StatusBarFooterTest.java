@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 import static seedu.superta.testutil.EventsUtil.postNow;
 import static seedu.superta.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.superta.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
+import static seedu.superta.ui.StatusBarFooter.UNDO_HISTORY_STATUS;
+import static seedu.superta.ui.StatusBarFooter.UNDO_HISTORY_STATUS_INITIAL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -19,6 +21,7 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.superta.commons.events.model.SuperTaClientChangedEvent;
+import seedu.superta.commons.events.model.UndoHistoryChangedEvent;
 import seedu.superta.model.SuperTaClient;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -27,6 +30,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private static final Path RELATIVE_PATH = Paths.get(".");
 
     private static final SuperTaClientChangedEvent EVENT_STUB = new SuperTaClientChangedEvent(new SuperTaClient());
+    private static final UndoHistoryChangedEvent UNDO_HISTORY_EVENT_STUB = new UndoHistoryChangedEvent(3, 4096);
 
     private static final Clock originalClock = StatusBarFooter.getClock();
     private static final Clock injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
@@ -64,6 +68,16 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_undoHistory() {
+        // initial state
+        assertEquals(UNDO_HISTORY_STATUS_INITIAL, statusBarFooterHandle.getUndoHistoryStatus());
+
+        // after undo history is updated
+        postNow(UNDO_HISTORY_EVENT_STUB);
+        assertEquals(String.format(UNDO_HISTORY_STATUS, 3, 4), statusBarFooterHandle.getUndoHistoryStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
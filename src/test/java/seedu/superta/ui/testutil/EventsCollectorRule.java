@@ -65,6 +65,13 @@ public class EventsCollectorRule implements TestRule {
             return events.size();
         }
 
+        /**
+         * Returns the number of collected events of the given class
+         */
+        public long getCount(Class<? extends BaseEvent> eventClass) {
+            return events.stream().filter(eventClass::isInstance).count();
+        }
+
         /**
          * Returns the most recent event collected
          */